@@ -29,12 +29,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // JWT (jjwt 0.12.x for Java 17+)
     implementation("io.jsonwebtoken:jjwt-api:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")
 
+    // Cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Swagger
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
@@ -42,6 +46,10 @@ dependencies {
     runtimeOnly("com.mysql:mysql-connector-j")
     runtimeOnly("com.h2database:h2")
 
+    // Schema Migration
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-mysql")
+
     // Lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -59,9 +67,47 @@ dependencies {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+    jvmArgs("--add-opens", "java.base/java.lang=ALL-UNNAMED")
+    jvmArgs("--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED")
+}
+
+// 성능 비교 테스트 (./gradlew benchmark) - Docker Compose로 MySQL/Redis 실행 후 사용
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark-tagged tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
     jvmArgs("--add-opens", "java.base/java.lang=ALL-UNNAMED")
     jvmArgs("--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED")
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// 가상 스레드 비교 (./gradlew benchmarkJdk21) - Java 17 대상으로 빌드한 테스트를 JDK 21 툴체인에서 실행
+tasks.register<Test>("benchmarkJdk21") {
+    description = "Runs benchmark-tagged tests on a Java 21 toolchain to include virtual threads."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    javaLauncher.set(javaToolchains.launcherFor {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    })
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    jvmArgs("--add-opens", "java.base/java.lang=ALL-UNNAMED")
+    jvmArgs("--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED")
+    jvmArgs("-Dstdout.encoding=UTF-8")
+    testLogging {
+        showStandardStreams = true
+    }
 }
 
 tasks.compileJava {
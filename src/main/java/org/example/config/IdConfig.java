@@ -0,0 +1,37 @@
+package org.example.config;
+
+import org.example.global.id.SnowflakeIdGenerator;
+import org.example.global.id.SnowflakeIdentifierGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.util.StringUtils;
+
+/**
+ * ID 발급기 설정
+ * <p>
+ * 엔티티 저장 전에 ID를 미리 발급해야 하는 곳(비동기 주문 접수 등)에서 쓰도록,
+ * Hibernate {@link SnowflakeIdentifierGenerator}와 같은 노드의 발급기를 빈으로 등록합니다.
+ * 인스턴스마다 노드 ID가 달라야 ID가 겹치지 않으므로, local/test 프로필이 아닌데 노드 ID가 없으면 시작하지 않습니다.
+ * </p>
+ */
+@Configuration
+public class IdConfig {
+
+    static final String NODE_ID_PROPERTY = "spring.jpa.properties." + SnowflakeIdentifierGenerator.NODE_ID_SETTING;
+    private static final Profiles SINGLE_NODE_PROFILES = Profiles.of("local", "test");
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(Environment environment) {
+        String nodeId = environment.getProperty(NODE_ID_PROPERTY);
+        if (!StringUtils.hasText(nodeId)) {
+            if (!environment.acceptsProfiles(SINGLE_NODE_PROFILES)) {
+                throw new IllegalStateException("Snowflake 노드 ID가 설정되지 않았습니다. 인스턴스마다 다른 ID_NODE_ID(0 ~ "
+                        + SnowflakeIdGenerator.MAX_NODE_ID + ")를 설정하세요");
+            }
+            nodeId = "0";
+        }
+        return SnowflakeIdGenerator.forNode(Integer.parseInt(nodeId.trim()));
+    }
+}
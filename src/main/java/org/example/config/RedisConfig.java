@@ -1,6 +1,9 @@
 package org.example.config;
 
+import org.example.domain.product.cache.ProductCacheInvalidationSubscriber;
+import org.example.domain.product.cache.ProductCacheProperties;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -9,6 +12,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
 
@@ -57,4 +62,21 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 상품 캐시 무효화 채널 구독 컨테이너
+     * <p>
+     * 연결이 끊기면 컨테이너가 다시 연결하여 구독하며, 구독될 때마다 구독자가 로컬 캐시를 비웁니다.
+     * </p>
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer productCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       ProductCacheInvalidationSubscriber subscriber,
+                                                                       ProductCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(properties.getRedis().getChannel()));
+        return container;
+    }
 }
@@ -48,6 +48,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/members/check-email").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/v1/seller/**").hasAnyRole("SELLER", "ADMIN")
                         .requestMatchers("/api/v1/products/**").permitAll()
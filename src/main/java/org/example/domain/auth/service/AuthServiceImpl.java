@@ -6,6 +6,7 @@ import org.example.domain.auth.dto.request.LoginRequest;
 import org.example.domain.auth.dto.response.TokenResponse;
 import org.example.domain.member.entity.Member;
 import org.example.domain.member.repository.MemberRepository;
+import org.example.global.bulkhead.DbBulkhead;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
 import org.example.global.security.jwt.JwtTokenProvider;
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
+@DbBulkhead
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthServiceImpl implements AuthService {
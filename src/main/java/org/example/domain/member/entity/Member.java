@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.global.common.BaseTimeEntity;
+import org.example.global.id.SnowflakeId;
 
 import java.time.LocalDateTime;
 
@@ -23,7 +24,7 @@ public class Member extends BaseTimeEntity {
 
     /** 회원 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /** 이메일 (로그인 ID로 사용) */
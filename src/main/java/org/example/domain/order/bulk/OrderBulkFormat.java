@@ -0,0 +1,27 @@
+package org.example.domain.order.bulk;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 대량 주문 입력 형식
+ */
+public enum OrderBulkFormat {
+
+    /** 줄마다 JSON 객체 하나: {"productId":1,"quantity":2,"ref":"A-1"} */
+    NDJSON,
+    /** 줄마다 productId,quantity[,ref] (첫 줄이 헤더면 건너뜀) */
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    /**
+     * Content-Type으로 입력 형식 결정
+     *
+     * @param contentType 요청 Content-Type
+     * @return 입력 형식 (text/csv가 아니면 NDJSON)
+     */
+    public static OrderBulkFormat from(MediaType contentType) {
+        return contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(CSV_VALUE)) ? CSV : NDJSON;
+    }
+}
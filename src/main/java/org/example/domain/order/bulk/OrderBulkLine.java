@@ -0,0 +1,26 @@
+package org.example.domain.order.bulk;
+
+import org.example.global.exception.ErrorCode;
+
+/**
+ * 대량 주문 입력 한 줄
+ * <p>
+ * 해석에 실패한 줄은 {@code error}만 채워집니다.
+ * </p>
+ *
+ * @param lineNumber 입력 줄 번호 (1부터)
+ * @param productId  상품 ID
+ * @param quantity   주문 수량
+ * @param ref        요청자 참조값 (결과에 그대로 돌려줌)
+ * @param error      해석 실패 사유
+ */
+record OrderBulkLine(long lineNumber, Long productId, Integer quantity, String ref, ErrorCode error) {
+
+    static OrderBulkLine invalid(long lineNumber, String ref) {
+        return new OrderBulkLine(lineNumber, null, null, ref, ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.domain.order.bulk;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.domain.order.dto.request.OrderLineRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 대량 주문 입력을 한 줄씩 읽는 리더
+ * <p>
+ * 전체 본문을 객체 목록으로 바인딩하지 않고, 줄마다 Jackson 스트리밍 파서(또는 CSV 분리)로 필요한 필드만 읽습니다.
+ * 잘못된 줄은 해당 줄만 실패로 표시하고 다음 줄부터 계속 읽습니다.
+ * </p>
+ */
+class OrderBulkLineReader {
+
+    private static final String CSV_HEADER_PREFIX = "productid";
+
+    private final BufferedReader reader;
+    private final OrderBulkFormat format;
+    private final JsonFactory jsonFactory;
+
+    private long lineNumber;
+
+    OrderBulkLineReader(BufferedReader reader, OrderBulkFormat format, JsonFactory jsonFactory) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 다음 줄 읽기 (빈 줄은 건너뜀)
+     *
+     * @return 입력 한 줄 (입력이 끝나면 null)
+     */
+    OrderBulkLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (format == OrderBulkFormat.CSV) {
+                if (lineNumber == 1 && trimmed.toLowerCase().startsWith(CSV_HEADER_PREFIX)) {
+                    continue;
+                }
+                return parseCsv(trimmed);
+            }
+            return parseJson(trimmed);
+        }
+        return null;
+    }
+
+    private OrderBulkLine parseJson(String line) throws IOException {
+        Long productId = null;
+        Integer quantity = null;
+        String ref = null;
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return OrderBulkLine.invalid(lineNumber, null);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "productId" -> productId = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    case "quantity" -> quantity = value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+                    case "ref" -> ref = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return OrderBulkLine.invalid(lineNumber, ref);
+            }
+        } catch (JsonProcessingException e) {
+            return OrderBulkLine.invalid(lineNumber, ref);
+        }
+        return validated(productId, quantity, ref);
+    }
+
+    private OrderBulkLine parseCsv(String line) {
+        String[] columns = line.split(",", -1);
+        String ref = columns.length > 2 ? columns[2].strip() : null;
+        if (columns.length < 2 || columns.length > 3) {
+            return OrderBulkLine.invalid(lineNumber, ref);
+        }
+        try {
+            return validated(Long.valueOf(columns[0].strip()), Integer.valueOf(columns[1].strip()), ref);
+        } catch (NumberFormatException e) {
+            return OrderBulkLine.invalid(lineNumber, ref);
+        }
+    }
+
+    private OrderBulkLine validated(Long productId, Integer quantity, String ref) {
+        if (productId == null || quantity == null || quantity < 1 || quantity > OrderLineRequest.MAX_QUANTITY) {
+            return OrderBulkLine.invalid(lineNumber, ref);
+        }
+        return new OrderBulkLine(lineNumber, productId, quantity, ref, null);
+    }
+}
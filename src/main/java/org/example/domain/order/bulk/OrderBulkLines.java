@@ -0,0 +1,33 @@
+package org.example.domain.order.bulk;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 해석을 마친 대량 주문 입력
+ * <p>
+ * 줄 수 제한을 통과한 입력만 만들어지므로, 응답을 쓰기 시작하기 전에 요청 전체를 거절할 수 있습니다.
+ * </p>
+ */
+public final class OrderBulkLines {
+
+    private final List<OrderBulkLine> lines;
+
+    OrderBulkLines(List<OrderBulkLine> lines) {
+        this.lines = List.copyOf(lines);
+    }
+
+    List<OrderBulkLine> lines() {
+        return lines;
+    }
+
+    /**
+     * @return 해석에 성공한 줄의 상품 ID (입력 순서, 중복 제외)
+     */
+    public Set<Long> productIds() {
+        Set<Long> productIds = new LinkedHashSet<>();
+        lines.stream().filter(OrderBulkLine::isValid).forEach(line -> productIds.add(line.productId()));
+        return productIds;
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.domain.order.bulk;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 대량 주문 처리기
+ * <p>
+ * 입력을 한 줄씩 읽어 {@code maxLines}를 넘지 않는지 먼저 확인한 뒤({@link #read}), 청크마다 {@link OrderFacade}를 거쳐 한 트랜잭션에서 처리합니다.
+ * 줄 수가 넘으면 주문을 하나도 만들지 않고 응답을 쓰기 전에 ORDER_BULK_TOO_LARGE(400)로 거절하므로,
+ * 메모리에는 해석한 줄이 최대 {@code maxLines}개까지만 올라갑니다.
+ * 청크 안에서는 상품별로 묶어 상품마다 행 락과 재고 차감을 한 번만 수행하고, 주문은 배치 INSERT로 저장합니다.
+ * 단일 주문과 같이 재고 게이트, 동시 주문 수 제한, 경합 추적을 거치므로 게이트 카운터가 DB 재고와 어긋나지 않습니다.
+ * 결과는 입력 순서대로 줄마다 NDJSON으로 쓰고 청크마다 내보냅니다.
+ * 청크는 각자 커밋되므로 중간에 실패해도 앞선 청크의 주문은 유지됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBulkProcessor {
+
+    private static final String LINES_METRIC = "order.bulk.lines";
+
+    private final OrderFacade orderFacade;
+    private final OrderBulkProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 대량 주문 처리
+     * <p>
+     * 줄마다 {"line":1,"ref":"A-1","orderId":123} 또는
+     * {"line":2,"ref":null,"code":"O002","message":"..."}를 쓰고, 마지막에 {"total":2,"succeeded":1,"failed":1}을 씁니다.
+     * </p>
+     *
+     * @param input   {@link #read}로 읽은 입력
+     * @param buyerId 구매자 ID
+     * @param output  응답 본문
+     */
+    public void process(OrderBulkLines input, Long buyerId, OutputStream output) throws IOException {
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        List<OrderBulkLine> lines = input.lines();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        Summary summary = new Summary();
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            generator.setRootValueSeparator(null);
+            for (int from = 0; from < lines.size(); from += chunkSize) {
+                List<OrderBulkLine> chunk = lines.subList(from, Math.min(from + chunkSize, lines.size()));
+                writeResults(generator, chunk, placeChunk(chunk, buyerId), summary);
+            }
+
+            generator.writeStartObject();
+            generator.writeNumberField("total", summary.succeeded + summary.failed);
+            generator.writeNumberField("succeeded", summary.succeeded);
+            generator.writeNumberField("failed", summary.failed);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        meterRegistry.counter(LINES_METRIC, "result", "success").increment(summary.succeeded);
+        meterRegistry.counter(LINES_METRIC, "result", "failure").increment(summary.failed);
+        log.info("대량 주문 처리 완료: buyerId={}, succeeded={}, failed={}", buyerId, summary.succeeded, summary.failed);
+    }
+
+    /**
+     * 요청 본문을 최대 줄 수까지 읽기
+     * <p>
+     * 응답을 쓰기 전에 호출하므로, 줄 수가 넘으면 주문을 하나도 만들지 않고 공통 오류 응답으로 거절됩니다.
+     * </p>
+     *
+     * @param input  요청 본문
+     * @param format 입력 형식
+     * @return 해석한 입력
+     * @throws BusinessException ORDER_BULK_TOO_LARGE - 줄 수가 {@code maxLines}를 넘을 경우
+     */
+    public OrderBulkLines read(InputStream input, OrderBulkFormat format) throws IOException {
+        OrderBulkLineReader reader = new OrderBulkLineReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), format, objectMapper.getFactory());
+        int maxLines = Math.max(1, properties.getMaxLines());
+        List<OrderBulkLine> lines = new ArrayList<>();
+        OrderBulkLine line;
+        while ((line = reader.next()) != null) {
+            if (lines.size() == maxLines) {
+                throw new BusinessException(ErrorCode.ORDER_BULK_TOO_LARGE);
+            }
+            lines.add(line);
+        }
+        return new OrderBulkLines(lines);
+    }
+
+    /**
+     * 한 청크를 한 트랜잭션으로 처리
+     *
+     * @return 청크와 같은 순서의 줄별 결과
+     */
+    private List<OrderBatchResult> placeChunk(List<OrderBulkLine> chunk, Long buyerId) {
+        // 1. 올바른 줄을 상품 ID 오름차순으로 묶음 (같은 상품 안에서는 입력 순서 유지)
+        SortedMap<Long, List<OrderBatchCommand>> commandsByProduct = new TreeMap<>();
+        Map<Long, List<Integer>> indexesByProduct = new LinkedHashMap<>();
+        List<OrderBatchResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderBulkLine line = chunk.get(i);
+            results.add(line.isValid() ? null : OrderBatchResult.failure(line.error()));
+            if (line.isValid()) {
+                commandsByProduct.computeIfAbsent(line.productId(), id -> new ArrayList<>())
+                        .add(new OrderBatchCommand(buyerId, line.quantity()));
+                indexesByProduct.computeIfAbsent(line.productId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+        if (commandsByProduct.isEmpty()) {
+            return results;
+        }
+
+        // 2. 재고 게이트를 거쳐 상품별 락 한 번, 재고 차감 한 번, 주문 배치 INSERT
+        try {
+            orderFacade.createBulkOrders(commandsByProduct).forEach((productId, productResults) -> {
+                Iterator<Integer> indexes = indexesByProduct.get(productId).iterator();
+                productResults.forEach(result -> results.set(indexes.next(), result));
+            });
+        } catch (BusinessException e) {
+            fillFailures(results, e.getErrorCode());
+        } catch (PessimisticLockingFailureException e) {
+            log.warn("대량 주문 청크 락 획득 실패: lines={}-{}, message={}",
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+            fillFailures(results, ErrorCode.ORDER_LOCK_FAILED);
+        } catch (RuntimeException e) {
+            log.error("대량 주문 청크 처리 실패: lines={}-{}",
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e);
+            fillFailures(results, ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        return results;
+    }
+
+    private void fillFailures(List<OrderBatchResult> results, ErrorCode errorCode) {
+        results.replaceAll(result -> result != null ? result : OrderBatchResult.failure(errorCode));
+    }
+
+    private void writeResults(JsonGenerator generator,
+                              List<OrderBulkLine> chunk,
+                              List<OrderBatchResult> results,
+                              Summary summary) throws IOException {
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderBulkLine line = chunk.get(i);
+            OrderBatchResult result = results.get(i);
+            generator.writeStartObject();
+            generator.writeNumberField("line", line.lineNumber());
+            generator.writeStringField("ref", line.ref());
+            if (result.isSuccess()) {
+                generator.writeNumberField("orderId", result.response().getId());
+                summary.succeeded++;
+            } else {
+                generator.writeStringField("code", result.errorCode().getCode());
+                generator.writeStringField("message", result.errorCode().getMessage());
+                summary.failed++;
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private static class Summary {
+        private int succeeded;
+        private int failed;
+    }
+}
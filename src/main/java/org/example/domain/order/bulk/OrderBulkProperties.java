@@ -0,0 +1,20 @@
+package org.example.domain.order.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대량 주문 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.bulk")
+public class OrderBulkProperties {
+
+    /** 한 트랜잭션에서 처리할 최대 줄 수 */
+    private int chunkSize = 500;
+
+    /** 요청 하나의 최대 줄 수 (넘으면 처리 전에 ORDER_BULK_TOO_LARGE, 메모리에 올라가는 최대 줄 수이기도 함) */
+    private int maxLines = 10_000;
+}
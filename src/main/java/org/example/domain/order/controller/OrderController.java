@@ -4,16 +4,36 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.domain.order.bulk.OrderBulkFormat;
+import org.example.domain.order.bulk.OrderBulkLines;
+import org.example.domain.order.bulk.OrderBulkProcessor;
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
 import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderIntakeResponse;
 import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.domain.order.intake.OrderIntakeQueue;
 import org.example.domain.order.service.OrderService;
 import org.example.global.common.ApiResponse;
 import org.example.global.common.PagingResponse;
+import org.example.global.idempotency.IdempotencyExecutor;
 import org.example.global.security.auth.CustomUserDetails;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 @Tag(name = "주문", description = "주문 관련 API")
 @RestController
@@ -21,7 +41,14 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final CacheControl ORDER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final OrderService orderService;
+    private final OrderFacade orderFacade;
+    private final OrderIntakeQueue orderIntakeQueue;
+    private final OrderBulkProcessor orderBulkProcessor;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     @Operation(summary = "주문 생성", description = "상품을 주문합니다. 재고가 차감됩니다.")
     @ApiResponses({
@@ -33,8 +60,85 @@ public class OrderController {
     @PostMapping
     public ApiResponse<OrderResponse> createOrder(
             @Valid @RequestBody OrderCreateRequest request,
+            @Parameter(description = "멱등성 키 (같은 키로 재요청하면 첫 응답을 그대로 반환)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        Long buyerId = principal.getId();
+        return ApiResponse.success(idempotencyExecutor.execute("order-create", buyerId, idempotencyKey,
+                request, OrderResponse.class, () -> orderFacade.createOrder(request, buyerId)));
+    }
+
+    @Operation(summary = "여러 상품 주문 생성", description = "여러 상품을 한 주문으로 주문합니다. 상품 하나라도 재고가 부족하면 주문 전체가 실패합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "주문 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "재고 부족 또는 잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    @PostMapping("/cart")
+    public ApiResponse<OrderResponse> createCartOrder(
+            @Valid @RequestBody OrderCartCreateRequest request,
+            @Parameter(description = "멱등성 키 (같은 키로 재요청하면 첫 응답을 그대로 반환)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        Long buyerId = principal.getId();
+        return ApiResponse.success(idempotencyExecutor.execute("order-cart-create", buyerId, idempotencyKey,
+                request, OrderResponse.class, () -> orderFacade.createCartOrder(request, buyerId)));
+    }
+
+    @Operation(summary = "대량 주문 생성", description = "NDJSON(줄마다 {\"productId\":1,\"quantity\":2,\"ref\":\"A-1\"}) 또는 "
+            + "CSV(productId,quantity[,ref]) 본문의 줄마다 주문을 하나씩 생성합니다. "
+            + "줄별 결과를 입력 순서대로 NDJSON으로 스트리밍하며, 마지막 줄에 건수 요약을 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 완료 (줄별 성공/실패는 본문 참고)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "줄 수가 한 번에 처리할 수 있는 수를 넘음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "415", description = "지원하지 않는 Content-Type")
+    })
+    @PostMapping(value = "/bulk",
+            consumes = {OrderBulkFormat.NDJSON_VALUE, OrderBulkFormat.CSV_VALUE})
+    public void createBulkOrders(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            @AuthenticationPrincipal CustomUserDetails principal) throws IOException {
+        // 줄 수 초과는 본문을 쓰기 전에 공통 JSON 오류 응답으로 처리되도록 produces를 지정하지 않고 읽은 뒤에 형식을 정함
+        OrderBulkLines lines = orderBulkProcessor.read(request.getInputStream(),
+                OrderBulkFormat.from(MediaType.parseMediaType(request.getContentType())));
+        response.setContentType(OrderBulkFormat.NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        orderBulkProcessor.process(lines, principal.getId(), response.getOutputStream());
+    }
+
+    @Operation(summary = "비동기 주문 접수", description = "주문을 대기열에 접수하고 미리 발급한 주문 ID와 함께 바로 응답합니다. 주문이 생성되면 그 ID로 주문 상세를 조회할 수 있고, 실패 사유는 접수 상태 조회로 확인합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "접수 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "대기열 포화 또는 비동기 접수 비활성화")
+    })
+    @PostMapping("/intakes")
+    public ResponseEntity<ApiResponse<OrderIntakeResponse>> submitOrder(
+            @Valid @RequestBody OrderCreateRequest request,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        OrderIntakeResponse response = orderIntakeQueue.submit(request, principal.getId());
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/orders/intakes/" + response.getIntakeId()))
+                .body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "주문 접수 상태 조회", description = "비동기 접수 건의 처리 상태와 실패 사유를 조회합니다 (본인 접수만)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "접수 내역을 찾을 수 없음")
+    })
+    @GetMapping("/intakes/{intakeId}")
+    public ApiResponse<OrderIntakeResponse> getIntake(
+            @Parameter(description = "접수 ID", required = true)
+            @PathVariable String intakeId,
             @AuthenticationPrincipal CustomUserDetails principal) {
-        return ApiResponse.success(orderService.createOrder(request, principal.getId()));
+        return ApiResponse.success(orderIntakeQueue.getIntake(intakeId, principal.getId()));
     }
 
     @Operation(summary = "내 주문 목록 조회", description = "로그인한 사용자의 주문 목록을 페이징하여 조회합니다")
@@ -52,18 +156,43 @@ public class OrderController {
         return ApiResponse.success(orderService.getMyOrders(principal.getId(), page, size));
     }
 
+    @Operation(summary = "내 주문 목록 조회 (커서)", description = "로그인한 사용자의 주문 목록을 최신순으로 조회합니다. 전체 개수 대신 다음 페이지 커서를 반환합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/cursor")
+    public ApiResponse<PagingResponse<OrderResponse>> getMyOrdersByCursor(
+            @Parameter(description = "이전 응답의 다음 페이지 커서 (없으면 처음부터)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        return ApiResponse.success(orderService.getMyOrdersByCursor(principal.getId(), cursor, size));
+    }
+
     @Operation(summary = "주문 상세 조회", description = "주문 ID로 주문 상세 정보를 조회합니다 (본인 주문만)")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같아 변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
     })
     @GetMapping("/{id}")
-    public ApiResponse<OrderResponse> getOrder(
+    public ResponseEntity<ApiResponse<OrderResponse>> getOrder(
             @Parameter(description = "주문 ID", required = true)
             @PathVariable Long id,
-            @AuthenticationPrincipal CustomUserDetails principal) {
-        return ApiResponse.success(orderService.getOrder(id, principal.getId()));
+            @AuthenticationPrincipal CustomUserDetails principal,
+            WebRequest webRequest) {
+        // 주문 전체를 읽기 전에 수정 일시만으로 ETag를 비교 (ETag 응답 헤더는 checkNotModified가 설정)
+        Optional<String> entityTag = orderService.getOrderEntityTag(id, principal.getId());
+        if (entityTag.isPresent() && webRequest.checkNotModified(entityTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ORDER_CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(ORDER_CACHE_CONTROL)
+                .body(ApiResponse.success(orderService.getOrder(id, principal.getId())));
     }
 
     @Operation(summary = "주문 취소", description = "주문을 취소합니다. 재고가 복구됩니다. (본인 주문만, PENDING/PAID 상태만 취소 가능)")
@@ -78,8 +207,14 @@ public class OrderController {
     public ApiResponse<Void> cancelOrder(
             @Parameter(description = "주문 ID", required = true)
             @PathVariable Long id,
+            @Parameter(description = "멱등성 키 (같은 키로 재요청하면 첫 응답을 그대로 반환)")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails principal) {
-        orderService.cancelOrder(id, principal.getId());
+        Long buyerId = principal.getId();
+        idempotencyExecutor.execute("order-cancel", buyerId, idempotencyKey, id, Void.class, () -> {
+            orderFacade.cancelOrder(id, buyerId);
+            return null;
+        });
         return ApiResponse.success(null);
     }
 
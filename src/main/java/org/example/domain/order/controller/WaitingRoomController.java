@@ -0,0 +1,50 @@
+package org.example.domain.order.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.domain.order.dto.response.WaitingRoomTicketResponse;
+import org.example.domain.order.waitingroom.WaitingRoom;
+import org.example.global.common.ApiResponse;
+import org.example.global.security.auth.CustomUserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "주문 대기열", description = "한정 판매 상품 주문 대기열 API")
+@RestController
+@RequestMapping("/api/v1/orders/waiting-room/{productId}/ticket")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    @Operation(summary = "입장권 발급", description = "대기열에 줄을 섭니다. 이미 입장권이 있으면 현재 상태를 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "발급 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "대기열이 적용되지 않은 상품")
+    })
+    @PostMapping
+    public ApiResponse<WaitingRoomTicketResponse> issueTicket(
+            @Parameter(description = "상품 ID", required = true)
+            @PathVariable Long productId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        return ApiResponse.success(waitingRoom.issueTicket(productId, principal.getId()));
+    }
+
+    @Operation(summary = "입장권 상태 조회", description = "대기 순번 또는 입장 여부를 조회합니다. 입장 상태가 되면 만료 전까지 주문할 수 있습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "입장권이 없거나 대기열이 적용되지 않은 상품")
+    })
+    @GetMapping
+    public ApiResponse<WaitingRoomTicketResponse> getTicket(
+            @Parameter(description = "상품 ID", required = true)
+            @PathVariable Long productId,
+            @AuthenticationPrincipal CustomUserDetails principal) {
+        return ApiResponse.success(waitingRoom.getTicket(productId, principal.getId()));
+    }
+}
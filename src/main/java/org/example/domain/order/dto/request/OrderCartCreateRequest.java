@@ -0,0 +1,50 @@
+package org.example.domain.order.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderCartCreateRequest {
+
+    @NotEmpty(message = "주문 상품은 1개 이상이어야 합니다")
+    @Size(max = 50, message = "주문 상품은 50개 이하여야 합니다")
+    private List<@Valid @NotNull(message = "주문 상품은 필수입니다") OrderLineRequest> items;
+
+    @Builder
+    public OrderCartCreateRequest(List<OrderLineRequest> items) {
+        this.items = items;
+    }
+
+    /**
+     * 상품 ID별 주문 수량 (같은 상품이 여러 줄이면 합산, 요청 순서 유지)
+     *
+     * @return 상품 ID별 주문 수량
+     * @throws BusinessException INVALID_INPUT_VALUE - 합산 수량이 int 범위를 넘을 경우
+     */
+    public Map<Long, Integer> toQuantities() {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        items.forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), OrderCartCreateRequest::sum));
+        return quantities;
+    }
+
+    private static int sum(int quantity, int other) {
+        try {
+            return Math.addExact(quantity, other);
+        } catch (ArithmeticException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
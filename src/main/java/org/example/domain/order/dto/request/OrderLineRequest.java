@@ -0,0 +1,31 @@
+package org.example.domain.order.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderLineRequest {
+
+    /** 한 줄 최대 수량 (같은 상품 줄을 합산해도 int 범위를 넘지 않도록 제한) */
+    public static final int MAX_QUANTITY = 10_000;
+
+    @NotNull(message = "상품 ID는 필수입니다")
+    private Long productId;
+
+    @NotNull(message = "수량은 필수입니다")
+    @Min(value = 1, message = "수량은 1 이상이어야 합니다")
+    @Max(value = MAX_QUANTITY, message = "수량은 10000 이하여야 합니다")
+    private Integer quantity;
+
+    @Builder
+    public OrderLineRequest(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.domain.order.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.domain.order.intake.OrderIntake;
+import org.example.domain.order.intake.OrderIntakeStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class OrderIntakeResponse {
+
+    private String intakeId;
+    private OrderIntakeStatus status;
+    private Long orderId;
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime finishedAt;
+
+    public static OrderIntakeResponse from(OrderIntake intake) {
+        OrderIntakeResponseBuilder builder = OrderIntakeResponse.builder()
+                .intakeId(intake.getId())
+                .status(intake.getStatus())
+                .orderId(intake.getOrderId())
+                .acceptedAt(intake.getAcceptedAt())
+                .finishedAt(intake.getFinishedAt());
+        if (intake.getErrorCode() != null) {
+            builder.errorCode(intake.getErrorCode().getCode())
+                    .errorMessage(intake.getErrorCode().getMessage());
+        }
+        return builder.build();
+    }
+}
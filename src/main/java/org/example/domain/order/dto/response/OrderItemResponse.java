@@ -2,10 +2,12 @@ package org.example.domain.order.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.example.domain.order.entity.OrderItem;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderItemResponse {
 
     private Long id;
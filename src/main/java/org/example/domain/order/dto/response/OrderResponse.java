@@ -2,6 +2,7 @@ package org.example.domain.order.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.example.domain.order.entity.Order;
 import org.example.domain.order.entity.OrderStatus;
 
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderResponse {
 
     private Long id;
@@ -0,0 +1,19 @@
+package org.example.domain.order.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.domain.order.waitingroom.WaitingRoomTicketStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class WaitingRoomTicketResponse {
+
+    private Long productId;
+    private WaitingRoomTicketStatus status;
+    /** 대기 순번 (1부터 시작, WAITING일 때만) */
+    private Long position;
+    /** 입장권 만료 시각 (ADMITTED일 때만) */
+    private LocalDateTime expiresAt;
+}
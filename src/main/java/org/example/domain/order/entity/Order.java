@@ -7,9 +7,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.domain.product.entity.Product;
 import org.example.global.common.BaseTimeEntity;
-import org.example.global.exception.BusinessException;
-import org.example.global.exception.ErrorCode;
+import org.example.global.id.PreassignedId;
+import org.example.global.id.SnowflakeId;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,14 +21,17 @@ import java.util.List;
  * </p>
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_expires_at", columnList = "status, expires_at"),
+        @Index(name = "idx_orders_buyer_id_created_at_id", columnList = "buyer_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order extends BaseTimeEntity {
+public class Order extends BaseTimeEntity implements PreassignedId {
 
     /** 주문 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /** 구매자 ID */
@@ -43,6 +47,14 @@ public class Order extends BaseTimeEntity {
     @Column(nullable = false)
     private Long totalPrice;
 
+    /** 재고 예약 만료 일시 (결제 전 주문이 이 시각까지 결제되지 않으면 취소되고 재고가 복구됨, null이면 만료 없음) */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    /** 저장 전에 미리 발급한 주문 ID (비동기 접수 시 접수 응답으로 먼저 알려준 ID) */
+    @Transient
+    private Long preassignedId;
+
     /** 주문 상품 목록 */
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
@@ -73,6 +85,32 @@ public class Order extends BaseTimeEntity {
         return order;
     }
 
+    /**
+     * 여러 상품 주문 생성 팩토리 메서드
+     *
+     * @param buyerId    구매자 ID
+     * @param orderItems 주문 상품 목록
+     * @return 생성된 주문
+     */
+    public static Order create(Long buyerId, List<OrderItem> orderItems) {
+        Order order = Order.builder()
+                .buyerId(buyerId)
+                .build();
+
+        orderItems.forEach(order::addOrderItem);
+
+        return order;
+    }
+
+    /**
+     * 미리 발급한 주문 ID 지정 (저장 시 이 ID로 INSERT)
+     *
+     * @param orderId 미리 발급한 주문 ID (null이면 저장 시 발급)
+     */
+    public void preassignId(Long orderId) {
+        this.preassignedId = orderId;
+    }
+
     /**
      * 주문 상품 추가
      *
@@ -94,21 +132,11 @@ public class Order extends BaseTimeEntity {
     }
 
     /**
-     * 주문 취소
-     * <p>
-     * PENDING, PAID 상태에서만 취소 가능합니다.
-     * </p>
+     * 재고 예약 만료 일시 설정
      *
-     * @throws BusinessException ORDER_ALREADY_CANCELLED - 이미 취소된 주문일 경우
-     * @throws BusinessException ORDER_CANNOT_CANCEL - 취소 불가능한 상태일 경우
+     * @param expiresAt 만료 일시 (null이면 만료 없음)
      */
-    public void cancel() {
-        if (this.status == OrderStatus.CANCELLED) {
-            throw new BusinessException(ErrorCode.ORDER_ALREADY_CANCELLED);
-        }
-        if (!this.status.isCancellable()) {
-            throw new BusinessException(ErrorCode.ORDER_CANNOT_CANCEL);
-        }
-        this.status = OrderStatus.CANCELLED;
+    public void reserveUntil(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
     }
 }
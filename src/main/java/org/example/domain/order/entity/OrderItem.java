@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.domain.product.entity.Product;
 import org.example.global.common.BaseTimeEntity;
+import org.example.global.id.SnowflakeId;
 
 /**
  * 주문 상품 엔티티
@@ -16,14 +17,16 @@ import org.example.global.common.BaseTimeEntity;
  * </p>
  */
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order_id", columnList = "order_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderItem extends BaseTimeEntity {
 
     /** 주문 상품 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /** 소속 주문 */
@@ -3,6 +3,10 @@ package org.example.domain.order.entity;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 주문 상태
  * <p>
@@ -24,6 +28,9 @@ public enum OrderStatus {
     /** 취소됨 */
     CANCELLED("취소됨");
 
+    /** 취소 가능한 상태 목록 */
+    public static final Set<OrderStatus> CANCELLABLE = Collections.unmodifiableSet(EnumSet.of(PENDING, PAID));
+
     /** 상태 설명 */
     private final String description;
 
@@ -33,6 +40,6 @@ public enum OrderStatus {
      * @return PENDING 또는 PAID 상태면 true
      */
     public boolean isCancellable() {
-        return this == PENDING || this == PAID;
+        return CANCELLABLE.contains(this);
     }
 }
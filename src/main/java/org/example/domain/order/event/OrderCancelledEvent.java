@@ -0,0 +1,18 @@
+package org.example.domain.order.event;
+
+import java.util.Map;
+
+/**
+ * 주문 취소 이벤트
+ * <p>
+ * 주문이 취소되어 재고가 복구될 때 발행됩니다.
+ * </p>
+ *
+ * @param orderId            취소된 주문 ID
+ * @param restoredQuantities 상품 ID별 복구된 수량
+ */
+public record OrderCancelledEvent(
+        Long orderId,
+        Map<Long, Integer> restoredQuantities
+) {
+}
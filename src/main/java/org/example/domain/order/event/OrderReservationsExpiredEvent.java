@@ -0,0 +1,19 @@
+package org.example.domain.order.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 만료 이벤트
+ * <p>
+ * 결제되지 않고 만료된 주문들이 한 번에 취소되어 재고가 복구될 때 발행됩니다.
+ * </p>
+ *
+ * @param orderIds           취소된 주문 ID 목록
+ * @param restoredQuantities 상품 ID별 복구된 수량 합계
+ */
+public record OrderReservationsExpiredEvent(
+        List<Long> orderIds,
+        Map<Long, Integer> restoredQuantities
+) {
+}
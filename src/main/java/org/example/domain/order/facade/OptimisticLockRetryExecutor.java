@@ -0,0 +1,92 @@
+package org.example.domain.order.facade;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.stock.StockProperties;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 재시도 실행기
+ * <p>
+ * 버전 충돌({@link OptimisticLockingFailureException}) 시 트랜잭션 전체를 다시 실행합니다.
+ * 대기 시간은 지수적으로 늘어나며, 동시에 충돌한 요청이 같은 시점에 재시도하지 않도록
+ * 0 ~ 상한 사이에서 무작위로 정합니다(full jitter).
+ * 반드시 트랜잭션 바깥에서 호출해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockRetryExecutor {
+
+    private static final String RETRY_METRIC = "order.stock.retry";
+    private static final String EXHAUSTED_METRIC = "order.stock.retry.exhausted";
+
+    private final StockProperties stockProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 재시도 정책을 적용하여 실행
+     *
+     * @param operation 작업 이름 (메트릭 태그)
+     * @param action    실행할 작업
+     * @return 작업 결과
+     * @throws BusinessException ORDER_LOCK_FAILED - 최대 시도 횟수를 넘길 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        StockProperties.Retry retry = stockProperties.getRetry();
+        int maxAttempts = Math.max(1, retry.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter(EXHAUSTED_METRIC, "operation", operation).increment();
+                    log.warn("낙관적 락 재시도 한도 초과: operation={}, attempts={}", operation, attempt);
+                    throw new BusinessException(ErrorCode.ORDER_LOCK_FAILED);
+                }
+                meterRegistry.counter(RETRY_METRIC, "operation", operation).increment();
+                sleep(backoffMs(attempt, retry));
+            }
+        }
+    }
+
+    /**
+     * 재시도 정책을 적용하여 실행 (반환값 없음)
+     *
+     * @param operation 작업 이름 (메트릭 태그)
+     * @param action    실행할 작업
+     */
+    public void execute(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private long backoffMs(int attempt, StockProperties.Retry retry) {
+        double exponential = retry.getInitialBackoffMs() * Math.pow(retry.getMultiplier(), attempt - 1);
+        long cap = (long) Math.min(retry.getMaxBackoffMs(), exponential);
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.ORDER_LOCK_FAILED);
+        }
+    }
+}
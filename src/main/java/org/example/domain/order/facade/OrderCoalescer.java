@@ -0,0 +1,271 @@
+package org.example.domain.order.facade;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.domain.order.service.OrderBatchService;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품별 주문 묶음 처리기 (group commit)
+ * <p>
+ * 같은 상품에 대한 주문 요청을 첫 요청 이후 {@code windowMs} 동안 모은 뒤
+ * {@link OrderBatchService}로 한 번에 처리합니다.
+ * 상품 행 락 획득, 재고 차감, 커밋이 묶음당 한 번씩만 일어나므로
+ * 인기 상품의 처리량이 락 왕복 횟수가 아니라 묶음 크기에 비례하게 됩니다.
+ * 각 요청의 {@link CompletableFuture}는 묶음 트랜잭션 커밋 후 요청별 결과로 완료됩니다.
+ * </p>
+ * <p>
+ * 처리 대기 묶음 수는 {@code queueCapacity}로 제한하며, 넘치면 묶음의 요청을 ORDER_PRODUCT_BUSY로 바로 실패시킵니다.
+ * 각 요청은 대기 상태에서 처리 시작(CLAIMED)과 시간 초과(TIMED_OUT) 중 먼저 전이한 쪽으로만 끝납니다.
+ * {@code timeoutMs} 안에 묶음 처리가 요청을 가져가지 못하면 ORDER_LOCK_FAILED로 실패하고 처리 대상에서 빠지며,
+ * 이미 처리를 시작한 요청은 시간이 지나도 실패시키지 않고 실제 커밋 결과를 기다립니다.
+ * 따라서 호출자가 실패를 받은 주문이 커밋되는 일은 없습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OrderCoalescer {
+
+    private static final String BATCH_SIZE_METRIC = "order.coalescer.batch.size";
+
+    private final OrderBatchService orderBatchService;
+    private final OrderCoalescerProperties properties;
+    private final DistributionSummary batchSizeSummary;
+    private final ConcurrentMap<Long, Batch> openBatches = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService workers;
+
+    public OrderCoalescer(OrderBatchService orderBatchService,
+                          OrderCoalescerProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.orderBatchService = orderBatchService;
+        this.properties = properties;
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("묶음당 주문 요청 수")
+                .register(meterRegistry);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, namedThreads("order-coalescer-timer"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        int workerThreads = Math.max(1, properties.getWorkerThreads());
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                namedThreads("order-coalescer-worker"));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 주문 생성 (묶음 처리 후 결과 대기)
+     *
+     * @param request 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @param orderId 미리 발급한 주문 ID (null이면 저장 시 발급)
+     * @return 생성된 주문 응답 DTO
+     * @throws BusinessException INSUFFICIENT_STOCK - 묶음 처리 시점에 재고가 부족할 경우
+     * @throws BusinessException PRODUCT_NOT_FOUND - 상품이 존재하지 않을 경우
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 처리 대기 묶음이 가득 찬 경우
+     * @throws BusinessException ORDER_LOCK_FAILED - 대기 시간을 넘길 경우
+     */
+    public OrderResponse createOrder(OrderCreateRequest request, Long buyerId, Long orderId) {
+        try {
+            return submit(request.getProductId(),
+                    new OrderBatchCommand(buyerId, request.getQuantity(), orderId)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new BusinessException(ErrorCode.ORDER_LOCK_FAILED);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 주문 요청을 상품별 묶음에 추가
+     *
+     * @param productId 상품 ID
+     * @param command   주문 요청
+     * @return 묶음 처리 후 완료되는 결과
+     * ({@code timeoutMs} 안에 처리가 시작되지 않으면 {@link TimeoutException}으로 완료, 처리가 시작되면 실제 결과로 완료)
+     */
+    public CompletableFuture<OrderResponse> submit(Long productId, OrderBatchCommand command) {
+        PendingOrder pending = new PendingOrder(command);
+        ScheduledFuture<?> timeout = scheduler.schedule(pending::timeout,
+                properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        pending.future().whenComplete((response, failure) -> timeout.cancel(false));
+        while (true) {
+            Batch batch = openBatches.computeIfAbsent(productId, this::openBatch);
+            int size = batch.add(pending);
+            if (size > 0) {
+                if (size >= properties.getMaxBatchSize()) {
+                    close(productId, batch);
+                }
+                return pending.future();
+            }
+            // 이미 닫힌 묶음이면 새 묶음을 연다
+            openBatches.remove(productId, batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdown();
+    }
+
+    private Batch openBatch(Long productId) {
+        Batch batch = new Batch();
+        scheduler.schedule(() -> close(productId, batch), properties.getWindowMs(), TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    private void close(Long productId, Batch batch) {
+        List<PendingOrder> orders = batch.close();
+        if (orders == null) {
+            return;
+        }
+        openBatches.remove(productId, batch);
+        try {
+            workers.execute(() -> flush(productId, orders));
+        } catch (RejectedExecutionException e) {
+            log.warn("묶음 주문 처리 대기열 초과: productId={}, size={}", productId, orders.size());
+            orders.forEach(order -> order.future().completeExceptionally(
+                    new BusinessException(ErrorCode.ORDER_PRODUCT_BUSY)));
+        }
+    }
+
+    private void flush(Long productId, List<PendingOrder> batchOrders) {
+        // 시간 초과보다 먼저 처리 시작으로 전이한 요청만 처리 (이후 시간 초과로 실패하지 않음)
+        List<PendingOrder> orders = batchOrders.stream().filter(PendingOrder::claim).toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(orders.size());
+        try {
+            List<OrderBatchResult> results = orderBatchService.createOrders(productId,
+                    orders.stream().map(PendingOrder::command).toList());
+            for (int i = 0; i < orders.size(); i++) {
+                OrderBatchResult result = results.get(i);
+                if (result.isSuccess()) {
+                    orders.get(i).future().complete(result.response());
+                } else {
+                    orders.get(i).future().completeExceptionally(new BusinessException(result.errorCode()));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("묶음 주문 처리 실패: productId={}, size={}, message={}", productId, orders.size(), e.getMessage());
+            orders.forEach(order -> order.future().completeExceptionally(e));
+        } catch (Error e) {
+            orders.forEach(order -> order.future().completeExceptionally(
+                    new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR)));
+            throw e;
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 묶음에 추가된 주문 요청
+     * <p>
+     * 대기(PENDING) 상태에서 처리 시작(CLAIMED)과 시간 초과(TIMED_OUT) 중 한 번만 전이합니다.
+     * </p>
+     */
+    private static final class PendingOrder {
+
+        private final OrderBatchCommand command;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+        private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+
+        PendingOrder(OrderBatchCommand command) {
+            this.command = command;
+        }
+
+        OrderBatchCommand command() {
+            return command;
+        }
+
+        CompletableFuture<OrderResponse> future() {
+            return future;
+        }
+
+        /**
+         * @return 처리를 시작할 수 있으면 true (이미 시간 초과됐거나 실패했으면 false)
+         */
+        boolean claim() {
+            return state.compareAndSet(State.PENDING, State.CLAIMED) && !future.isDone();
+        }
+
+        void timeout() {
+            if (state.compareAndSet(State.PENDING, State.TIMED_OUT)) {
+                future.completeExceptionally(new TimeoutException());
+            }
+        }
+
+        private enum State {
+            PENDING, CLAIMED, TIMED_OUT
+        }
+    }
+
+    /**
+     * 상품별 수집 중인 묶음
+     */
+    private static final class Batch {
+
+        private List<PendingOrder> orders = new ArrayList<>();
+
+        /**
+         * @return 추가 후 묶음 크기, 이미 닫힌 묶음이면 0
+         */
+        synchronized int add(PendingOrder order) {
+            if (orders == null) {
+                return 0;
+            }
+            orders.add(order);
+            return orders.size();
+        }
+
+        /**
+         * @return 묶인 요청 목록, 이미 닫힌 묶음이면 null
+         */
+        synchronized List<PendingOrder> close() {
+            List<PendingOrder> closed = orders;
+            orders = null;
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.domain.order.facade;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 묶음 처리 설정
+ * <p>
+ * 켜져 있으면 같은 상품에 대한 동시 주문을 짧은 시간 동안 모아 한 트랜잭션으로 처리합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.coalescer")
+public class OrderCoalescerProperties {
+
+    /** 묶음 처리 사용 여부 */
+    private boolean enabled = false;
+
+    /** 첫 요청 이후 묶음을 모으는 시간 (밀리초) */
+    private long windowMs = 5;
+
+    /** 묶음 최대 요청 수 (도달하면 대기 시간과 관계없이 바로 처리) */
+    private int maxBatchSize = 200;
+
+    /** 묶음을 처리하는 스레드 수 (스레드마다 DB 커넥션을 하나씩 사용) */
+    private int workerThreads = 4;
+
+    /** 처리를 기다릴 수 있는 최대 묶음 수 (넘치면 ORDER_PRODUCT_BUSY) */
+    private int queueCapacity = 100;
+
+    /** 요청이 묶음 처리 시작을 기다리는 최대 시간 (밀리초, 넘기면 ORDER_LOCK_FAILED, 처리가 시작되면 결과까지 대기) */
+    private long timeoutMs = 3000;
+}
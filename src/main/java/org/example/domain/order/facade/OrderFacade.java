@@ -0,0 +1,307 @@
+package org.example.domain.order.facade;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.domain.order.service.OrderBatchService;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.order.stock.HotProductDetector;
+import org.example.domain.order.stock.ProductAdmission;
+import org.example.domain.order.stock.ProductContentionTracker;
+import org.example.domain.order.stock.StockGate;
+import org.example.domain.order.stock.StockGateResult;
+import org.example.domain.order.waitingroom.WaitingRoom;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 주문 파사드
+ * <p>
+ * 주문 트랜잭션({@link OrderService}) 바깥에서 처리해야 하는 작업을 담당합니다.
+ * <ul>
+ *     <li>재고 게이트: 트랜잭션 시작 전에 Redis 카운터를 선차감하고, 롤백되면 반환</li>
+ *     <li>경합 추적: 상품별 동시 주문 수와 최근 요청 수를 기록하여 재고 전략 선택에 사용</li>
+ *     <li>동시 주문 수 제한: 켜져 있으면 상품별 허용 수를 넘는 요청을 트랜잭션 시작 전에 거절</li>
+ *     <li>재시도: 주문 생성 중 낙관적 락 충돌 시 트랜잭션 전체를 재실행</li>
+ *     <li>묶음 처리: 켜져 있으면 같은 상품 주문을 {@link OrderCoalescer}로 모아 한 트랜잭션으로 처리</li>
+ * </ul>
+ * 대량 주문 청크도 같은 경합 추적, 동시 주문 수 제한, 재고 게이트를 거쳐 {@link OrderBatchService}로 처리합니다.
+ * 주문이 생성되면 주문 대기열이 적용된 상품의 입장권을 소멸시킵니다. 멱등성 키로 재생된 요청은 파사드를 거치지 않으므로
+ * 입장권은 처음 실제로 주문을 생성한 한 번만 소멸합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderFacade {
+
+    private static final String CREATE_OPERATION = "create";
+
+    private final OrderService orderService;
+    private final StockGate stockGate;
+    private final ProductContentionTracker contentionTracker;
+    private final HotProductDetector hotProductDetector;
+    private final ProductAdmission productAdmission;
+    private final OptimisticLockRetryExecutor retryExecutor;
+    private final OrderCoalescer orderCoalescer;
+    private final OrderBatchService orderBatchService;
+    private final WaitingRoom waitingRoom;
+
+    /**
+     * 주문 생성
+     *
+     * @param request 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @return 생성된 주문 응답 DTO
+     * @throws BusinessException INSUFFICIENT_STOCK - 게이트 카운터 또는 DB 재고가 부족할 경우
+     * @throws BusinessException ORDER_LOCK_FAILED - 낙관적 락 재시도 한도를 넘길 경우
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 상품 동시 주문 수 제한을 넘길 경우
+     */
+    public OrderResponse createOrder(OrderCreateRequest request, Long buyerId) {
+        return createOrder(request, buyerId, null);
+    }
+
+    /**
+     * 미리 발급한 ID로 주문 생성
+     *
+     * @param request 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @param orderId 미리 발급한 주문 ID (null이면 저장 시 발급)
+     * @return 생성된 주문 응답 DTO
+     * @throws BusinessException INSUFFICIENT_STOCK - 게이트 카운터 또는 DB 재고가 부족할 경우
+     * @throws BusinessException ORDER_LOCK_FAILED - 낙관적 락 재시도 한도를 넘길 경우
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 상품 동시 주문 수 제한을 넘길 경우
+     */
+    public OrderResponse createOrder(OrderCreateRequest request, Long buyerId, Long orderId) {
+        hotProductDetector.record(request.getProductId());
+        contentionTracker.enter(request.getProductId());
+        try (ProductAdmission.Permit permit = productAdmission.acquire(List.of(request.getProductId()))) {
+            OrderResponse response = stockGate.isEnabled()
+                    ? createOrderWithStockGate(request, buyerId, orderId)
+                    : placeOrder(request, buyerId, orderId);
+            completeWaitingRoom(List.of(request.getProductId()), buyerId);
+            return response;
+        } finally {
+            contentionTracker.exit(request.getProductId());
+        }
+    }
+
+    /**
+     * 여러 상품 주문 생성
+     * <p>
+     * 재고 게이트는 모든 상품 카운터를 한 번에 선차감하며, 묶음 처리는 적용하지 않습니다.
+     * </p>
+     *
+     * @param request 여러 상품 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @return 생성된 주문 응답 DTO
+     * @throws BusinessException INSUFFICIENT_STOCK - 게이트 카운터 또는 DB 재고가 부족할 경우
+     * @throws BusinessException ORDER_LOCK_FAILED - 낙관적 락 재시도 한도를 넘길 경우
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 상품 동시 주문 수 제한을 넘길 경우
+     */
+    public OrderResponse createCartOrder(OrderCartCreateRequest request, Long buyerId) {
+        Map<Long, Integer> quantities = request.toQuantities();
+        quantities.keySet().forEach(hotProductDetector::record);
+        quantities.keySet().forEach(contentionTracker::enter);
+        try (ProductAdmission.Permit permit = productAdmission.acquire(quantities.keySet())) {
+            StockGateResult gateResult = stockGate.isEnabled()
+                    ? acquireStockGate(quantities)
+                    : StockGateResult.BYPASSED;
+            OrderResponse response;
+            try {
+                response = retryExecutor.execute(CREATE_OPERATION, () -> orderService.createCartOrder(request, buyerId));
+            } catch (RuntimeException e) {
+                if (gateResult == StockGateResult.ACQUIRED) {
+                    stockGate.release(quantities);
+                }
+                throw e;
+            }
+            completeWaitingRoom(quantities.keySet(), buyerId);
+            return response;
+        } finally {
+            quantities.keySet().forEach(contentionTracker::exit);
+        }
+    }
+
+    /**
+     * 대량 주문 청크 생성
+     * <p>
+     * 청크의 모든 상품에 대해 단일 주문과 같이 요청 수 기록, 경합 추적, 동시 주문 수 제한을 거친 뒤 한 트랜잭션으로 처리합니다.
+     * 재고 게이트가 켜져 있으면 줄마다 카운터를 선차감하여 부족한 줄만 INSUFFICIENT_STOCK으로 빼고,
+     * 트랜잭션에서 실패한 줄의 카운터는 반환합니다.
+     * 주문이 생성된 줄의 구매자는 해당 상품의 입장권을 소멸시킵니다.
+     * </p>
+     *
+     * @param commandsByProduct 상품 ID별 주문 요청 목록 (도착 순서)
+     * @return 상품 ID별, 요청 순서와 같은 순서의 요청별 결과
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 상품 동시 주문 수 제한을 넘길 경우
+     */
+    public Map<Long, List<OrderBatchResult>> createBulkOrders(SortedMap<Long, List<OrderBatchCommand>> commandsByProduct) {
+        Set<Long> productIds = commandsByProduct.keySet();
+        commandsByProduct.forEach((productId, commands) -> commands.forEach(command -> hotProductDetector.record(productId)));
+        productIds.forEach(contentionTracker::enter);
+        try (ProductAdmission.Permit permit = productAdmission.acquire(productIds)) {
+            Map<Long, List<OrderBatchResult>> results = stockGate.isEnabled()
+                    ? createBulkOrdersWithStockGate(commandsByProduct)
+                    : orderBatchService.createOrders(commandsByProduct);
+            completeWaitingRoom(commandsByProduct, results);
+            return results;
+        } finally {
+            productIds.forEach(contentionTracker::exit);
+        }
+    }
+
+    /**
+     * 주문 취소
+     * <p>
+     * 상태 변경과 재고 복구가 모두 단일 UPDATE라 버전 충돌이 없으므로 재시도하지 않습니다.
+     * 게이트 카운터 반환은 취소 트랜잭션 커밋 후 {@link StockGate}가 처리합니다.
+     * </p>
+     *
+     * @param orderId 주문 ID
+     * @param buyerId 구매자 ID
+     */
+    public void cancelOrder(Long orderId, Long buyerId) {
+        orderService.cancelOrder(orderId, buyerId);
+    }
+
+    private OrderResponse createOrderWithStockGate(OrderCreateRequest request, Long buyerId, Long orderId) {
+        Map<Long, Integer> quantities = Map.of(request.getProductId(), request.getQuantity());
+        StockGateResult gateResult = acquireStockGate(quantities);
+
+        try {
+            return placeOrder(request, buyerId, orderId);
+        } catch (RuntimeException e) {
+            if (gateResult == StockGateResult.ACQUIRED) {
+                stockGate.release(quantities);
+            }
+            throw e;
+        }
+    }
+
+    private Map<Long, List<OrderBatchResult>> createBulkOrdersWithStockGate(
+            SortedMap<Long, List<OrderBatchCommand>> commandsByProduct) {
+        // 1. 줄마다 카운터 선차감 (부족한 줄은 트랜잭션에 넣지 않음)
+        Map<Long, List<StockGateResult>> gateResults = new LinkedHashMap<>();
+        SortedMap<Long, List<OrderBatchCommand>> admitted = new TreeMap<>();
+        commandsByProduct.forEach((productId, commands) -> {
+            List<StockGateResult> productGateResults = new ArrayList<>(commands.size());
+            for (OrderBatchCommand command : commands) {
+                StockGateResult gateResult = stockGate.tryAcquire(Map.of(productId, command.quantity()));
+                productGateResults.add(gateResult);
+                if (gateResult != StockGateResult.REJECTED) {
+                    admitted.computeIfAbsent(productId, id -> new ArrayList<>()).add(command);
+                }
+            }
+            gateResults.put(productId, productGateResults);
+        });
+
+        // 2. 통과한 줄만 한 트랜잭션으로 처리 (청크 전체 실패 시 선차감한 카운터 모두 반환)
+        Map<Long, List<OrderBatchResult>> admittedResults;
+        try {
+            admittedResults = admitted.isEmpty() ? Map.of() : orderBatchService.createOrders(admitted);
+        } catch (RuntimeException e) {
+            releaseStockGate(commandsByProduct, gateResults, null);
+            throw e;
+        }
+
+        // 3. 입력 순서로 결과를 합치고, 트랜잭션에서 실패한 줄의 카운터 반환
+        Map<Long, List<OrderBatchResult>> results = new LinkedHashMap<>();
+        commandsByProduct.forEach((productId, commands) -> {
+            Iterator<OrderBatchResult> productResults = admittedResults.getOrDefault(productId, List.of()).iterator();
+            List<OrderBatchResult> merged = new ArrayList<>(commands.size());
+            for (StockGateResult gateResult : gateResults.get(productId)) {
+                merged.add(gateResult == StockGateResult.REJECTED
+                        ? OrderBatchResult.failure(ErrorCode.INSUFFICIENT_STOCK)
+                        : productResults.next());
+            }
+            results.put(productId, merged);
+        });
+        releaseStockGate(commandsByProduct, gateResults, results);
+        return results;
+    }
+
+    /**
+     * 선차감한 줄 중 주문되지 않은 줄의 카운터 반환
+     *
+     * @param results 줄별 결과 (null이면 선차감한 줄 전체 반환)
+     */
+    private void releaseStockGate(SortedMap<Long, List<OrderBatchCommand>> commandsByProduct,
+                                  Map<Long, List<StockGateResult>> gateResults,
+                                  Map<Long, List<OrderBatchResult>> results) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        gateResults.forEach((productId, productGateResults) -> {
+            List<OrderBatchCommand> commands = commandsByProduct.get(productId);
+            for (int i = 0; i < productGateResults.size(); i++) {
+                boolean ordered = results != null && results.get(productId).get(i).isSuccess();
+                if (productGateResults.get(i) == StockGateResult.ACQUIRED && !ordered) {
+                    quantities.merge(productId, commands.get(i).quantity(), Integer::sum);
+                }
+            }
+        });
+        if (!quantities.isEmpty()) {
+            stockGate.release(quantities);
+        }
+    }
+
+    /**
+     * 주문이 생성된 상품 중 대기열이 적용된 상품의 입장권 소멸
+     */
+    private void completeWaitingRoom(Collection<Long> productIds, Long buyerId) {
+        productIds.stream()
+                .filter(waitingRoom::isGuarded)
+                .forEach(productId -> waitingRoom.complete(productId, buyerId));
+    }
+
+    /**
+     * 대량 주문에서 주문이 생성된 줄의 구매자별 입장권 소멸 (같은 구매자의 여러 줄은 한 번만 소멸)
+     */
+    private void completeWaitingRoom(SortedMap<Long, List<OrderBatchCommand>> commandsByProduct,
+                                     Map<Long, List<OrderBatchResult>> results) {
+        commandsByProduct.forEach((productId, commands) -> {
+            if (!waitingRoom.isGuarded(productId)) {
+                return;
+            }
+            List<OrderBatchResult> productResults = results.get(productId);
+            Set<Long> buyerIds = new LinkedHashSet<>();
+            for (int i = 0; i < commands.size(); i++) {
+                if (productResults.get(i).isSuccess()) {
+                    buyerIds.add(commands.get(i).buyerId());
+                }
+            }
+            buyerIds.forEach(buyerId -> waitingRoom.complete(productId, buyerId));
+        });
+    }
+
+    private StockGateResult acquireStockGate(Map<Long, Integer> quantities) {
+        StockGateResult gateResult = stockGate.tryAcquire(quantities);
+        if (gateResult == StockGateResult.REJECTED) {
+            log.debug("재고 게이트에서 주문 거절: quantities={}", quantities);
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+        return gateResult;
+    }
+
+    private OrderResponse placeOrder(OrderCreateRequest request, Long buyerId, Long orderId) {
+        if (orderCoalescer.isEnabled()) {
+            return orderCoalescer.createOrder(request, buyerId, orderId);
+        }
+        return retryExecutor.execute(CREATE_OPERATION, () -> orderService.createOrder(request, buyerId, orderId));
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.domain.order.intake;
+
+import lombok.Getter;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 접수 건
+ * <p>
+ * 접수 시점부터 주문 생성 완료(또는 실패)까지의 상태를 보관합니다.
+ * 주문 ID는 접수 시점에 미리 발급하며, 주문이 생성되면 그 ID로 저장됩니다.
+ * 워커 스레드가 상태를 바꾸고 조회 요청 스레드가 읽으므로 상태 필드는 volatile입니다.
+ * </p>
+ */
+@Getter
+public class OrderIntake {
+
+    /** 접수 ID */
+    private final String id;
+
+    /** 구매자 ID */
+    private final Long buyerId;
+
+    /** 주문 생성 요청 */
+    private final OrderCreateRequest request;
+
+    /** 미리 발급한 주문 ID (주문이 생성되면 이 ID로 저장됨) */
+    private final Long orderId;
+
+    /** 접수 시각 */
+    private final LocalDateTime acceptedAt;
+
+    /** 접수 시각 (지연 시간 측정용) */
+    private final long acceptedNanos;
+
+    private volatile OrderIntakeStatus status;
+    private volatile ErrorCode errorCode;
+    private volatile LocalDateTime finishedAt;
+
+    private OrderIntake(Long buyerId, OrderCreateRequest request, Long orderId) {
+        this.id = UUID.randomUUID().toString();
+        this.buyerId = buyerId;
+        this.request = request;
+        this.orderId = orderId;
+        this.acceptedAt = LocalDateTime.now();
+        this.acceptedNanos = System.nanoTime();
+        this.status = OrderIntakeStatus.ACCEPTED;
+    }
+
+    /**
+     * 주문 접수
+     *
+     * @param request 주문 생성 요청
+     * @param buyerId 구매자 ID
+     * @param orderId 미리 발급한 주문 ID
+     * @return ACCEPTED 상태의 접수 건
+     */
+    public static OrderIntake accept(OrderCreateRequest request, Long buyerId, Long orderId) {
+        return new OrderIntake(buyerId, request, orderId);
+    }
+
+    void markProcessing() {
+        this.status = OrderIntakeStatus.PROCESSING;
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = OrderIntakeStatus.COMPLETED;
+    }
+
+    void fail(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+        this.finishedAt = LocalDateTime.now();
+        this.status = OrderIntakeStatus.FAILED;
+    }
+}
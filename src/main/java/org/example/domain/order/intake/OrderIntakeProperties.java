@@ -0,0 +1,29 @@
+package org.example.domain.order.intake;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기 주문 접수 설정
+ * <p>
+ * 켜져 있으면 접수된 주문을 대기열에 넣고 바로 202로 응답하며, 워커가 대기열을 비우면서 주문을 생성합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.intake")
+public class OrderIntakeProperties {
+
+    /** 비동기 접수 사용 여부 */
+    private boolean enabled = false;
+
+    /** 대기열 최대 길이 (가득 차면 접수 거절) */
+    private int queueCapacity = 1000;
+
+    /** 대기열을 비우는 워커 수 (워커마다 DB 커넥션을 하나씩 사용) */
+    private int workerThreads = 4;
+
+    /** 처리가 끝난 접수 결과 보관 시간 (밀리초) */
+    private long resultTtlMs = 600000;
+}
@@ -0,0 +1,206 @@
+package org.example.domain.order.intake;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderIntakeResponse;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.example.global.id.SnowflakeIdGenerator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수 대기열
+ * <p>
+ * 요청 스레드는 주문을 대기열에 넣고 바로 반환하며, 고정된 수의 워커가 대기열을 비우면서
+ * {@link OrderFacade}로 주문을 생성합니다. 트래픽이 몰려도 락 대기와 커밋을 기다리는 스레드 수는
+ * 워커 수로 제한되므로 Tomcat 스레드 풀과 DB 커넥션 풀이 고갈되지 않습니다.
+ * 대기열이 가득 차면 접수를 거절합니다.
+ * 주문 대기열이 적용된 상품의 입장권은 워커가 주문을 생성할 때 {@link OrderFacade}가 소멸시킵니다.
+ * </p>
+ * <p>
+ * 주문 ID는 접수 시점에 미리 발급하여 접수 응답에 담으므로, 클라이언트는 {@code GET /api/v1/orders/{orderId}}로
+ * 주문 생성 여부를 확인할 수 있습니다. 이 조회는 DB를 보므로 재시작이나 다른 인스턴스와 관계없이 동작합니다.
+ * 접수 건 자체는 실패 사유를 알려주기 위한 보조 정보라 메모리에만 보관하며 {@code resultTtlMs} 후 정리합니다.
+ * 애플리케이션이 재시작되면 처리 전 접수 건은 유실되고 해당 주문 ID의 주문은 생성되지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OrderIntakeQueue {
+
+    private static final String QUEUE_DEPTH_METRIC = "order.intake.queue.depth";
+    private static final String REJECTED_METRIC = "order.intake.rejected";
+    private static final String DRAINED_METRIC = "order.intake.drained";
+    private static final String LATENCY_METRIC = "order.intake.latency";
+
+    private final OrderFacade orderFacade;
+    private final OrderIntakeProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final SnowflakeIdGenerator idGenerator;
+    private final BlockingQueue<OrderIntake> queue;
+    private final ConcurrentMap<String, OrderIntake> intakes = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+    private final Timer latencyTimer;
+    private ExecutorService workers;
+
+    public OrderIntakeQueue(OrderFacade orderFacade,
+                            OrderIntakeProperties properties,
+                            MeterRegistry meterRegistry,
+                            SnowflakeIdGenerator idGenerator) {
+        this.orderFacade = orderFacade;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.idGenerator = idGenerator;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+                .description("처리 대기 중인 주문 접수 건 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+                .description("대기열이 가득 차 거절된 주문 접수 건 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder(LATENCY_METRIC)
+                .description("접수부터 처리 종료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        int workerThreads = Math.max(1, properties.getWorkerThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerThreads; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers == null) {
+            return;
+        }
+        workers.shutdownNow();
+        if (!queue.isEmpty()) {
+            log.warn("처리되지 않은 주문 접수 건이 남아 있습니다: count={}", queue.size());
+        }
+    }
+
+    /**
+     * 주문 접수
+     *
+     * @param request 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @return 접수 응답 DTO (ACCEPTED, 미리 발급한 주문 ID 포함)
+     * @throws BusinessException ORDER_INTAKE_UNAVAILABLE - 비동기 접수가 꺼져 있을 경우
+     * @throws BusinessException ORDER_INTAKE_FULL - 대기열이 가득 찼을 경우
+     */
+    public OrderIntakeResponse submit(OrderCreateRequest request, Long buyerId) {
+        if (!properties.isEnabled()) {
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_UNAVAILABLE);
+        }
+
+        OrderIntake intake = OrderIntake.accept(request, buyerId, idGenerator.nextId());
+        intakes.put(intake.getId(), intake);
+        if (!queue.offer(intake)) {
+            intakes.remove(intake.getId());
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_FULL);
+        }
+
+        log.debug("주문 접수: intakeId={}, orderId={}, buyerId={}, productId={}",
+                intake.getId(), intake.getOrderId(), buyerId, request.getProductId());
+        return OrderIntakeResponse.from(intake);
+    }
+
+    /**
+     * 주문 접수 상태 조회
+     *
+     * @param intakeId 접수 ID
+     * @param buyerId  구매자 ID (본인 확인용)
+     * @return 접수 응답 DTO
+     * @throws BusinessException ORDER_INTAKE_NOT_FOUND - 접수 건이 없거나 본인 접수가 아닐 경우
+     */
+    public OrderIntakeResponse getIntake(String intakeId, Long buyerId) {
+        OrderIntake intake = intakes.get(intakeId);
+        if (intake == null || !intake.getBuyerId().equals(buyerId)) {
+            throw new BusinessException(ErrorCode.ORDER_INTAKE_NOT_FOUND);
+        }
+        return OrderIntakeResponse.from(intake);
+    }
+
+    /**
+     * 보관 시간이 지난 처리 완료 접수 건 정리
+     */
+    @Scheduled(fixedDelayString = "${order.intake.result-ttl-ms:600000}")
+    public void evictFinished() {
+        LocalDateTime threshold = LocalDateTime.now().minusNanos(
+                TimeUnit.MILLISECONDS.toNanos(properties.getResultTtlMs()));
+        intakes.values().removeIf(intake -> intake.getStatus().isFinished()
+                && intake.getFinishedAt().isBefore(threshold));
+    }
+
+    /**
+     * 대기열에서 한 건을 꺼내 처리 (대기열이 비어 있으면 처리하지 않음)
+     *
+     * @return 처리 여부
+     */
+    boolean processNext() {
+        OrderIntake intake = queue.poll();
+        if (intake == null) {
+            return false;
+        }
+        process(intake);
+        return true;
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                process(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void process(OrderIntake intake) {
+        intake.markProcessing();
+        try {
+            orderFacade.createOrder(intake.getRequest(), intake.getBuyerId(), intake.getOrderId());
+            intake.complete();
+        } catch (BusinessException e) {
+            intake.fail(e.getErrorCode());
+        } catch (Throwable e) {
+            // Error도 접수 건을 실패로 끝내고 워커는 계속 대기열을 비움 (워커가 죽으면 남은 접수 건이 처리되지 않음)
+            log.error("비동기 주문 처리 실패: intakeId={}", intake.getId(), e);
+            intake.fail(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        latencyTimer.record(System.nanoTime() - intake.getAcceptedNanos(), TimeUnit.NANOSECONDS);
+        meterRegistry.counter(DRAINED_METRIC, "status", intake.getStatus().name()).increment();
+    }
+}
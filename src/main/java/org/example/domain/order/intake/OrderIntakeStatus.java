@@ -0,0 +1,33 @@
+package org.example.domain.order.intake;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 접수 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderIntakeStatus {
+
+    /** 접수됨 - 대기열에서 처리 대기 */
+    ACCEPTED("접수됨"),
+    /** 처리중 - 워커가 주문 생성 중 */
+    PROCESSING("처리중"),
+    /** 완료 - 주문 생성됨 */
+    COMPLETED("완료"),
+    /** 실패 - 재고 부족 등으로 주문 생성 실패 */
+    FAILED("실패");
+
+    /** 상태 설명 */
+    private final String description;
+
+    /**
+     * 처리 종료 여부 확인
+     *
+     * @return COMPLETED 또는 FAILED 상태면 true
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -1,12 +1,21 @@
 package org.example.domain.order.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.domain.order.entity.Order;
+import org.example.domain.order.entity.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,18 +27,53 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * 구매자 ID로 주문 조회 (페이징, 주문 상품 포함)
+     * 구매자 ID로 주문 ID 조회 (페이징)
      * <p>
-     * N+1 문제 방지를 위해 orderItems를 fetch join합니다.
+     * 컬렉션(orderItems)을 fetch join한 쿼리는 DB에서 LIMIT을 걸 수 없어 Hibernate가 구매자의 전체 주문을 메모리에 올려 페이징합니다.
+     * 이 쿼리로 한 페이지의 주문 ID만 DB에서 잘라 온 뒤 {@link #findAllWithItemsByIdIn(Collection)}으로 주문 상품을 함께 조회합니다.
      * </p>
      *
      * @param buyerId  구매자 ID
      * @param pageable 페이징 정보
-     * @return 주문 페이지 (주문 상품 포함)
+     * @return 주문 ID 페이지
      */
-    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.buyerId = :buyerId",
+    @Query(value = "SELECT o.id FROM Order o WHERE o.buyerId = :buyerId",
            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.buyerId = :buyerId")
-    Page<Order> findByBuyerId(@Param("buyerId") Long buyerId, Pageable pageable);
+    Page<Long> findIdsByBuyerId(@Param("buyerId") Long buyerId, Pageable pageable);
+
+    /**
+     * 구매자 ID로 커서 이후의 주문 ID 조회 (keyset 페이징)
+     * <p>
+     * (생성 일시, 주문 ID) 내림차순으로 커서보다 오래된 주문만 조회하며, (buyer_id, created_at, id) 인덱스를 그대로 따라 읽습니다.
+     * OFFSET 없이 인덱스에서 바로 다음 위치를 찾으므로 뒤쪽 페이지도 첫 페이지와 비용이 같고, 전체 개수는 세지 않습니다.
+     * </p>
+     *
+     * @param buyerId         구매자 ID
+     * @param beforeCreatedAt 커서의 생성 일시
+     * @param beforeId        커서의 주문 ID
+     * @param pageable        조회 개수 (첫 페이지만 사용)
+     * @return 주문 ID 목록 (생성 일시, 주문 ID 내림차순)
+     */
+    @Query("SELECT o.id FROM Order o " +
+           "WHERE o.buyerId = :buyerId " +
+           "AND (o.createdAt < :beforeCreatedAt OR (o.createdAt = :beforeCreatedAt AND o.id < :beforeId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findIdsByBuyerIdBefore(@Param("buyerId") Long buyerId,
+                                      @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                      @Param("beforeId") Long beforeId,
+                                      Pageable pageable);
+
+    /**
+     * 주문 ID 목록으로 주문 조회 (주문 상품 포함)
+     * <p>
+     * N+1 문제 방지를 위해 orderItems를 fetch join합니다. 반환 순서는 보장하지 않습니다.
+     * </p>
+     *
+     * @param ids 주문 ID 목록
+     * @return 주문 목록 (주문 상품 fetch join)
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 주문 상세 조회 (주문 상품 포함)
@@ -49,4 +93,91 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id = :id AND o.buyerId = :buyerId")
     Optional<Order> findByIdAndBuyerIdWithItems(@Param("id") Long id, @Param("buyerId") Long buyerId);
+
+    /**
+     * 구매자 본인 주문의 수정 일시 조회
+     * <p>
+     * 주문 상품을 읽지 않고 PK로 수정 일시만 조회하므로 ETag 비교에 사용합니다.
+     * </p>
+     *
+     * @param id      주문 ID
+     * @param buyerId 구매자 ID
+     * @return 수정 일시 Optional (주문이 없거나 본인 주문이 아니면 empty)
+     */
+    @Query("SELECT o.updatedAt FROM Order o WHERE o.id = :id AND o.buyerId = :buyerId")
+    Optional<LocalDateTime> findUpdatedAtByIdAndBuyerId(@Param("id") Long id, @Param("buyerId") Long buyerId);
+
+    /**
+     * 재고 예약이 만료된 결제 전 주문 선점 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * <p>
+     * (만료 일시, 주문 ID) 순서의 keyset 페이징으로 커서 이후의 주문만 조회하며, (status, expires_at) 인덱스를 사용합니다.
+     * 다른 트랜잭션이 잡고 있는 주문은 건너뛰므로 여러 인스턴스가 동시에 정리해도 같은 주문을 두 번 처리하지 않습니다.
+     * 건너뛴 주문은 다음 정리 주기에 처리됩니다.
+     * </p>
+     *
+     * @param now            기준 일시
+     * @param afterExpiresAt 커서의 만료 일시
+     * @param afterId        커서의 주문 ID
+     * @param pageable       조회 개수 (첫 페이지만 사용)
+     * @return 만료된 주문 목록 (만료 일시, 주문 ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT o FROM Order o " +
+           "WHERE o.status = org.example.domain.order.entity.OrderStatus.PENDING " +
+           "AND o.expiresAt <= :now " +
+           "AND (o.expiresAt > :afterExpiresAt OR (o.expiresAt = :afterExpiresAt AND o.id > :afterId)) " +
+           "ORDER BY o.expiresAt, o.id")
+    List<Order> findExpiredForUpdate(@Param("now") LocalDateTime now,
+                                     @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    /**
+     * 구매자 본인 주문 취소 (단일 UPDATE, compare-and-set)
+     * <p>
+     * 취소 가능한 상태일 때만 CANCELLED로 변경합니다.
+     * 변경된 행은 커밋까지 행 락이 유지되므로 같은 주문에 대한 동시 취소 중 하나만 1을 반환합니다.
+     * </p>
+     *
+     * @param id                  주문 ID
+     * @param buyerId             구매자 ID
+     * @param cancellableStatuses 취소 가능한 상태 목록 ({@link OrderStatus#CANCELLABLE})
+     * @param now                 수정 일시
+     * @return 변경된 행 수 (0이면 주문이 없거나, 본인 주문이 아니거나, 취소할 수 없는 상태)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET " +
+           "o.status = org.example.domain.order.entity.OrderStatus.CANCELLED, " +
+           "o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.buyerId = :buyerId AND o.status IN :cancellableStatuses")
+    int cancelIfCancellable(@Param("id") Long id,
+                            @Param("buyerId") Long buyerId,
+                            @Param("cancellableStatuses") Collection<OrderStatus> cancellableStatuses,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 전 주문 일괄 취소 (단일 UPDATE)
+     *
+     * @param ids 주문 ID 목록
+     * @param now 수정 일시
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET " +
+           "o.status = org.example.domain.order.entity.OrderStatus.CANCELLED, " +
+           "o.updatedAt = :now " +
+           "WHERE o.id IN :ids AND o.status = org.example.domain.order.entity.OrderStatus.PENDING")
+    int cancelPendingOrders(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 주문들의 상품별 주문 수량 합계 조회
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 상품별 수량 합계 (상품 ID 오름차순)
+     */
+    @Query("SELECT new org.example.domain.order.repository.ProductQuantity(oi.productId, SUM(oi.quantity)) " +
+           "FROM OrderItem oi WHERE oi.order.id IN :orderIds " +
+           "GROUP BY oi.productId ORDER BY oi.productId")
+    List<ProductQuantity> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,13 @@
+package org.example.domain.order.repository;
+
+/**
+ * 상품별 주문 수량 합계
+ *
+ * @param productId 상품 ID
+ * @param quantity  수량 합계
+ */
+public record ProductQuantity(
+        Long productId,
+        Long quantity
+) {
+}
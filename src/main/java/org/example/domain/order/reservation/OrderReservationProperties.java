@@ -0,0 +1,44 @@
+package org.example.domain.order.reservation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 재고 예약 설정
+ * <p>
+ * 켜져 있으면 결제 전(PENDING) 주문에 만료 일시를 기록하고,
+ * 만료된 주문을 주기적으로 취소하여 차감된 재고를 복구합니다.
+ * 아직 주문을 결제 완료(PAID)로 바꾸는 경로가 없으므로, 켜면 모든 주문이 {@code ttlMs} 후 취소됩니다.
+ * 결제 연동이 들어오기 전까지는 꺼 둡니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.reservation")
+public class OrderReservationProperties {
+
+    /** 재고 예약 만료 사용 여부 */
+    private boolean enabled = false;
+
+    /** 주문 생성 후 결제까지 재고를 잡아두는 시간 (밀리초) */
+    private long ttlMs = 1_800_000;
+
+    /** 만료 주문 정리 주기 (밀리초) */
+    private long sweepIntervalMs = 60_000;
+
+    /** 한 트랜잭션에서 정리할 최대 주문 수 */
+    private int chunkSize = 500;
+
+    /**
+     * 주문 생성 시각 기준 만료 일시 계산
+     *
+     * @param now 주문 생성 시각
+     * @return 만료 일시 (사용하지 않으면 null)
+     */
+    public LocalDateTime expiresAt(LocalDateTime now) {
+        return enabled ? now.plusNanos(ttlMs * 1_000_000) : null;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.domain.order.reservation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.event.OrderReservationsExpiredEvent;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.repository.ProductQuantity;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.domain.product.repository.ProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 만료 처리 서비스
+ * <p>
+ * 만료된 결제 전 주문을 청크 단위로 선점하여 취소하고 재고를 복구합니다.
+ * 주문 취소는 청크당 UPDATE 한 번, 재고 복구는 상품별 수량을 합산하여 청크당 상품마다 UPDATE 한 번으로 처리합니다.
+ * 재고 복구는 상품 ID 오름차순으로 진행하여 여러 상품 주문과 락 순서를 맞춥니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderReservationService {
+
+    private static final String EXPIRED_METRIC = "order.reservation.expired";
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 만료 주문 한 청크 취소
+     *
+     * @param now       기준 일시
+     * @param after     이전 청크의 마지막 위치
+     * @param chunkSize 최대 주문 수
+     * @return 다음 청크 위치 (더 처리할 주문이 없으면 null)
+     */
+    @Transactional
+    public ReservationCursor expireChunk(LocalDateTime now, ReservationCursor after, int chunkSize) {
+        // 1. 만료 주문 선점 (다른 트랜잭션이 잡은 주문은 건너뜀)
+        List<Order> orders = orderRepository.findExpiredForUpdate(
+                now, after.expiresAt(), after.orderId(), PageRequest.of(0, chunkSize));
+        if (orders.isEmpty()) {
+            return null;
+        }
+        Order last = orders.get(orders.size() - 1);
+        ReservationCursor next = orders.size() < chunkSize
+                ? null
+                : new ReservationCursor(last.getExpiresAt(), last.getId());
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+
+        // 2. 상품별 복구 수량 합산
+        Map<Long, Integer> restoredQuantities = new LinkedHashMap<>();
+        for (ProductQuantity productQuantity : orderRepository.sumQuantitiesByProduct(orderIds)) {
+            restoredQuantities.put(productQuantity.productId(), Math.toIntExact(productQuantity.quantity()));
+        }
+
+        // 3. 주문 일괄 취소
+        orderRepository.cancelPendingOrders(orderIds, now);
+
+        // 4. 상품마다 한 번씩 재고 복구 (상품 ID 오름차순)
+        restoredQuantities.forEach((productId, quantity) -> {
+            if (productRepository.increaseStock(productId, quantity, now) == 0) {
+                log.warn("만료 주문 재고 복구 대상 상품 없음: productId={}, quantity={}", productId, quantity);
+            }
+        });
+
+        // 5. 커밋 후 재고 게이트 등에 복구 수량 전달
+        eventPublisher.publishEvent(new OrderReservationsExpiredEvent(orderIds, restoredQuantities));
+        eventPublisher.publishEvent(ProductChangedEvent.of(restoredQuantities.keySet()));
+        meterRegistry.counter(EXPIRED_METRIC).increment(orderIds.size());
+
+        log.info("만료 주문 취소 완료: orders={}, products={}", orderIds.size(), restoredQuantities.size());
+        return next;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.domain.order.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 주문 정리 작업
+ * <p>
+ * 재고 예약이 만료된 결제 전 주문을 청크 단위로 취소합니다.
+ * 청크마다 별도 트랜잭션으로 처리하여 락을 오래 잡지 않으며, 처리 중 만료되는 주문은 다음 주기에 처리됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.reservation", name = "enabled", havingValue = "true")
+public class OrderReservationSweeper {
+
+    private final OrderReservationService reservationService;
+    private final OrderReservationProperties properties;
+
+    @Scheduled(fixedDelayString = "${order.reservation.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        ReservationCursor cursor = ReservationCursor.first();
+        try {
+            while (cursor != null) {
+                cursor = reservationService.expireChunk(now, cursor, properties.getChunkSize());
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료 주문 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.domain.order.reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 주문 정리 위치 (keyset)
+ * <p>
+ * (만료 일시, 주문 ID) 순서로 마지막에 처리한 주문을 가리키며, 다음 청크는 그 이후부터 조회합니다.
+ * </p>
+ *
+ * @param expiresAt 마지막 주문의 만료 일시
+ * @param orderId   마지막 주문 ID
+ */
+public record ReservationCursor(
+        LocalDateTime expiresAt,
+        Long orderId
+) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 처음부터 조회하는 위치
+     */
+    public static ReservationCursor first() {
+        return new ReservationCursor(EPOCH, 0L);
+    }
+}
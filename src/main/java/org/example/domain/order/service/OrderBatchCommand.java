@@ -0,0 +1,15 @@
+package org.example.domain.order.service;
+
+/**
+ * 묶음 주문 생성 단위
+ *
+ * @param buyerId  구매자 ID
+ * @param quantity 주문 수량
+ * @param orderId  미리 발급한 주문 ID (null이면 저장 시 발급)
+ */
+public record OrderBatchCommand(Long buyerId, int quantity, Long orderId) {
+
+    public OrderBatchCommand(Long buyerId, int quantity) {
+        this(buyerId, quantity, null);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.domain.order.service;
+
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.global.exception.ErrorCode;
+
+/**
+ * 묶음 주문 생성 결과 (요청 단위)
+ * <p>
+ * 성공하면 {@code response}, 실패하면 {@code errorCode}만 채워집니다.
+ * </p>
+ *
+ * @param response  생성된 주문 응답 DTO
+ * @param errorCode 실패 사유
+ */
+public record OrderBatchResult(OrderResponse response, ErrorCode errorCode) {
+
+    public static OrderBatchResult success(OrderResponse response) {
+        return new OrderBatchResult(response, null);
+    }
+
+    public static OrderBatchResult failure(ErrorCode errorCode) {
+        return new OrderBatchResult(null, errorCode);
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
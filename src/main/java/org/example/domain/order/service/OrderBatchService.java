@@ -0,0 +1,167 @@
+package org.example.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.reservation.OrderReservationProperties;
+import org.example.domain.order.stock.ProductLockMetrics;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 주문 서비스
+ * <p>
+ * 여러 주문을 하나의 트랜잭션으로 처리합니다.
+ * 상품 행 락은 상품마다 한 번만 잡고, 요청 순서대로 남은 재고 안에서 수락한 뒤 수락한 수량의 합만큼 한 번에 차감합니다.
+ * 주문 행은 한 번에 저장하여 JDBC 배치 INSERT가 가능하도록 합니다.
+ * </p>
+ * <p>
+ * 설정된 재고 전략({@code StockStrategyResolver})과 관계없이 항상 비관적 락으로 상품 행을 읽습니다.
+ * 요청별 수락 여부를 읽은 재고 하나로 결정하므로, 낙관적 락처럼 커밋 시 충돌하면 묶음 전체를 다시 처리해야 하고
+ * NOWAIT처럼 바로 실패하면 묶음 전체가 실패하기 때문입니다.
+ * 묶음마다 락을 한 번만 잡으므로 락 대기 비용은 요청 수가 아니라 묶음 수에 비례합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderBatchService {
+
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final OrderReservationProperties reservationProperties;
+    private final ProductLockMetrics lockMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 단일 상품 묶음 주문 생성
+     *
+     * @param productId 상품 ID
+     * @param commands  주문 요청 목록 (도착 순서)
+     * @return 요청 순서와 같은 순서의 요청별 결과
+     * @throws BusinessException PRODUCT_NOT_FOUND - 상품이 존재하지 않을 경우
+     */
+    @Transactional
+    public List<OrderBatchResult> createOrders(Long productId, List<OrderBatchCommand> commands) {
+        // 1. 상품 행 락 (묶음 전체에서 한 번)
+        Product product = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, productId,
+                        () -> productRepository.findByIdWithLock(productId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        // 2. 도착 순서대로 남은 재고 안에서 수락하고 수락 수량 합계만큼 한 번에 차감
+        List<Order> orders = accept(product, commands, reservationProperties.expiresAt(LocalDateTime.now()));
+
+        // 3. 주문 일괄 저장
+        List<Order> acceptedOrders = orders.stream().filter(Objects::nonNull).toList();
+        orderRepository.saveAll(acceptedOrders);
+
+        log.info("묶음 주문 생성 완료: productId={}, requested={}, accepted={}",
+                productId, commands.size(), acceptedOrders.size());
+
+        return toResults(orders);
+    }
+
+    /**
+     * 여러 상품 묶음 주문 생성
+     * <p>
+     * 모든 상품 행 락을 상품 ID 오름차순으로 한 번에 잡고, 상품마다 {@link #createOrders(Long, List)}와 같은 방식으로 수락합니다.
+     * 존재하지 않는 상품의 요청은 PRODUCT_NOT_FOUND로 실패 처리하고 나머지는 계속 처리합니다.
+     * </p>
+     *
+     * @param commandsByProduct 상품 ID별 주문 요청 목록 (도착 순서)
+     * @return 상품 ID별, 요청 순서와 같은 순서의 요청별 결과
+     */
+    @Transactional
+    public Map<Long, List<OrderBatchResult>> createOrders(SortedMap<Long, List<OrderBatchCommand>> commandsByProduct) {
+        // 1. 상품 행 락 (상품 ID 오름차순, 상품마다 한 번)
+        Map<Long, Product> products = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, commandsByProduct.keySet(),
+                        () -> productRepository.findAllByIdInWithLock(List.copyOf(commandsByProduct.keySet())))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 2. 상품마다 도착 순서대로 수락하고 한 번에 차감
+        LocalDateTime expiresAt = reservationProperties.expiresAt(LocalDateTime.now());
+        Map<Long, List<Order>> ordersByProduct = new LinkedHashMap<>();
+        List<Order> acceptedOrders = new ArrayList<>();
+        commandsByProduct.forEach((productId, commands) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                return;
+            }
+            List<Order> orders = accept(product, commands, expiresAt);
+            ordersByProduct.put(productId, orders);
+            orders.stream().filter(Objects::nonNull).forEach(acceptedOrders::add);
+        });
+
+        // 3. 모든 상품의 주문 일괄 저장
+        orderRepository.saveAll(acceptedOrders);
+
+        Map<Long, List<OrderBatchResult>> results = new LinkedHashMap<>();
+        commandsByProduct.forEach((productId, commands) -> {
+            List<Order> orders = ordersByProduct.get(productId);
+            results.put(productId, orders != null
+                    ? toResults(orders)
+                    : Collections.nCopies(commands.size(), OrderBatchResult.failure(ErrorCode.PRODUCT_NOT_FOUND)));
+        });
+
+        log.info("여러 상품 묶음 주문 생성 완료: products={}, accepted={}", commandsByProduct.size(), acceptedOrders.size());
+
+        return results;
+    }
+
+    /**
+     * 도착 순서대로 남은 재고 안에서 주문을 수락하고, 수락 수량 합계만큼 한 번에 차감
+     *
+     * @return 요청 순서와 같은 순서의 주문 (수락하지 않은 요청은 null)
+     */
+    private List<Order> accept(Product product, List<OrderBatchCommand> commands, LocalDateTime expiresAt) {
+        int remaining = product.getStockQuantity();
+        int acceptedQuantity = 0;
+        List<Order> orders = new ArrayList<>(commands.size());
+        for (OrderBatchCommand command : commands) {
+            if (command.quantity() > remaining) {
+                orders.add(null);
+                continue;
+            }
+            remaining -= command.quantity();
+            acceptedQuantity += command.quantity();
+            Order order = Order.create(command.buyerId(), product, command.quantity());
+            order.preassignId(command.orderId());
+            order.reserveUntil(expiresAt);
+            orders.add(order);
+        }
+
+        if (acceptedQuantity > 0) {
+            product.decreaseStock(acceptedQuantity);
+            eventPublisher.publishEvent(ProductChangedEvent.of(product.getId()));
+        }
+        return orders;
+    }
+
+    private List<OrderBatchResult> toResults(List<Order> orders) {
+        return orders.stream()
+                .map(order -> order != null
+                        ? OrderBatchResult.success(OrderResponse.from(order))
+                        : OrderBatchResult.failure(ErrorCode.INSUFFICIENT_STOCK))
+                .toList();
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.domain.order.service;
 
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
 import org.example.domain.order.dto.request.OrderCreateRequest;
 import org.example.domain.order.dto.response.OrderResponse;
 import org.example.global.common.PagingResponse;
 
+import java.util.Optional;
+
 /**
  * 주문 서비스
  * <p>
@@ -15,7 +18,7 @@ public interface OrderService {
     /**
      * 주문 생성
      * <p>
-     * 비관적 락으로 상품 재고를 차감하고 주문을 생성합니다.
+     * 설정된 재고 전략(비관적 락, 조건부 UPDATE)으로 상품 재고를 차감하고 주문을 생성합니다.
      * </p>
      *
      * @param request 주문 생성 요청 DTO (상품 ID, 수량)
@@ -26,6 +29,34 @@ public interface OrderService {
      */
     OrderResponse createOrder(OrderCreateRequest request, Long buyerId);
 
+    /**
+     * 미리 발급한 ID로 주문 생성
+     *
+     * @param request 주문 생성 요청 DTO (상품 ID, 수량)
+     * @param buyerId 구매자 ID
+     * @param orderId 미리 발급한 주문 ID (null이면 저장 시 발급)
+     * @return 생성된 주문 응답 DTO
+     * @throws org.example.global.exception.BusinessException PRODUCT_NOT_FOUND - 상품이 존재하지 않을 경우
+     * @throws org.example.global.exception.BusinessException INSUFFICIENT_STOCK - 재고가 부족할 경우
+     */
+    OrderResponse createOrder(OrderCreateRequest request, Long buyerId, Long orderId);
+
+    /**
+     * 여러 상품 주문 생성
+     * <p>
+     * 주문에 포함된 모든 상품을 상품 ID 오름차순으로 한 번에 잠그고 함께 검증/차감한 뒤,
+     * 주문 상품 전체를 포함한 주문 하나를 생성합니다. 상품 하나라도 실패하면 전체가 롤백됩니다.
+     * 같은 상품이 여러 줄이면 수량을 합산합니다.
+     * </p>
+     *
+     * @param request 여러 상품 주문 생성 요청 DTO
+     * @param buyerId 구매자 ID
+     * @return 생성된 주문 응답 DTO
+     * @throws org.example.global.exception.BusinessException PRODUCT_NOT_FOUND - 상품이 하나라도 존재하지 않을 경우
+     * @throws org.example.global.exception.BusinessException INSUFFICIENT_STOCK - 상품이 하나라도 재고가 부족할 경우
+     */
+    OrderResponse createCartOrder(OrderCartCreateRequest request, Long buyerId);
+
     /**
      * 내 주문 목록 조회
      *
@@ -36,6 +67,20 @@ public interface OrderService {
      */
     PagingResponse<OrderResponse> getMyOrders(Long buyerId, int page, int size);
 
+    /**
+     * 내 주문 목록 조회 (커서 방식)
+     * <p>
+     * 전체 개수 대신 다음 페이지 커서를 반환합니다. 페이지 사이에 주문이 추가되어도 결과가 밀리거나 중복되지 않습니다.
+     * </p>
+     *
+     * @param buyerId 구매자 ID
+     * @param cursor  이전 응답의 다음 페이지 커서 (없으면 가장 최근 주문부터)
+     * @param size    페이지 크기
+     * @return 커서 방식으로 페이징된 주문 목록
+     * @throws org.example.global.exception.BusinessException INVALID_INPUT_VALUE - 커서 형식이 잘못된 경우
+     */
+    PagingResponse<OrderResponse> getMyOrdersByCursor(Long buyerId, String cursor, int size);
+
     /**
      * 주문 상세 조회
      *
@@ -46,10 +91,22 @@ public interface OrderService {
      */
     OrderResponse getOrder(Long orderId, Long buyerId);
 
+    /**
+     * 주문 상세 ETag 조회
+     * <p>
+     * 주문 전체를 읽지 않고 수정 일시만 조회하여 만듭니다.
+     * </p>
+     *
+     * @param orderId 주문 ID
+     * @param buyerId 구매자 ID (본인 확인용)
+     * @return ETag Optional (주문이 없거나 본인 주문이 아니면 empty)
+     */
+    Optional<String> getOrderEntityTag(Long orderId, Long buyerId);
+
     /**
      * 주문 취소
      * <p>
-     * 비관적 락으로 재고를 복구하고 주문을 취소합니다.
+     * 상태 검사와 취소를 단일 UPDATE로 수행하고, 취소에 성공한 경우에만 원자적 증가로 재고를 복구합니다.
      * PENDING, PAID 상태에서만 취소 가능합니다.
      * </p>
      *
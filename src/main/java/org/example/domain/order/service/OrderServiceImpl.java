@@ -2,47 +2,88 @@ package org.example.domain.order.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
 import org.example.domain.order.dto.request.OrderCreateRequest;
 import org.example.domain.order.dto.response.OrderResponse;
 import org.example.domain.order.entity.Order;
 import org.example.domain.order.entity.OrderItem;
+import org.example.domain.order.entity.OrderStatus;
+import org.example.domain.order.event.OrderCancelledEvent;
 import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.repository.ProductQuantity;
+import org.example.domain.order.reservation.OrderReservationProperties;
+import org.example.domain.order.stock.HotProductDetector;
+import org.example.domain.order.stock.ProductLockMetrics;
+import org.example.domain.order.stock.StockStrategyResolver;
 import org.example.domain.product.entity.Product;
+import org.example.domain.product.event.ProductChangedEvent;
 import org.example.domain.product.repository.ProductRepository;
+import org.example.global.common.CursorInfo;
+import org.example.global.common.EntityTags;
+import org.example.global.common.KeysetCursor;
 import org.example.global.common.PagingInfo;
 import org.example.global.common.PagingResponse;
+import org.example.global.bulkhead.DbBulkhead;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
+import org.example.global.trace.PhaseTracer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@DbBulkhead
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final String ORDER_RESOURCE = "order";
+
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final StockStrategyResolver stockStrategyResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderReservationProperties reservationProperties;
+    private final HotProductDetector hotProductDetector;
+    private final ProductLockMetrics lockMetrics;
+    private final PhaseTracer phaseTracer;
 
     @Override
     @Transactional
     public OrderResponse createOrder(OrderCreateRequest request, Long buyerId) {
-        // 1. 비관적 락으로 상품 조회 (SELECT FOR UPDATE)
-        Product product = productRepository.findByIdWithLock(request.getProductId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        return createOrder(request, buyerId, null);
+    }
+
+    @Override
+    @Transactional
+    public OrderResponse createOrder(OrderCreateRequest request, Long buyerId, Long orderId) {
+        phaseTracer.traceCommit("order.commit");
 
-        // 2. 재고 차감 (락 걸린 상태에서 안전하게 처리)
-        product.decreaseStock(request.getQuantity());
+        // 1. 설정된 재고 전략으로 재고 차감 (비관적 락 또는 조건부 UPDATE)
+        Product product = phaseTracer.trace("order.stock", () -> stockStrategyResolver.resolve(request.getProductId())
+                .decrease(request.getProductId(), request.getQuantity()));
 
-        // 3. 주문 생성
+        // 2. 주문 생성 (결제 전까지 재고 예약)
         Order order = Order.create(buyerId, product, request.getQuantity());
+        order.preassignId(orderId);
+        order.reserveUntil(reservationProperties.expiresAt(LocalDateTime.now()));
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(ProductChangedEvent.of(request.getProductId()));
 
         log.info("주문 생성 완료: orderId={}, buyerId={}, productId={}, quantity={}",
                 savedOrder.getId(), buyerId, request.getProductId(), request.getQuantity());
@@ -50,12 +91,44 @@ public class OrderServiceImpl implements OrderService {
         return OrderResponse.from(savedOrder);
     }
 
+    @Override
+    @Transactional
+    public OrderResponse createCartOrder(OrderCartCreateRequest request, Long buyerId) {
+        phaseTracer.traceCommit("order.commit");
+
+        // 1. 상품 ID 오름차순 정렬 (락 획득 순서 통일로 데드락 방지)
+        Map<Long, Integer> requestedQuantities = request.toQuantities();
+        SortedMap<Long, Integer> quantities = new TreeMap<>(requestedQuantities);
+
+        // 2. 모든 상품 재고 함께 검증 및 차감
+        Map<Long, Product> products = phaseTracer.trace("order.stock",
+                () -> stockStrategyResolver.resolveAll(quantities.keySet()).decreaseAll(quantities));
+
+        // 3. 주문 생성 (주문 상품은 요청 순서대로, 결제 전까지 재고 예약)
+        List<OrderItem> orderItems = requestedQuantities.entrySet().stream()
+                .map(entry -> OrderItem.createFromProduct(products.get(entry.getKey()), entry.getValue()))
+                .toList();
+        Order order = Order.create(buyerId, orderItems);
+        order.reserveUntil(reservationProperties.expiresAt(LocalDateTime.now()));
+        Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(ProductChangedEvent.of(quantities.keySet()));
+
+        log.info("여러 상품 주문 생성 완료: orderId={}, buyerId={}, quantities={}",
+                savedOrder.getId(), buyerId, quantities);
+
+        return OrderResponse.from(savedOrder);
+    }
+
     @Override
     public PagingResponse<OrderResponse> getMyOrders(Long buyerId, int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Order> orderPage = orderRepository.findByBuyerId(buyerId, pageRequest);
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
 
-        List<OrderResponse> content = orderPage.getContent().stream()
+        // 1. 한 페이지의 주문 ID만 DB에서 LIMIT으로 조회
+        Page<Long> orderPage = orderRepository.findIdsByBuyerId(buyerId, pageRequest);
+
+        // 2. 해당 주문만 주문 상품과 함께 조회하여 페이지 순서대로 정렬
+        List<OrderResponse> content = findWithItemsInOrder(orderPage.getContent()).stream()
                 .map(OrderResponse::from)
                 .toList();
 
@@ -68,6 +141,32 @@ public class OrderServiceImpl implements OrderService {
         return new PagingResponse<>(pagingInfo, content);
     }
 
+    @Override
+    public PagingResponse<OrderResponse> getMyOrdersByCursor(Long buyerId, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        // 1. 커서 이후의 주문 ID를 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        List<Long> orderIds = orderRepository.findIdsByBuyerIdBefore(
+                buyerId, position.createdAt(), position.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = orderIds.size() > size;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, size);
+        }
+
+        // 2. 해당 주문만 주문 상품과 함께 조회하여 페이지 순서대로 정렬
+        List<Order> orders = findWithItemsInOrder(orderIds);
+        List<OrderResponse> content = orders.stream()
+                .map(OrderResponse::from)
+                .toList();
+
+        Order last = orders.isEmpty() ? null : orders.get(orders.size() - 1);
+        String nextCursor = hasNext && last != null
+                ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode()
+                : null;
+
+        return PagingResponse.ofCursor(new CursorInfo(size, nextCursor, nextCursor != null), content);
+    }
+
     @Override
     public OrderResponse getOrder(Long orderId, Long buyerId) {
         Order order = orderRepository.findByIdAndBuyerIdWithItems(orderId, buyerId)
@@ -76,28 +175,70 @@ public class OrderServiceImpl implements OrderService {
         return OrderResponse.from(order);
     }
 
+    @Override
+    public Optional<String> getOrderEntityTag(Long orderId, Long buyerId) {
+        return orderRepository.findUpdatedAtByIdAndBuyerId(orderId, buyerId)
+                .map(updatedAt -> EntityTags.of(ORDER_RESOURCE, orderId, updatedAt));
+    }
+
     @Override
     @Transactional
     public void cancelOrder(Long orderId, Long buyerId) {
-        // 1. 주문 조회 (아이템 포함)
-        Order order = orderRepository.findByIdWithItems(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        LocalDateTime now = LocalDateTime.now();
 
-        // 2. 본인 주문인지 확인
-        if (!order.getBuyerId().equals(buyerId)) {
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
+        // 1. 상태 검사와 변경을 단일 UPDATE로 수행 (동시 취소 중 하나만 성공)
+        if (orderRepository.cancelIfCancellable(orderId, buyerId, OrderStatus.CANCELLABLE, now) == 0) {
+            throw cancelFailure(orderId, buyerId);
         }
 
-        // 3. 주문 취소 (상태 검증 포함)
-        order.cancel();
-
-        // 4. 비관적 락으로 상품 조회 후 재고 복구
-        for (OrderItem item : order.getOrderItems()) {
-            Product product = productRepository.findByIdWithLock(item.getProductId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-            product.increaseStock(item.getQuantity());
+        // 2. 상품별 수량을 합산하여 상품마다 원자적 증가로 재고 복구 (상품 ID 오름차순)
+        Map<Long, Integer> restoredQuantities = new LinkedHashMap<>();
+        for (ProductQuantity productQuantity : orderRepository.sumQuantitiesByProduct(List.of(orderId))) {
+            restoredQuantities.put(productQuantity.productId(), Math.toIntExact(productQuantity.quantity()));
         }
+        restoredQuantities.forEach((productId, quantity) -> {
+            hotProductDetector.record(productId);
+            int updated = lockMetrics.lock(ProductLockMetrics.CANCEL_OPERATION, productId,
+                    () -> productRepository.increaseStock(productId, quantity, now));
+            if (updated == 0) {
+                log.warn("취소 주문 재고 복구 대상 상품 없음: productId={}, quantity={}", productId, quantity);
+            }
+        });
+
+        // 3. 커밋 후 재고 게이트 등에 복구 수량 전달
+        eventPublisher.publishEvent(new OrderCancelledEvent(orderId, restoredQuantities));
+        eventPublisher.publishEvent(ProductChangedEvent.of(restoredQuantities.keySet()));
 
         log.info("주문 취소 완료: orderId={}, buyerId={}", orderId, buyerId);
     }
+
+    /**
+     * 취소 UPDATE가 실패한 원인에 맞는 예외 생성
+     */
+    private BusinessException cancelFailure(Long orderId, Long buyerId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        if (!order.getBuyerId().equals(buyerId)) {
+            return new BusinessException(ErrorCode.ACCESS_DENIED);
+        }
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return new BusinessException(ErrorCode.ORDER_ALREADY_CANCELLED);
+        }
+        return new BusinessException(ErrorCode.ORDER_CANNOT_CANCEL);
+    }
+
+    /**
+     * 주문 ID 목록 순서대로 주문 조회 (주문 상품 포함)
+     */
+    private List<Order> findWithItemsInOrder(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return orderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
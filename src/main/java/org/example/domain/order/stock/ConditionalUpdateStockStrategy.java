@@ -0,0 +1,46 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 UPDATE 재고 전략
+ * <p>
+ * {@code UPDATE ... WHERE stock_quantity >= :quantity} 한 문장으로 재고 검증과 차감을 처리하고,
+ * 영향 받은 행 수로 성공 여부를 판단합니다.
+ * 엔티티를 잠금 상태로 읽지 않으므로 행 락은 UPDATE 시점부터 커밋까지만 유지됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateStockStrategy implements StockStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public Product decrease(Long productId, int quantity) {
+        StockStrategy.requirePositive(quantity);
+        int updated = productRepository.decreaseStock(productId, quantity, LocalDateTime.now());
+        if (updated == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+            }
+            throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        // UPDATE 이후 조회하므로 차감이 반영된 상품을 스냅샷으로 사용
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+}
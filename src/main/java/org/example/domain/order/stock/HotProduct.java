@@ -0,0 +1,13 @@
+package org.example.domain.order.stock;
+
+/**
+ * 경합 상품
+ *
+ * @param productId      상품 ID
+ * @param estimatedCount 최근 구간의 주문 생성/취소 요청 수 (추정치, 실제보다 작지 않음)
+ */
+public record HotProduct(
+        Long productId,
+        long estimatedCount
+) {
+}
@@ -0,0 +1,179 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 경합 상품 감지기
+ * <p>
+ * 상품별 주문 생성/취소 요청 수를 최근 구간(sliding window) 단위로 셉니다.
+ * 구간을 여러 칸으로 나누고 칸마다 count-min sketch를 두어, 상품 수와 관계없이 고정된 메모리만 사용하며
+ * 요청마다 객체를 만들지 않습니다. 오래된 칸은 다시 쓸 차례가 되면 비웁니다.
+ * 추정치는 실제 요청 수보다 작지 않으므로 경합 상품을 놓치지 않으며, 해시 충돌로 조용한 상품이 경합 상품으로 보일 수는 있습니다.
+ * 임계치를 넘은 상품만 후보로 따로 기억하여 조회에 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class HotProductDetector {
+
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final StockProperties.Hotness hotness;
+    private final LongSupplier clock;
+    private final int width;
+    private final int depth;
+    private final int buckets;
+    private final long bucketMs;
+
+    /** [칸][행][열] 카운터 */
+    private final AtomicLongArray counts;
+    /** 칸마다 담고 있는 구간 번호 */
+    private final AtomicLongArray bucketEpochs;
+    /** 임계치를 넘은 적이 있는 상품 (상품 ID → 마지막 추정치) */
+    private final ConcurrentMap<Long, Long> candidates = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HotProductDetector(StockProperties properties, MeterRegistry meterRegistry) {
+        this(properties, System::currentTimeMillis);
+        Gauge.builder("order.stock.hot.products", this, detector -> detector.getHotProducts().size())
+                .register(meterRegistry);
+    }
+
+    HotProductDetector(StockProperties properties, LongSupplier clock) {
+        this.hotness = properties.getHotness();
+        this.clock = clock;
+        this.width = Math.max(1, hotness.getSketchWidth());
+        this.depth = Math.min(ROW_SEEDS.length, Math.max(1, hotness.getSketchDepth()));
+        this.buckets = Math.max(1, hotness.getWindowBuckets());
+        this.bucketMs = Math.max(1, hotness.getWindowMs() / buckets);
+        this.counts = new AtomicLongArray(buckets * depth * width);
+        this.bucketEpochs = new AtomicLongArray(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketEpochs.set(bucket, -1);
+        }
+    }
+
+    public boolean isEnabled() {
+        return hotness.getRateThreshold() > 0;
+    }
+
+    /**
+     * 주문 생성/취소 요청 기록
+     *
+     * @param productId 상품 ID
+     */
+    public void record(Long productId) {
+        if (!isEnabled()) {
+            return;
+        }
+        long epoch = clock.getAsLong() / bucketMs;
+        int bucket = advance(epoch);
+        for (int row = 0; row < depth; row++) {
+            counts.incrementAndGet(index(bucket, row, column(productId, row)));
+        }
+
+        long estimate = estimate(productId, epoch);
+        if (estimate >= hotness.getRateThreshold() && candidates.put(productId, estimate) == null) {
+            log.info("경합 상품 감지: productId={}, estimatedCount={}, windowMs={}",
+                    productId, estimate, hotness.getWindowMs());
+        }
+    }
+
+    /**
+     * 경합 상품 여부 확인
+     *
+     * @param productId 상품 ID
+     * @return 최근 구간 요청 수가 임계치 이상이면 true
+     */
+    public boolean isHot(Long productId) {
+        return isEnabled()
+                && candidates.containsKey(productId)
+                && estimate(productId, clock.getAsLong() / bucketMs) >= hotness.getRateThreshold();
+    }
+
+    /**
+     * 현재 경합 상품 목록 조회 (요청 수 내림차순, 최대 topK개)
+     * <p>
+     * 더 이상 임계치를 넘지 않는 후보는 이때 제거합니다.
+     * </p>
+     *
+     * @return 경합 상품 목록
+     */
+    public List<HotProduct> getHotProducts() {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        long epoch = clock.getAsLong() / bucketMs;
+        candidates.replaceAll((productId, previous) -> estimate(productId, epoch));
+        candidates.values().removeIf(estimate -> estimate < hotness.getRateThreshold());
+        return candidates.entrySet().stream()
+                .map(entry -> new HotProduct(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(HotProduct::estimatedCount).reversed())
+                .limit(Math.max(0, hotness.getTopK()))
+                .toList();
+    }
+
+    /**
+     * 현재 구간 칸 확보 (다른 구간을 담고 있던 칸이면 비움)
+     */
+    private int advance(long epoch) {
+        int bucket = (int) (epoch % buckets);
+        if (bucketEpochs.get(bucket) != epoch) {
+            synchronized (this) {
+                if (bucketEpochs.get(bucket) != epoch) {
+                    int from = index(bucket, 0, 0);
+                    for (int i = from; i < from + depth * width; i++) {
+                        counts.set(i, 0);
+                    }
+                    bucketEpochs.set(bucket, epoch);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * 최근 구간 요청 수 추정 (행마다 구간 내 칸의 합을 구해 그중 최솟값)
+     */
+    private long estimate(Long productId, long epoch) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = column(productId, row);
+            long sum = 0;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                long bucketEpoch = bucketEpochs.get(bucket);
+                if (bucketEpoch > epoch - buckets && bucketEpoch <= epoch) {
+                    sum += counts.get(index(bucket, row, column));
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private int index(int bucket, int row, int column) {
+        return (bucket * depth + row) * width + column;
+    }
+
+    private int column(Long productId, int row) {
+        long hash = productId * ROW_SEEDS[row];
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경합 상품 조회 Actuator 엔드포인트 (/actuator/hotproducts)
+ */
+@Component
+@Endpoint(id = "hotproducts")
+@RequiredArgsConstructor
+public class HotProductsEndpoint {
+
+    private final HotProductDetector hotProductDetector;
+    private final StockProperties stockProperties;
+
+    @ReadOperation
+    public Map<String, Object> hotProducts() {
+        StockProperties.Hotness hotness = stockProperties.getHotness();
+        List<HotProduct> products = hotProductDetector.getHotProducts();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", hotProductDetector.isEnabled());
+        body.put("rateThreshold", hotness.getRateThreshold());
+        body.put("windowMs", hotness.getWindowMs());
+        body.put("strategy", hotness.getStrategy());
+        body.put("products", products);
+        return body;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 대기 없는 비관적 락 재고 전략
+ * <p>
+ * {@code SELECT ... FOR UPDATE NOWAIT}(설정 시 {@code SKIP LOCKED})로 상품 행을 잠급니다.
+ * 다른 요청이 행을 잠그고 있으면 락을 기다리며 커넥션을 붙잡지 않고 바로 ORDER_PRODUCT_BUSY로 실패합니다.
+ * 선착순 판매 상품처럼 기다려도 대부분 실패할 요청이 몰리는 상품에 지정합니다.
+ * 주문 취소 시 재고 복구는 이 전략을 거치지 않고 원자적 UPDATE({@code increaseStock})로 처리되므로 락을 기다리지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NoWaitLockStockStrategy implements StockStrategy {
+
+    private final ProductRepository productRepository;
+    private final ProductLockMetrics lockMetrics;
+    private final StockProperties stockProperties;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.PESSIMISTIC_NOWAIT;
+    }
+
+    @Override
+    public Product decrease(Long productId, int quantity) {
+        Product product = lockWithoutWaiting(productId);
+        product.decreaseStock(quantity);
+        return product;
+    }
+
+    private Product lockWithoutWaiting(Long productId) {
+        boolean skipLocked = stockProperties.getNoWait().isSkipLocked();
+        Optional<Product> product;
+        try {
+            product = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, productId, () -> skipLocked
+                    ? productRepository.findByIdWithLockSkipLocked(productId)
+                    : productRepository.findByIdWithLockNoWait(productId));
+        } catch (PessimisticLockingFailureException e) {
+            throw new BusinessException(ErrorCode.ORDER_PRODUCT_BUSY);
+        }
+
+        if (product.isPresent()) {
+            return product.get();
+        }
+        // SKIP LOCKED는 잠긴 행과 없는 행을 구분하지 않음
+        if (skipLocked && productRepository.existsById(productId)) {
+            throw new BusinessException(ErrorCode.ORDER_PRODUCT_BUSY);
+        }
+        throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+    }
+}
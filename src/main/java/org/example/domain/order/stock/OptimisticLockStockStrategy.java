@@ -0,0 +1,38 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 락 재고 전략
+ * <p>
+ * 락 없이 상품을 조회해 재고를 변경하고, 즉시 flush하여 버전 충돌을 확인합니다.
+ * 충돌 시 {@link org.springframework.dao.OptimisticLockingFailureException}이 발생하며
+ * 트랜잭션 바깥({@link org.example.domain.order.facade.OrderFacade})에서 재시도합니다.
+ * 경합이 드문 상품에서 락 대기 없이 처리하기 위한 전략입니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockStockStrategy implements StockStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.OPTIMISTIC_LOCK;
+    }
+
+    @Override
+    public Product decrease(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        product.decreaseStock(quantity);
+        productRepository.flush();
+        return product;
+    }
+}
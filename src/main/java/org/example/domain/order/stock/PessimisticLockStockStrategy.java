@@ -0,0 +1,68 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 비관적 락 재고 전략
+ * <p>
+ * SELECT ... FOR UPDATE로 상품 행을 잠근 뒤 엔티티를 변경하고, 커밋 시 변경 감지로 반영합니다.
+ * 락은 조회 시점부터 커밋까지 유지되며, 대기/보유 시간은 {@link ProductLockMetrics}로 기록합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockStockStrategy implements StockStrategy {
+
+    private final ProductRepository productRepository;
+    private final ProductLockMetrics lockMetrics;
+
+    @Override
+    public StockStrategyType getType() {
+        return StockStrategyType.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public Product decrease(Long productId, int quantity) {
+        Product product = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, productId,
+                        () -> productRepository.findByIdWithLock(productId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        product.decreaseStock(quantity);
+        return product;
+    }
+
+    /**
+     * 여러 상품 재고 차감
+     * <p>
+     * 상품 ID 오름차순 {@code SELECT ... FOR UPDATE} 한 번으로 모든 상품을 잠근 뒤 한꺼번에 검증하고 차감합니다.
+     * </p>
+     */
+    @Override
+    public Map<Long, Product> decreaseAll(SortedMap<Long, Integer> quantities) {
+        quantities.values().forEach(StockStrategy::requirePositive);
+        List<Product> lockedProducts = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, quantities.keySet(),
+                () -> productRepository.findAllByIdInWithLock(List.copyOf(quantities.keySet())));
+        if (lockedProducts.size() != quantities.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (Product product : lockedProducts) {
+            if (product.getStockQuantity() < quantities.get(product.getId())) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+            }
+            products.put(product.getId(), product);
+        }
+        products.forEach((productId, product) -> product.decreaseStock(quantities.get(productId)));
+        return products;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 상품별 동시 주문 수 제한
+ * <p>
+ * 트랜잭션을 시작하기 전에 상품마다 동시에 처리할 주문 수를 제한합니다.
+ * 허용 수를 넘는 요청은 행 락을 기다리며 커넥션을 붙잡는 대신 바로 ORDER_PRODUCT_BUSY로 실패합니다.
+ * 상품마다 세마포어를 만들지 않고 상품 ID 해시로 고정 개수의 세마포어를 나누어 씁니다(striped).
+ * 같은 세마포어를 쓰는 상품끼리는 허용 수를 공유하므로 stripes는 동시에 주문이 몰리는 상품 수보다 넉넉하게 잡습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductAdmission {
+
+    private static final String REJECTED_METRIC = "order.stock.admission.rejected";
+    private static final Permit NOOP = () -> {
+    };
+
+    private final StockProperties.Admission admission;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore[] stripes;
+
+    public ProductAdmission(StockProperties properties, MeterRegistry meterRegistry) {
+        this.admission = properties.getAdmission();
+        this.meterRegistry = meterRegistry;
+        this.stripes = new Semaphore[Math.max(1, admission.getStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Semaphore(Math.max(1, admission.getMaxWaiters()));
+        }
+    }
+
+    public boolean isEnabled() {
+        return admission.getMaxWaiters() > 0;
+    }
+
+    /**
+     * 상품 주문 처리 허용 획득
+     * <p>
+     * 여러 상품이면 세마포어 번호 오름차순으로 획득하며, 같은 세마포어는 한 번만 획득합니다.
+     * 하나라도 실패하면 이미 획득한 허용을 반환하고 실패합니다.
+     * </p>
+     *
+     * @param productIds 상품 ID 목록
+     * @return 처리가 끝나면 닫아야 하는 허용
+     * @throws BusinessException ORDER_PRODUCT_BUSY - 허용 수를 넘을 경우
+     */
+    public Permit acquire(Collection<Long> productIds) {
+        if (!isEnabled()) {
+            return NOOP;
+        }
+
+        int[] indexes = productIds.stream()
+                .mapToInt(this::stripe)
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int acquired = 0; acquired < indexes.length; acquired++) {
+            if (!stripes[indexes[acquired]].tryAcquire()) {
+                release(indexes, acquired);
+                meterRegistry.counter(REJECTED_METRIC).increment();
+                log.debug("상품 동시 주문 수 초과로 거절: productIds={}", productIds);
+                throw new BusinessException(ErrorCode.ORDER_PRODUCT_BUSY);
+            }
+        }
+        return () -> release(indexes, indexes.length);
+    }
+
+    private void release(int[] indexes, int count) {
+        for (int i = 0; i < count; i++) {
+            stripes[indexes[i]].release();
+        }
+    }
+
+    private int stripe(Long productId) {
+        long hash = productId * 0x9E3779B97F4A7C15L;
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) stripes.length);
+    }
+
+    /**
+     * 주문 처리 허용 (닫으면 반환)
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
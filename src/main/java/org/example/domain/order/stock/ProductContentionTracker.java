@@ -0,0 +1,47 @@
+package org.example.domain.order.stock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 상품별 경합 추적기
+ * <p>
+ * 상품별로 현재 처리 중인 주문 수를 셉니다.
+ * 동시 주문 수가 임계치 이상인 상품은 경합이 심한 상품으로 보고 별도 재고 전략을 적용합니다.
+ * </p>
+ */
+@Component
+public class ProductContentionTracker {
+
+    private final ConcurrentMap<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 처리 시작
+     *
+     * @param productId 상품 ID
+     */
+    public void enter(Long productId) {
+        inFlight.merge(productId, 1, Integer::sum);
+    }
+
+    /**
+     * 주문 처리 종료
+     *
+     * @param productId 상품 ID
+     */
+    public void exit(Long productId) {
+        inFlight.computeIfPresent(productId, (id, count) -> count <= 1 ? null : count - 1);
+    }
+
+    /**
+     * 현재 처리 중인 주문 수 조회
+     *
+     * @param productId 상품 ID
+     * @return 처리 중인 주문 수
+     */
+    public int getInFlight(Long productId) {
+        return inFlight.getOrDefault(productId, 0);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.LockTimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 상품 행 락 메트릭
+ * <p>
+ * 상품 행 락을 잡는 쿼리를 감싸 다음을 기록합니다. 두 타이머는 percentile histogram을 함께 내보냅니다.
+ * <ul>
+ *     <li>{@code order.stock.lock.acquire}: 락 획득 대기 시간 (outcome=acquired/failed)</li>
+ *     <li>{@code order.stock.lock.hold}: 첫 락 획득부터 트랜잭션 종료까지 락 보유 시간 (outcome=committed/rolled_back)</li>
+ *     <li>{@code order.stock.lock.failures}: 락 획득 실패 수 (type=timeout/deadlock/other)</li>
+ * </ul>
+ * 모든 메트릭은 operation 태그(create: 재고 전략의 차감 락, cancel: 주문 취소의 재고 복구 UPDATE)를 가지며, 설정에 따라 경합 상품은 product 태그에 상품 ID를 남깁니다.
+ * 트랜잭션 안에서 호출해야 보유 시간이 기록됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductLockMetrics {
+
+    public static final String CREATE_OPERATION = "create";
+    public static final String CANCEL_OPERATION = "cancel";
+
+    private static final String ACQUIRE_METRIC = "order.stock.lock.acquire";
+    private static final String HOLD_METRIC = "order.stock.lock.hold";
+    private static final String FAILURE_METRIC = "order.stock.lock.failures";
+    private static final String OTHER_PRODUCT = "other";
+
+    /** MySQL 락 대기 타임아웃(1205), NOWAIT 실패(3572), H2 락 타임아웃(50200) */
+    private static final List<Integer> LOCK_TIMEOUT_ERROR_CODES = List.of(1205, 3572, 50200);
+    /** MySQL 데드락 */
+    private static final int DEADLOCK_ERROR_CODE = 1213;
+    /** 직렬화 실패 (MySQL, H2 모두 데드락 시 사용) */
+    private static final String DEADLOCK_SQL_STATE = "40001";
+
+    private final MeterRegistry meterRegistry;
+    private final StockProperties stockProperties;
+    private final HotProductDetector hotProductDetector;
+
+    /**
+     * 상품 행 락 쿼리 실행 및 기록
+     *
+     * @param operation  작업 종류 ({@link #CREATE_OPERATION}, {@link #CANCEL_OPERATION})
+     * @param productIds 락을 잡는 상품 ID 목록
+     * @param lockQuery  락을 잡는 쿼리
+     * @return 쿼리 결과
+     */
+    public <T> T lock(String operation, Collection<Long> productIds, Supplier<T> lockQuery) {
+        String product = productTag(productIds);
+        long startedAt = System.nanoTime();
+        try {
+            T result = lockQuery.get();
+            acquireTimer(operation, product, "acquired").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            recordHoldOnCompletion(operation, product);
+            return result;
+        } catch (PessimisticLockingFailureException | LockTimeoutException e) {
+            acquireTimer(operation, product, "failed").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            String type = failureType(e);
+            Counter.builder(FAILURE_METRIC)
+                    .description("상품 행 락 획득 실패 수")
+                    .tags("operation", operation, "product", product, "type", type)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("상품 행 락 획득 실패: operation={}, productIds={}, type={}", operation, productIds, type);
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 행 락 쿼리 실행 및 기록 (단일 상품)
+     *
+     * @param operation 작업 종류 ({@link #CREATE_OPERATION}, {@link #CANCEL_OPERATION})
+     * @param productId 락을 잡는 상품 ID
+     * @param lockQuery 락을 잡는 쿼리
+     * @return 쿼리 결과
+     */
+    public <T> T lock(String operation, Long productId, Supplier<T> lockQuery) {
+        return lock(operation, List.of(productId), lockQuery);
+    }
+
+    /**
+     * 트랜잭션 종료 시 보유 시간 기록 (트랜잭션마다 첫 락 기준으로 한 번)
+     */
+    private void recordHoldOnCompletion(String operation, String product) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        long acquiredAt = System.nanoTime();
+        TransactionSynchronizationManager.bindResource(this, acquiredAt);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ProductLockMetrics.this);
+                String outcome = status == STATUS_COMMITTED ? "committed" : "rolled_back";
+                Timer.builder(HOLD_METRIC)
+                        .description("상품 행 락 보유 시간 (첫 락 획득부터 트랜잭션 종료까지)")
+                        .tags("operation", operation, "product", product, "outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private Timer acquireTimer(String operation, String product, String outcome) {
+        return Timer.builder(ACQUIRE_METRIC)
+                .description("상품 행 락 획득 대기 시간")
+                .tags("operation", operation, "product", product, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String productTag(Collection<Long> productIds) {
+        if (!stockProperties.getLockMetrics().isTagHotProducts()) {
+            return OTHER_PRODUCT;
+        }
+        return productIds.stream()
+                .filter(hotProductDetector::isHot)
+                .findFirst()
+                .map(String::valueOf)
+                .orElse(OTHER_PRODUCT);
+    }
+
+    /**
+     * 실패 원인 분류 (원인 예외의 SQL 오류 코드 우선)
+     */
+    static String failureType(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                if (sqlException.getErrorCode() == DEADLOCK_ERROR_CODE
+                        || DEADLOCK_SQL_STATE.equals(sqlException.getSQLState())) {
+                    return "deadlock";
+                }
+                if (LOCK_TIMEOUT_ERROR_CODES.contains(sqlException.getErrorCode())) {
+                    return "timeout";
+                }
+            }
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotAcquireLockException || cause instanceof LockTimeoutException) {
+                return "timeout";
+            }
+        }
+        return "other";
+    }
+}
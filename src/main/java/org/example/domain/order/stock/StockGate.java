@@ -0,0 +1,205 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.event.OrderCancelledEvent;
+import org.example.domain.order.event.OrderReservationsExpiredEvent;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.domain.product.repository.ProductRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 게이트
+ * <p>
+ * 상품별 Redis 카운터를 Lua 스크립트로 원자적으로 선차감하여,
+ * 재고가 없는 주문 요청을 DB 락 대기열에 들어가기 전에 거절합니다.
+ * DB({@link Product#getStockQuantity()})가 재고의 기준이며 카운터는 상한 필터로만 사용됩니다.
+ * 카운터가 DB보다 많으면 DB 경로에서 걸러지고, 적으면 {@link StockGateReconciler}가 주기적으로 바로잡습니다.
+ * 판매자가 상품을 수정/삭제하면 커밋 후 해당 카운터를 지워, 다음 주문에서 바뀐 DB 재고로 다시 초기화합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockGate {
+
+    private static final RedisScript<Long> ACQUIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stock-gate-acquire.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stock-gate-release.lua"), Long.class);
+
+    private static final long ACQUIRED = 1L;
+    private static final long UNINITIALIZED = -1L;
+    private static final String TRACKED_PRODUCTS_SUFFIX = "products";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final StockGateProperties properties;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 재고 카운터 선차감
+     * <p>
+     * 카운터가 없으면 DB 재고로 초기화한 뒤 한 번 더 시도합니다.
+     * Redis 장애 시에는 주문을 막지 않도록 게이트를 우회합니다.
+     * </p>
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @return 선차감 결과
+     */
+    public StockGateResult tryAcquire(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        try {
+            Long result = executeAcquire(sorted);
+            if (result != null && result == UNINITIALIZED) {
+                initializeCounters(sorted.keySet());
+                result = executeAcquire(sorted);
+            }
+            if (result == null || result == UNINITIALIZED) {
+                return StockGateResult.BYPASSED;
+            }
+            return result == ACQUIRED ? StockGateResult.ACQUIRED : StockGateResult.REJECTED;
+        } catch (DataAccessException e) {
+            log.warn("재고 게이트 선차감 실패, 게이트 우회: productIds={}, message={}", sorted.keySet(), e.getMessage());
+            return StockGateResult.BYPASSED;
+        }
+    }
+
+    /**
+     * 선차감한 재고 카운터 반환
+     *
+     * @param quantities 상품 ID별 반환 수량
+     */
+    public void release(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, counterKeys(sorted.keySet()), quantityArgs(sorted));
+        } catch (DataAccessException e) {
+            log.warn("재고 게이트 반환 실패: productIds={}, message={}", sorted.keySet(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주문 취소 커밋 후 복구된 재고를 카운터에 반환
+     *
+     * @param event 주문 취소 이벤트
+     */
+    @TransactionalEventListener
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        if (isEnabled()) {
+            release(event.restoredQuantities());
+        }
+    }
+
+    /**
+     * 만료 주문 취소 커밋 후 복구된 재고를 카운터에 반환
+     *
+     * @param event 재고 예약 만료 이벤트
+     */
+    @TransactionalEventListener
+    public void onOrderReservationsExpired(OrderReservationsExpiredEvent event) {
+        if (isEnabled()) {
+            release(event.restoredQuantities());
+        }
+    }
+
+    /**
+     * 판매자 상품 변경 커밋 후 카운터 삭제
+     * <p>
+     * 재입고 후에도 이전 카운터로 주문을 거절하지 않도록, 다음 선차감에서 DB 재고로 다시 초기화되게 합니다.
+     * 주문으로 인한 재고 증감은 카운터가 이미 반영하므로 무시합니다.
+     * </p>
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!isEnabled() || !event.sellerChange()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(counterKeys(event.productIds()));
+        } catch (DataAccessException e) {
+            log.warn("재고 게이트 카운터 삭제 실패: productIds={}, message={}", event.productIds(), e.getMessage());
+        }
+    }
+
+    /**
+     * 추적 중인 모든 카운터를 DB 재고로 재동기화
+     * <p>
+     * 삭제된 상품의 카운터는 제거합니다.
+     * </p>
+     *
+     * @return 재동기화된 카운터 수
+     */
+    public int reconcile() {
+        String trackedKey = trackedProductsKey();
+        Set<String> members = redisTemplate.opsForSet().members(trackedKey);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> productIds = members.stream().map(Long::valueOf).collect(Collectors.toSet());
+        Map<Long, Integer> stocks = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Product::getStockQuantity));
+
+        for (Long productId : productIds) {
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                redisTemplate.delete(counterKey(productId));
+                redisTemplate.opsForSet().remove(trackedKey, productId.toString());
+            } else {
+                redisTemplate.opsForValue().set(counterKey(productId), stock.toString());
+            }
+        }
+        return stocks.size();
+    }
+
+    private Long executeAcquire(Map<Long, Integer> sorted) {
+        return redisTemplate.execute(ACQUIRE_SCRIPT, counterKeys(sorted.keySet()), quantityArgs(sorted));
+    }
+
+    private void initializeCounters(Set<Long> productIds) {
+        for (Product product : productRepository.findAllById(productIds)) {
+            redisTemplate.opsForValue().setIfAbsent(counterKey(product.getId()), product.getStockQuantity().toString());
+            redisTemplate.opsForSet().add(trackedProductsKey(), product.getId().toString());
+        }
+        log.debug("재고 게이트 카운터 초기화: productIds={}", productIds);
+    }
+
+    private List<String> counterKeys(Set<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            keys.add(counterKey(productId));
+        }
+        return keys;
+    }
+
+    private Object[] quantityArgs(Map<Long, Integer> sorted) {
+        return sorted.values().stream().map(String::valueOf).toArray();
+    }
+
+    private String counterKey(Long productId) {
+        return properties.getKeyPrefix() + productId;
+    }
+
+    private String trackedProductsKey() {
+        return properties.getKeyPrefix() + TRACKED_PRODUCTS_SUFFIX;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.domain.order.stock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis 재고 게이트 설정
+ * <p>
+ * 게이트가 켜져 있으면 주문 트랜잭션 시작 전에 Redis 카운터로 재고를 선차감합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.stock-gate")
+public class StockGateProperties {
+
+    /** 게이트 사용 여부 */
+    private boolean enabled = false;
+
+    /** Redis 카운터 키 접두사 */
+    private String keyPrefix = "stock:gate:";
+
+    /** 카운터 재동기화 주기 (밀리초) */
+    private long reconcileIntervalMs = 60000;
+}
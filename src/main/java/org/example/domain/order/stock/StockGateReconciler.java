@@ -0,0 +1,35 @@
+package org.example.domain.order.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 게이트 카운터 재동기화 작업
+ * <p>
+ * 롤백 반환 누락, 판매자 재고 수정 등으로 어긋난 카운터를 DB 재고 기준으로 주기적으로 맞춥니다.
+ * 진행 중인 주문이 있는 동안 재동기화되면 카운터가 일시적으로 DB보다 많을 수 있으나,
+ * 초과분은 DB 경로에서 걸러지므로 정합성에는 영향이 없습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.stock-gate", name = "enabled", havingValue = "true")
+public class StockGateReconciler {
+
+    private final StockGate stockGate;
+
+    @Scheduled(fixedDelayString = "${order.stock-gate.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            int count = stockGate.reconcile();
+            log.debug("재고 게이트 재동기화 완료: count={}", count);
+        } catch (DataAccessException e) {
+            log.warn("재고 게이트 재동기화 실패: {}", e.getMessage());
+        }
+    }
+}
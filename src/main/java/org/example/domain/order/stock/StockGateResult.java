@@ -0,0 +1,14 @@
+package org.example.domain.order.stock;
+
+/**
+ * 재고 게이트 선차감 결과
+ */
+public enum StockGateResult {
+
+    /** 카운터 차감 성공 - 주문 실패 시 반환해야 함 */
+    ACQUIRED,
+    /** 카운터 재고 부족 - DB 접근 없이 거절 */
+    REJECTED,
+    /** 카운터를 사용할 수 없음 - 게이트 없이 DB 경로로 진행 */
+    BYPASSED
+}
@@ -0,0 +1,98 @@
+package org.example.domain.order.stock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재고 차감 전략 설정
+ * <p>
+ * 전략 우선순위: 상품별 지정 &gt; 경합 상품(동시 주문 수 또는 최근 요청 수) &gt; 기본 전략
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.stock")
+public class StockProperties {
+
+    /** 기본 재고 차감 전략 */
+    private StockStrategyType strategy = StockStrategyType.PESSIMISTIC_LOCK;
+
+    /** 상품 ID별 재고 차감 전략 */
+    private Map<Long, StockStrategyType> products = new HashMap<>();
+
+    /** 경합 상품 전략 설정 */
+    private Hotness hotness = new Hotness();
+
+    /** 낙관적 락 충돌 재시도 설정 */
+    private Retry retry = new Retry();
+
+    /** 상품 행 락 메트릭 설정 */
+    private LockMetrics lockMetrics = new LockMetrics();
+
+    /** 상품별 동시 주문 수 제한 설정 */
+    private Admission admission = new Admission();
+
+    /** 대기 없는 비관적 락 전략 설정 */
+    private NoWait noWait = new NoWait();
+
+    @Getter
+    @Setter
+    public static class Hotness {
+        /** 동시 주문 수가 이 값 이상이면 경합 상품으로 판단 (0이면 사용 안 함) */
+        private int threshold = 0;
+        /** 최근 windowMs 동안 주문 생성/취소 요청 수가 이 값 이상이면 경합 상품으로 판단 (0이면 사용 안 함) */
+        private long rateThreshold = 0;
+        /** 요청 수를 세는 구간 길이 (밀리초) */
+        private long windowMs = 10_000;
+        /** 구간을 나누는 칸 수 (칸 단위로 오래된 요청이 빠짐) */
+        private int windowBuckets = 10;
+        /** count-min sketch 행당 칸 수 (클수록 추정 오차가 작음) */
+        private int sketchWidth = 1024;
+        /** count-min sketch 행 수 (클수록 추정이 과대될 확률이 작음) */
+        private int sketchDepth = 4;
+        /** 조회 시 보여줄 최대 경합 상품 수 */
+        private int topK = 20;
+        /** 경합 상품에 적용할 전략 */
+        private StockStrategyType strategy = StockStrategyType.PESSIMISTIC_LOCK;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+        /** 최대 시도 횟수 (최초 시도 포함) */
+        private int maxAttempts = 5;
+        /** 첫 재시도 대기 시간 (밀리초) */
+        private long initialBackoffMs = 10;
+        /** 재시도마다 대기 시간에 곱할 배수 */
+        private double multiplier = 2.0;
+        /** 최대 대기 시간 (밀리초) */
+        private long maxBackoffMs = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class LockMetrics {
+        /** 경합 상품이면 상품 ID를 product 태그로 기록 (나머지 상품은 other) */
+        private boolean tagHotProducts = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        /** 상품당 동시에 처리할 수 있는 주문 수 (락을 잡은 요청 포함, 0이면 사용 안 함) */
+        private int maxWaiters = 0;
+        /** 세마포어 수 (상품 ID 해시로 나누어 쓰며, 같은 세마포어를 쓰는 상품끼리는 허용 수를 공유) */
+        private int stripes = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class NoWait {
+        /** true면 NOWAIT 대신 SKIP LOCKED로 조회 (잠긴 행을 예외 없이 건너뜀) */
+        private boolean skipLocked = false;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.domain.order.stock;
+
+import org.example.domain.product.entity.Product;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 재고 차감 전략
+ * <p>
+ * 주문 트랜잭션 안에서 호출되며, 구현체마다 동시성 제어 방식이 다릅니다.
+ * 주문 취소 시 재고 복구는 전략과 관계없이 {@code ProductRepository.increaseStock}으로 처리합니다.
+ * </p>
+ */
+public interface StockStrategy {
+
+    /**
+     * 전략 종류
+     *
+     * @return 전략 종류
+     */
+    StockStrategyType getType();
+
+    /**
+     * 재고 차감
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감할 수량
+     * @return 차감 후 상품 (주문 스냅샷 생성용)
+     * @throws BusinessException INVALID_STOCK_QUANTITY - 차감 수량이 1 미만일 경우
+     * @throws BusinessException PRODUCT_NOT_FOUND - 상품이 존재하지 않을 경우
+     * @throws BusinessException INSUFFICIENT_STOCK - 재고가 부족할 경우
+     */
+    Product decrease(Long productId, int quantity);
+
+    /**
+     * 여러 상품 재고 차감
+     * <p>
+     * 기본 구현은 상품 ID 오름차순으로 한 상품씩 차감하므로, 상품 구성이 겹치는 주문끼리도
+     * 락 획득 순서가 같아 데드락이 발생하지 않습니다.
+     * </p>
+     *
+     * @param quantities 상품 ID별 차감 수량 (상품 ID 오름차순)
+     * @return 상품 ID별 차감 후 상품 (상품 ID 오름차순)
+     * @throws BusinessException INVALID_STOCK_QUANTITY - 차감 수량이 하나라도 1 미만일 경우
+     * @throws BusinessException PRODUCT_NOT_FOUND - 상품이 하나라도 존재하지 않을 경우
+     * @throws BusinessException INSUFFICIENT_STOCK - 상품이 하나라도 재고가 부족할 경우
+     */
+    default Map<Long, Product> decreaseAll(SortedMap<Long, Integer> quantities) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> products.put(productId, decrease(productId, quantity)));
+        return products;
+    }
+
+    /**
+     * 차감 수량 검증
+     * <p>
+     * 음수 수량은 재고 검증을 통과해 재고를 늘리므로, 락이나 UPDATE 전에 거절합니다.
+     * </p>
+     *
+     * @param quantity 차감할 수량
+     * @throws BusinessException INVALID_STOCK_QUANTITY - 차감 수량이 1 미만일 경우
+     */
+    static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_QUANTITY);
+        }
+    }
+}
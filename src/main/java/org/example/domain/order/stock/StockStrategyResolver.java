@@ -0,0 +1,92 @@
+package org.example.domain.order.stock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 차감 전략 선택기
+ * <p>
+ * 상품별 지정 전략, 경합 상품 여부(동시 주문 수 또는 최근 요청 수), 기본 전략 순으로 상품에 적용할 재고 전략을 결정합니다.
+ * 경합이 드문 상품은 낙관적 락으로, 경합이 심한 상품은 비관적 락으로 처리하는 식으로 조합할 수 있습니다.
+ * </p>
+ */
+@Component
+public class StockStrategyResolver {
+
+    private final Map<StockStrategyType, StockStrategy> strategies = new EnumMap<>(StockStrategyType.class);
+    private final StockProperties properties;
+    private final ProductContentionTracker contentionTracker;
+    private final HotProductDetector hotProductDetector;
+
+    public StockStrategyResolver(List<StockStrategy> strategies,
+                                 StockProperties properties,
+                                 ProductContentionTracker contentionTracker,
+                                 HotProductDetector hotProductDetector) {
+        for (StockStrategy strategy : strategies) {
+            this.strategies.put(strategy.getType(), strategy);
+        }
+        this.properties = properties;
+        this.contentionTracker = contentionTracker;
+        this.hotProductDetector = hotProductDetector;
+    }
+
+    /**
+     * 상품에 적용할 재고 전략 조회
+     *
+     * @param productId 상품 ID
+     * @return 재고 전략
+     */
+    public StockStrategy resolve(Long productId) {
+        StockStrategyType productStrategy = properties.getProducts().get(productId);
+        if (productStrategy != null) {
+            return get(productStrategy);
+        }
+
+        if (isHot(productId)) {
+            return get(properties.getHotness().getStrategy());
+        }
+
+        return get(properties.getStrategy());
+    }
+
+    /**
+     * 여러 상품을 한 트랜잭션에서 처리할 때 적용할 재고 전략 조회
+     * <p>
+     * 모든 상품의 전략이 같으면 그 전략을, 다르면 모든 상품을 한 번에 잠그는 비관적 락 전략을 사용합니다.
+     * </p>
+     *
+     * @param productIds 상품 ID 목록
+     * @return 재고 전략
+     */
+    public StockStrategy resolveAll(Collection<Long> productIds) {
+        StockStrategy resolved = null;
+        for (Long productId : productIds) {
+            StockStrategy strategy = resolve(productId);
+            if (resolved != null && resolved != strategy) {
+                return get(StockStrategyType.PESSIMISTIC_LOCK);
+            }
+            resolved = strategy;
+        }
+        return resolved != null ? resolved : get(properties.getStrategy());
+    }
+
+    private boolean isHot(Long productId) {
+        StockProperties.Hotness hotness = properties.getHotness();
+        if (hotness.getThreshold() > 0 && contentionTracker.getInFlight(productId) >= hotness.getThreshold()) {
+            return true;
+        }
+        return hotProductDetector.isHot(productId);
+    }
+
+    private StockStrategy get(StockStrategyType type) {
+        StockStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 재고 전략입니다: " + type);
+        }
+        return strategy;
+    }
+}
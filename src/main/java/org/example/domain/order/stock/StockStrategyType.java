@@ -0,0 +1,24 @@
+package org.example.domain.order.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 차감 전략 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockStrategyType {
+
+    /** 비관적 락 - SELECT ... FOR UPDATE 후 엔티티 변경 감지로 반영 */
+    PESSIMISTIC_LOCK("비관적 락"),
+    /** 대기 없는 비관적 락 - 다른 요청이 행을 잠그고 있으면 기다리지 않고 바로 실패 (NOWAIT 또는 SKIP LOCKED) */
+    PESSIMISTIC_NOWAIT("대기 없는 비관적 락"),
+    /** 조건부 UPDATE - 단일 UPDATE 문의 영향 행 수로 성공 여부 판단 */
+    CONDITIONAL_UPDATE("조건부 UPDATE"),
+    /** 낙관적 락 - 버전 충돌 시 OrderFacade에서 재시도 */
+    OPTIMISTIC_LOCK("낙관적 락");
+
+    /** 전략 설명 */
+    private final String description;
+}
@@ -0,0 +1,187 @@
+package org.example.domain.order.waitingroom;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.dto.response.WaitingRoomTicketResponse;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 상품별 주문 대기열 (Redis)
+ * <p>
+ * 구매자는 입장권을 받으면 대기 ZSET에 들어가고, {@link WaitingRoomReleaser}가 주기마다
+ * 직전 주기 주문 완료 수만큼 앞에서부터 입장 ZSET으로 옮깁니다.
+ * 입장 ZSET에 유효한 입장권이 있는 구매자만 {@link WaitingRoomFilter}를 통과해 주문할 수 있고,
+ * 주문이 완료되면 입장권은 소멸합니다.
+ * 한 구매자는 상품당 입장권을 하나만 가집니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoom {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/waiting-room-release.lua"), Long.class);
+
+    private static final String RELEASED_METRIC = "order.waiting-room.released";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WaitingRoomProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isGuarded(Long productId) {
+        return properties.isGuarded(productId);
+    }
+
+    /**
+     * 입장권 발급
+     * <p>
+     * 이미 대기 중이거나 입장한 구매자에게는 현재 상태를 그대로 돌려줍니다.
+     * </p>
+     *
+     * @param productId 상품 ID
+     * @param buyerId   구매자 ID
+     * @return 입장권 응답 DTO
+     * @throws BusinessException WAITING_ROOM_NOT_OPEN - 대기열이 적용되지 않은 상품일 경우
+     */
+    public WaitingRoomTicketResponse issueTicket(Long productId, Long buyerId) {
+        validateGuarded(productId);
+
+        WaitingRoomTicketResponse admitted = findAdmitted(productId, buyerId);
+        if (admitted != null) {
+            return admitted;
+        }
+        redisTemplate.opsForZSet().addIfAbsent(queueKey(productId), buyerId.toString(), System.currentTimeMillis());
+        return getTicket(productId, buyerId);
+    }
+
+    /**
+     * 입장권 상태 조회
+     *
+     * @param productId 상품 ID
+     * @param buyerId   구매자 ID
+     * @return 입장권 응답 DTO
+     * @throws BusinessException WAITING_ROOM_NOT_OPEN - 대기열이 적용되지 않은 상품일 경우
+     * @throws BusinessException WAITING_ROOM_TICKET_NOT_FOUND - 입장권이 없거나 만료된 경우
+     */
+    public WaitingRoomTicketResponse getTicket(Long productId, Long buyerId) {
+        validateGuarded(productId);
+
+        WaitingRoomTicketResponse admitted = findAdmitted(productId, buyerId);
+        if (admitted != null) {
+            return admitted;
+        }
+        Long rank = redisTemplate.opsForZSet().rank(queueKey(productId), buyerId.toString());
+        if (rank == null) {
+            throw new BusinessException(ErrorCode.WAITING_ROOM_TICKET_NOT_FOUND);
+        }
+        return WaitingRoomTicketResponse.builder()
+                .productId(productId)
+                .status(WaitingRoomTicketStatus.WAITING)
+                .position(rank + 1)
+                .build();
+    }
+
+    /**
+     * 입장 여부 확인
+     * <p>
+     * Redis 장애 시에는 주문을 막지 않도록 입장한 것으로 간주합니다.
+     * </p>
+     *
+     * @param productId 상품 ID
+     * @param buyerId   구매자 ID
+     * @return 유효한 입장권이 있으면 true
+     */
+    public boolean isAdmitted(Long productId, Long buyerId) {
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(admittedKey(productId), buyerId.toString());
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (DataAccessException e) {
+            log.warn("대기열 입장 확인 실패, 대기열 우회: productId={}, message={}", productId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 주문 완료 처리 (입장권 소멸, 처리량 기록)
+     *
+     * @param productId 상품 ID
+     * @param buyerId   구매자 ID
+     */
+    public void complete(Long productId, Long buyerId) {
+        try {
+            redisTemplate.opsForZSet().remove(admittedKey(productId), buyerId.toString());
+            redisTemplate.opsForValue().increment(completedKey(productId));
+        } catch (DataAccessException e) {
+            log.warn("대기열 주문 완료 기록 실패: productId={}, message={}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 구매자 입장
+     *
+     * @param productId 상품 ID
+     * @return 입장시킨 인원 수 (이번 주기에 다른 인스턴스가 이미 처리했으면 0)
+     */
+    public int release(Long productId) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+                List.of(queueKey(productId), admittedKey(productId), completedKey(productId), releaseLockKey(productId)),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(properties.getTicketTtlMs()),
+                String.valueOf(properties.getMinAdmitted()),
+                String.valueOf(properties.getMaxAdmitted()),
+                String.valueOf(properties.getHeadroomFactor()),
+                String.valueOf(properties.getReleaseIntervalMs()));
+        int count = released == null ? 0 : (int) Math.max(0, released);
+        if (count > 0) {
+            meterRegistry.counter(RELEASED_METRIC, "productId", productId.toString()).increment(count);
+        }
+        return count;
+    }
+
+    private WaitingRoomTicketResponse findAdmitted(Long productId, Long buyerId) {
+        Double expiresAt = redisTemplate.opsForZSet().score(admittedKey(productId), buyerId.toString());
+        if (expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            return null;
+        }
+        return WaitingRoomTicketResponse.builder()
+                .productId(productId)
+                .status(WaitingRoomTicketStatus.ADMITTED)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt.longValue()), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private void validateGuarded(Long productId) {
+        if (!isGuarded(productId)) {
+            throw new BusinessException(ErrorCode.WAITING_ROOM_NOT_OPEN);
+        }
+    }
+
+    private String queueKey(Long productId) {
+        return properties.getKeyPrefix() + productId + ":queue";
+    }
+
+    private String admittedKey(Long productId) {
+        return properties.getKeyPrefix() + productId + ":admitted";
+    }
+
+    private String completedKey(Long productId) {
+        return properties.getKeyPrefix() + productId + ":completed";
+    }
+
+    private String releaseLockKey(Long productId) {
+        return properties.getKeyPrefix() + productId + ":release-lock";
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.domain.order.waitingroom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.order.bulk.OrderBulkFormat;
+import org.example.domain.order.bulk.OrderBulkProcessor;
+import org.example.global.common.ApiResponse;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.example.global.security.auth.CustomUserDetails;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 주문 대기열 입장 확인 필터
+ * <p>
+ * 주문 생성 요청의 상품 중 대기열이 적용된 상품이 있으면, 해당 상품에 유효한 입장권이 있는 구매자만 통과시킵니다.
+ * 입장하지 못한 요청은 컨트롤러와 DB 락 대기열에 들어가기 전에 429로 거절하므로
+ * 락 대기 시간이 입장 인원 수 이상으로 늘어나지 않습니다.
+ * 대량 주문은 본문의 모든 줄을 해석하여 대기열 상품이 하나라도 입장하지 않았으면 요청 전체를 거절합니다.
+ * 입장권 소멸은 주문이 실제로 생성된 시점에 {@link org.example.domain.order.facade.OrderFacade}가 처리하므로,
+ * 멱등성 키로 재생된 요청이나 비동기 접수(202)는 입장권을 소멸시키지 않습니다.
+ * Spring Security 필터 체인 뒤에서 실행되므로 인증 정보를 사용할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomFilter extends OncePerRequestFilter {
+
+    private static final Set<String> ORDER_CREATE_PATHS = Set.of(
+            "/api/v1/orders", "/api/v1/orders/cart", "/api/v1/orders/intakes", "/api/v1/orders/bulk");
+    private static final String BULK_PATH = "/api/v1/orders/bulk";
+    private static final String REJECTED_METRIC = "order.waiting-room.rejected";
+
+    private final WaitingRoom waitingRoom;
+    private final WaitingRoomProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OrderBulkProcessor orderBulkProcessor;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !ORDER_CREATE_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long buyerId = currentBuyerId();
+        if (buyerId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
+        Set<Long> guardedProductIds = BULK_PATH.equals(request.getRequestURI())
+                ? guardedBulkProductIds(cachedRequest)
+                : guardedProductIds(cachedRequest.getBody());
+        if (guardedProductIds.isEmpty()) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        for (Long productId : guardedProductIds) {
+            if (!waitingRoom.isAdmitted(productId, buyerId)) {
+                log.debug("대기열 미입장 주문 거절: productId={}, buyerId={}", productId, buyerId);
+                meterRegistry.counter(REJECTED_METRIC, "productId", productId.toString()).increment();
+                writeError(response, ErrorCode.WAITING_ROOM_ADMISSION_REQUIRED);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private Long currentBuyerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    /**
+     * 요청 본문에서 대기열 적용 상품 ID 추출 (단일 주문: productId, 여러 상품 주문: items[].productId)
+     * <p>
+     * 본문이 잘못된 경우 검증은 컨트롤러에 맡기고 빈 집합을 반환합니다.
+     * </p>
+     */
+    private Set<Long> guardedProductIds(byte[] body) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root == null) {
+                return productIds;
+            }
+            addIfGuarded(productIds, root.get("productId"));
+            JsonNode items = root.get("items");
+            if (items != null && items.isArray()) {
+                items.forEach(item -> addIfGuarded(productIds, item.get("productId")));
+            }
+        } catch (IOException e) {
+            log.debug("대기열 필터 본문 해석 실패: {}", e.getMessage());
+        }
+        return productIds;
+    }
+
+    /**
+     * 대량 주문 본문에서 대기열 적용 상품 ID 추출
+     * <p>
+     * 줄 수 초과나 잘못된 Content-Type은 컨트롤러가 오류 응답을 만들도록 빈 집합을 반환합니다.
+     * </p>
+     */
+    private Set<Long> guardedBulkProductIds(CachedBodyHttpServletRequest request) {
+        Set<Long> productIds = new LinkedHashSet<>();
+        try {
+            MediaType contentType = request.getContentType() == null ? null : MediaType.parseMediaType(request.getContentType());
+            orderBulkProcessor.read(new ByteArrayInputStream(request.getBody()), OrderBulkFormat.from(contentType))
+                    .productIds().stream()
+                    .filter(waitingRoom::isGuarded)
+                    .forEach(productIds::add);
+        } catch (BusinessException | InvalidMediaTypeException | IOException e) {
+            log.debug("대기열 필터 대량 주문 본문 해석 실패: {}", e.getMessage());
+        }
+        return productIds;
+    }
+
+    private void addIfGuarded(Set<Long> productIds, JsonNode productIdNode) {
+        if (productIdNode != null && productIdNode.canConvertToLong()) {
+            long productId = productIdNode.asLong();
+            if (waitingRoom.isGuarded(productId)) {
+                productIds.add(productId);
+            }
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.error(errorCode.getCode(), errorCode.getMessage())));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.domain.order.waitingroom;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 주문 대기열 설정
+ * <p>
+ * 대기열이 적용된 상품은 입장권을 받아 입장 순서가 된 구매자만 주문할 수 있습니다.
+ * 동시에 입장시키는 인원은 직전 주기의 주문 완료 수에 여유 배수를 곱해 정하며,
+ * 최소/최대 입장 인원 사이로 제한합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.waiting-room")
+public class WaitingRoomProperties {
+
+    /** 대기열 사용 여부 */
+    private boolean enabled = false;
+
+    /** Redis 키 접두사 */
+    private String keyPrefix = "waiting-room:";
+
+    /** 대기열을 적용할 상품 ID 목록 */
+    private Set<Long> products = new HashSet<>();
+
+    /** 입장 허용 주기 (밀리초) */
+    private long releaseIntervalMs = 1000;
+
+    /** 입장권 유효 시간 (밀리초, 입장 후 이 시간 안에 주문해야 함) */
+    private long ticketTtlMs = 60000;
+
+    /** 동시 입장 최소 인원 (처리량 측정 전 초기 입장 인원) */
+    private int minAdmitted = 10;
+
+    /** 동시 입장 최대 인원 */
+    private int maxAdmitted = 200;
+
+    /** 직전 주기 처리량에 곱할 여유 배수 */
+    private double headroomFactor = 1.2;
+
+    /**
+     * 대기열 적용 상품 여부 확인
+     *
+     * @param productId 상품 ID
+     * @return 대기열이 켜져 있고 적용 상품이면 true
+     */
+    public boolean isGuarded(Long productId) {
+        return enabled && products.contains(productId);
+    }
+}
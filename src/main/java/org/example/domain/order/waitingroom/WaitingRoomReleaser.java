@@ -0,0 +1,39 @@
+package org.example.domain.order.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 입장 허용 작업
+ * <p>
+ * 주기마다 대기열 적용 상품별로 대기 중인 구매자를 입장시킵니다.
+ * 여러 인스턴스가 동시에 실행해도 Redis 락으로 주기당 한 번만 입장시킵니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.waiting-room", name = "enabled", havingValue = "true")
+public class WaitingRoomReleaser {
+
+    private final WaitingRoom waitingRoom;
+    private final WaitingRoomProperties properties;
+
+    @Scheduled(fixedDelayString = "${order.waiting-room.release-interval-ms:1000}")
+    public void release() {
+        for (Long productId : properties.getProducts()) {
+            try {
+                int released = waitingRoom.release(productId);
+                if (released > 0) {
+                    log.debug("대기열 입장: productId={}, released={}", productId, released);
+                }
+            } catch (DataAccessException e) {
+                log.warn("대기열 입장 처리 실패: productId={}, message={}", productId, e.getMessage());
+            }
+        }
+    }
+}
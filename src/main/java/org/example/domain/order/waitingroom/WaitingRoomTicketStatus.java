@@ -0,0 +1,20 @@
+package org.example.domain.order.waitingroom;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대기열 입장권 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WaitingRoomTicketStatus {
+
+    /** 대기중 - 입장 순서를 기다리는 중 */
+    WAITING("대기중"),
+    /** 입장 - 입장권 유효 시간 안에 주문 가능 */
+    ADMITTED("입장");
+
+    /** 상태 설명 */
+    private final String description;
+}
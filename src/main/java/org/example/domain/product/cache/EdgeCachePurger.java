@@ -0,0 +1,20 @@
+package org.example.domain.product.cache;
+
+import java.util.Collection;
+
+/**
+ * 엣지 캐시(CDN) 무효화
+ * <p>
+ * 빈으로 등록된 모든 구현이 상품 변경 트랜잭션 커밋 후 {@link ProductEdgeCache}에서 호출됩니다.
+ * 요청 스레드에서 호출되므로 오래 걸리는 구현은 타임아웃을 짧게 두어야 합니다.
+ * </p>
+ */
+public interface EdgeCachePurger {
+
+    /**
+     * surrogate key가 붙은 엣지 캐시 응답 무효화
+     *
+     * @param surrogateKeys 무효화할 surrogate key 목록
+     */
+    void purge(Collection<String> surrogateKeys);
+}
@@ -0,0 +1,56 @@
+package org.example.domain.product.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.util.Collection;
+
+/**
+ * HTTP 요청으로 엣지 캐시를 무효화하는 purger
+ * <p>
+ * 설정한 purge URL로 {@code POST} 요청을 보내며, 무효화할 key는 공백으로 이어 {@code Surrogate-Key} 헤더에 담습니다.
+ * 인증 토큰을 설정하면 지정한 헤더로 함께 보냅니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.cache.edge", name = "purge-url")
+public class HttpEdgeCachePurger implements EdgeCachePurger {
+
+    private final RestClient restClient;
+    private final ProductCacheProperties.Edge properties;
+
+    @Autowired
+    public HttpEdgeCachePurger(ProductCacheProperties properties, RestClient.Builder restClientBuilder) {
+        this(properties, restClientBuilder.requestFactory(requestFactory(properties.getEdge())).build());
+    }
+
+    HttpEdgeCachePurger(ProductCacheProperties properties, RestClient restClient) {
+        this.properties = properties.getEdge();
+        this.restClient = restClient;
+    }
+
+    @Override
+    public void purge(Collection<String> surrogateKeys) {
+        restClient.post()
+                .uri(properties.getPurgeUrl())
+                .headers(headers -> {
+                    headers.set(ProductEdgeCache.SURROGATE_KEY_HEADER, String.join(" ", surrogateKeys));
+                    if (StringUtils.hasText(properties.getPurgeToken())) {
+                        headers.set(properties.getPurgeTokenHeader(), properties.getPurgeToken());
+                    }
+                })
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(ProductCacheProperties.Edge properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getPurgeTimeoutMs());
+        requestFactory.setReadTimeout((int) properties.getPurgeTimeoutMs());
+        return requestFactory;
+    }
+}
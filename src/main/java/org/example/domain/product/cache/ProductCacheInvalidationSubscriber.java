@@ -0,0 +1,57 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 상품 캐시 무효화 메시지 구독자
+ * <p>
+ * 다른 노드가 발행한 상품 ID를 받아 이 노드의 로컬 캐시(L1)에서 제거합니다.
+ * Redis pub/sub은 연결이 끊긴 동안의 메시지를 다시 보내주지 않으므로,
+ * 채널 구독이 (재)연결될 때마다 로컬 캐시 전체를 비워 놓친 변경이 남지 않게 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.cache.redis", name = "enabled", havingValue = "true")
+public class ProductCacheInvalidationSubscriber implements MessageListener, SubscriptionListener {
+
+    private static final String RESYNC_METRIC = "product.cache.resync";
+
+    private final ProductDetailCache productDetailCache;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            List<Long> productIds = Arrays.stream(body.split(ProductRedisCache.ID_DELIMITER))
+                    .map(String::trim)
+                    .map(Long::valueOf)
+                    .toList();
+            productDetailCache.evictLocal(productIds);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 캐시 무효화 메시지, 로컬 캐시 전체 삭제: body={}", body);
+            productDetailCache.evictAllLocal();
+        }
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        productDetailCache.evictAllLocal();
+        meterRegistry.counter(RESYNC_METRIC).increment();
+        log.info("상품 캐시 무효화 채널 구독, 로컬 캐시 재동기화: channel={}",
+                new String(channel, StandardCharsets.UTF_8));
+    }
+}
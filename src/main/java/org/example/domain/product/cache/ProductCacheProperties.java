@@ -0,0 +1,108 @@
+package org.example.domain.product.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 상품 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    /** 상품 상세 로컬 캐시 (L1) */
+    private Detail detail = new Detail();
+
+    /** 상품 상세 Redis 공유 캐시 (L2)와 노드 간 무효화 */
+    private Redis redis = new Redis();
+
+    /** 상품 목록 페이지 응답 캐시 */
+    private ListPage listPage = new ListPage();
+
+    /** 공개 상품 조회 응답의 엣지 캐시(CDN) */
+    private Edge edge = new Edge();
+
+    @Getter
+    @Setter
+    public static class Detail {
+
+        /** 사용 여부 */
+        private boolean enabled = true;
+
+        /** 최대 보관 상품 수 (넘으면 오래 쓰이지 않은 상품부터 제거) */
+        private long maximumSize = 10_000;
+
+        /** 저장 후 유지 시간 (밀리초, 다른 인스턴스의 변경은 이 시간 안에 반영됨) */
+        private long ttlMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+
+        /** 사용 여부 */
+        private boolean enabled = false;
+
+        /** 상품 캐시 키 접두사 (뒤에 상품 ID, 저장 형식이 바뀌면 버전을 올림) */
+        private String keyPrefix = "product:detail:v2:";
+
+        /** 저장 후 유지 시간 (밀리초) */
+        private long ttlMs = 600_000;
+
+        /** 무효화 메시지 채널 */
+        private String channel = "product:cache:invalidate";
+    }
+
+    @Getter
+    @Setter
+    public static class ListPage {
+
+        /** 사용 여부 */
+        private boolean enabled = true;
+
+        /** 캐시할 마지막 페이지 번호 (0부터 이 페이지까지) */
+        private int maxPage = 2;
+
+        /** 캐시할 페이지 크기 목록 */
+        private List<Integer> sizes = List.of(20);
+
+        /** 새 응답으로 간주하는 시간 (밀리초, 지나면 이전 응답을 주면서 백그라운드에서 갱신) */
+        private long freshMs = 1_000;
+
+        /** 이전 응답을 줄 수 있는 최대 시간 (밀리초, 지나면 요청 스레드에서 다시 불러옴) */
+        private long maxStaleMs = 30_000;
+
+        /** gzip 압축본 함께 보관 여부 */
+        private boolean gzip = true;
+
+        /** 백그라운드 갱신 스레드 수 */
+        private int refreshThreads = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Edge {
+
+        /** 브라우저 보관 시간 (초, 0이면 매번 ETag로 재검증) */
+        private long maxAgeSeconds = 0;
+
+        /** 엣지 캐시 보관 시간 (초, 주문으로 인한 재고 변경은 이 시간 안에 반영됨) */
+        private long sharedMaxAgeSeconds = 10;
+
+        /** 무효화 요청 URL (없으면 무효화하지 않음) */
+        private String purgeUrl;
+
+        /** 무효화 요청 인증 헤더 이름 */
+        private String purgeTokenHeader = "Fastly-Key";
+
+        /** 무효화 요청 인증 토큰 */
+        private String purgeToken;
+
+        /** 무효화 요청 연결/응답 타임아웃 (밀리초) */
+        private long purgeTimeoutMs = 2_000;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.domain.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 캐시
+ * <p>
+ * 상품 ID별 {@link ProductResponse}를 인스턴스 메모리(L1)에 보관하여 상품 상세 조회 시 DB 조회와 트랜잭션을 생략합니다.
+ * 최대 개수와 저장 후 유지 시간으로 제거되며, {@link ProductChangedEvent}가 발행된 트랜잭션이 커밋되면 해당 상품을 바로 제거합니다.
+ * 커밋 전에 제거하면 동시에 조회한 요청이 변경 전 값을 다시 채울 수 있으므로 커밋 후에 제거합니다.
+ * 적중/실패/제거 통계는 {@code cache.*} 메트릭(cache=productDetail)으로 노출됩니다.
+ * </p>
+ * <p>
+ * {@link ProductRedisCache}가 켜져 있으면 L1에 없을 때 Redis(L2)를 먼저 조회하고,
+ * L2에도 없으면 그때 읽은 무효화 세대와 함께 DB에서 불러온 값을 저장합니다.
+ * 상품이 바뀌면 L2 항목을 묘비로 바꾸고 다른 노드에 무효화 메시지를 발행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private static final String CACHE_NAME = "productDetail";
+
+    private final ProductCacheProperties.Detail properties;
+    private final ProductRedisCache redisCache;
+    private final Cache<Long, ProductResponse> cache;
+
+    @Autowired
+    public ProductDetailCache(ProductCacheProperties properties,
+                              MeterRegistry meterRegistry,
+                              ObjectProvider<ProductRedisCache> redisCache) {
+        this(properties, meterRegistry, redisCache.getIfAvailable());
+    }
+
+    public ProductDetailCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, (ProductRedisCache) null);
+    }
+
+    ProductDetailCache(ProductCacheProperties properties, MeterRegistry meterRegistry, ProductRedisCache redisCache) {
+        this.properties = properties.getDetail();
+        this.redisCache = redisCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(this.properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(this.properties.getTtlMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 상품 상세 조회 (없으면 불러와서 저장)
+     * <p>
+     * 같은 상품을 동시에 조회하면 한 요청만 불러오고 나머지는 그 결과를 기다립니다.
+     * 불러오는 중 예외가 발생하면 저장하지 않고 그대로 전달합니다.
+     * </p>
+     *
+     * @param productId 상품 ID
+     * @param loader    캐시에 없을 때 상품을 불러오는 함수
+     * @return 상품 응답 DTO
+     */
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        if (!properties.isEnabled()) {
+            return load(productId, loader);
+        }
+        return cache.get(productId, id -> load(id, loader));
+    }
+
+    /**
+     * 상품 변경 트랜잭션 커밋 후 캐시에서 제거
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (redisCache != null) {
+            redisCache.invalidate(event.productIds());
+        }
+        evictLocal(event.productIds());
+    }
+
+    /**
+     * 이 노드의 로컬 캐시에서만 제거
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public void evictLocal(Collection<Long> productIds) {
+        cache.invalidateAll(productIds);
+        log.debug("상품 상세 캐시 제거: productIds={}", productIds);
+    }
+
+    /**
+     * 이 노드의 로컬 캐시 전체 삭제
+     */
+    public void evictAllLocal() {
+        cache.invalidateAll();
+    }
+
+    private ProductResponse load(Long productId, Function<Long, ProductResponse> loader) {
+        if (redisCache == null) {
+            return loader.apply(productId);
+        }
+        ProductRedisCache.Lookup lookup = redisCache.get(productId);
+        if (lookup.isHit()) {
+            return lookup.product();
+        }
+        ProductResponse product = loader.apply(productId);
+        if (lookup.isStorable()) {
+            redisCache.put(product, lookup.generation());
+        }
+        return product;
+    }
+}
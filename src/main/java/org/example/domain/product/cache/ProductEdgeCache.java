@@ -0,0 +1,91 @@
+package org.example.domain.product.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 조회 응답의 엣지 캐시(CDN) 설정
+ * <p>
+ * 공개 상품 조회 응답에 붙일 {@code Cache-Control}과 surrogate key를 정하고,
+ * 판매자가 상품을 바꾸면 커밋 후 해당 key를 {@link EdgeCachePurger}로 무효화합니다.
+ * 주문으로 인한 재고 변경은 무효화하지 않으며, 엣지에서는 {@code s-maxage} 안에 반영됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEdgeCache {
+
+    /** surrogate key 응답 헤더 */
+    public static final String SURROGATE_KEY_HEADER = "Surrogate-Key";
+
+    /** 상품 목록 응답 surrogate key */
+    public static final String LIST_KEY = "products";
+
+    private final ProductCacheProperties properties;
+    private final List<EdgeCachePurger> purgers;
+
+    /**
+     * 상품 상세 응답 surrogate key
+     *
+     * @param productId 상품 ID
+     * @return surrogate key
+     */
+    public static String productKey(Long productId) {
+        return "product-" + productId;
+    }
+
+    /**
+     * 공개 상품 조회 응답의 Cache-Control
+     *
+     * @return 브라우저는 {@code max-age}, 엣지는 {@code s-maxage} 동안 보관하는 Cache-Control
+     */
+    public CacheControl cacheControl() {
+        ProductCacheProperties.Edge edge = properties.getEdge();
+        return CacheControl.maxAge(edge.getMaxAgeSeconds(), TimeUnit.SECONDS)
+                .sMaxAge(edge.getSharedMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePublic();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 엣지 캐시 무효화
+     * <p>
+     * 트랜잭션 밖에서 호출하면 바로 무효화합니다. 무효화 실패는 기록만 하고 넘어갑니다.
+     * </p>
+     *
+     * @param surrogateKeys 무효화할 surrogate key 목록
+     */
+    public void purgeAfterCommit(Collection<String> surrogateKeys) {
+        if (purgers.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purge(surrogateKeys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purge(surrogateKeys);
+            }
+        });
+    }
+
+    private void purge(Collection<String> surrogateKeys) {
+        for (EdgeCachePurger purger : purgers) {
+            try {
+                purger.purge(surrogateKeys);
+            } catch (RuntimeException e) {
+                log.warn("엣지 캐시 무효화 실패: purger={}, keys={}", purger.getClass().getSimpleName(), surrogateKeys, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 목록 페이지 응답 캐시
+ * <p>
+ * 조회가 몰리는 앞쪽 페이지의 응답을 직렬화된 바이트(와 gzip 압축본)로 보관하여, 적중 시 DB 조회와 직렬화 없이 그대로 씁니다.
+ * 보관한 지 {@code freshMs}가 지났거나 상품이 변경된 응답은 이전 응답을 그대로 주면서 백그라운드에서 다시 불러오고(stale-while-revalidate),
+ * {@code maxStaleMs}가 지난 응답은 요청 스레드에서 다시 불러옵니다.
+ * 같은 페이지는 동시에 한 번만 불러오며, 나머지 요청은 그 결과를 기다리거나 이전 응답을 받습니다.
+ * </p>
+ * <p>
+ * 상품 변경 시 항목을 지우지 않고 세대 번호만 올려 모든 항목을 갱신 대상으로 만듭니다.
+ * 커밋 전에 불러오기 시작한 응답은 이전 세대로 저장되므로 다음 요청에서 다시 갱신됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ProductListPageCache {
+
+    private static final String LOOKUP_METRIC = "product.cache.list";
+    private static final String REFRESH_FAILED_METRIC = "product.cache.list.refresh.failed";
+
+    private final ProductCacheProperties.ListPage properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor refresher;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, CompletableFuture<CachedPage>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public ProductListPageCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry,
+                Executors.newFixedThreadPool(Math.max(1, properties.getListPage().getRefreshThreads()),
+                        namedThreads("product-list-cache-refresher")),
+                System::currentTimeMillis);
+    }
+
+    ProductListPageCache(ProductCacheProperties properties, MeterRegistry meterRegistry,
+                         Executor refresher, LongSupplier clock) {
+        this.properties = properties.getListPage();
+        this.meterRegistry = meterRegistry;
+        this.refresher = refresher;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 대상 페이지 여부
+     *
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 캐시를 켰고 설정한 페이지 범위와 크기에 해당하면 true
+     */
+    public boolean isCacheable(int page, int size) {
+        return properties.isEnabled()
+                && page >= 0 && page <= properties.getMaxPage()
+                && properties.getSizes().contains(size);
+    }
+
+    /**
+     * 페이지 응답 조회 (없거나 너무 오래되면 불러와서 저장)
+     *
+     * @param page   페이지 번호
+     * @param size   페이지 크기
+     * @param loader 직렬화된 응답 본문을 만드는 함수
+     * @return 캐시된 페이지 응답
+     * @throws RuntimeException 요청 스레드에서 불러오다 실패할 경우 loader의 예외
+     */
+    public CachedPage get(int page, int size, Supplier<byte[]> loader) {
+        Key key = new Key(page, size);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            long age = clock.getAsLong() - entry.loadedAt();
+            if (age < properties.getFreshMs() && entry.generation() == generation.get()) {
+                record("hit");
+                return entry.page();
+            }
+            if (age < properties.getMaxStaleMs()) {
+                record("stale");
+                refreshInBackground(key, loader);
+                return entry.page();
+            }
+        }
+
+        record("miss");
+        try {
+            return load(key, loader, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 변경 트랜잭션 커밋 후 모든 페이지를 갱신 대상으로 표시
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void refreshInBackground(Key key, Supplier<byte[]> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        load(key, loader, refresher).whenComplete((result, e) -> {
+            if (e != null) {
+                meterRegistry.counter(REFRESH_FAILED_METRIC).increment();
+                log.warn("상품 목록 페이지 캐시 갱신 실패, 이전 응답 유지: page={}, size={}", key.page(), key.size(), e);
+            }
+        });
+    }
+
+    private CompletableFuture<CachedPage> load(Key key, Supplier<byte[]> loader, Executor executor) {
+        CompletableFuture<CachedPage> created = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        long loadGeneration = generation.get();
+        long startedAt = clock.getAsLong();
+        Runnable task = () -> {
+            try {
+                CachedPage cachedPage = CachedPage.of(loader.get(), properties.isGzip());
+                entries.put(key, new Entry(cachedPage, startedAt, loadGeneration));
+                created.complete(cachedPage);
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, created);
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(LOOKUP_METRIC, "result", result).increment();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 캐시된 페이지 응답
+     *
+     * @param body    직렬화된 응답 본문
+     * @param gzipped gzip 압축한 응답 본문 (압축하지 않으면 null)
+     */
+    public record CachedPage(byte[] body, byte[] gzipped) {
+
+        static CachedPage of(byte[] body, boolean gzip) {
+            return new CachedPage(body, gzip ? compress(body) : null);
+        }
+
+        private static byte[] compress(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private record Key(int page, int size) {
+    }
+
+    private record Entry(CachedPage page, long loadedAt, long generation) {
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.product.service.ProductService;
+import org.example.global.common.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * 상품 목록 페이지 캐시 필터
+ * <p>
+ * {@code GET /api/v1/products} 중 {@link ProductListPageCache} 대상 페이지는 컨트롤러를 거치지 않고 캐시된 바이트를 바로 씁니다.
+ * 클라이언트가 gzip을 받을 수 있으면 압축본을 그대로 씁니다.
+ * 캐시 대상이 아니거나 요청 스레드에서 불러오다 실패하면 컨트롤러로 넘겨 평소처럼 처리합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductListPageCacheFilter extends OncePerRequestFilter {
+
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+    private static final int DEFAULT_PAGE = 0;
+    private static final int DEFAULT_SIZE = 20;
+    private static final String GZIP = "gzip";
+
+    private final ProductListPageCache productListPageCache;
+    private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ProductEdgeCache productEdgeCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int page;
+        int size;
+        try {
+            page = intParameter(request, "page", DEFAULT_PAGE);
+            size = intParameter(request, "size", DEFAULT_SIZE);
+        } catch (NumberFormatException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!productListPageCache.isCacheable(page, size)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ProductListPageCache.CachedPage cachedPage;
+        try {
+            cachedPage = productListPageCache.get(page, size, () -> render(page, size));
+        } catch (RuntimeException e) {
+            log.debug("상품 목록 페이지 캐시 불러오기 실패, 컨트롤러로 처리: page={}, size={}", page, size, e);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        write(request, response, cachedPage);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !PRODUCTS_PATH.equals(request.getRequestURI());
+    }
+
+    private byte[] render(int page, int size) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success(productService.getProducts(page, size)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(HttpServletRequest request,
+                       HttpServletResponse response,
+                       ProductListPageCache.CachedPage cachedPage) throws IOException {
+        byte[] body = cachedPage.body();
+        if (cachedPage.gzipped() != null && acceptsGzip(request)) {
+            body = cachedPage.gzipped();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, productEdgeCache.cacheControl().getHeaderValue());
+        response.setHeader(ProductEdgeCache.SURROGATE_KEY_HEADER, ProductEdgeCache.LIST_KEY);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains(GZIP);
+    }
+
+    private int intParameter(HttpServletRequest request, String name, int defaultValue) {
+        String value = request.getParameter(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,166 @@
+package org.example.domain.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세 Redis 공유 캐시 (L2)
+ * <p>
+ * 모든 노드가 함께 쓰는 상품 상세 캐시입니다. 상품은 수정 일시({@code updatedAt})를 버전으로 하여 저장하며,
+ * 늦게 도착한 이전 버전이 새 버전을 덮어쓰지 않습니다.
+ * 상품이 바뀌면 키를 지우는 대신 값을 지우고 무효화 세대({@code gen})를 올린 묘비를 남긴 뒤,
+ * 무효화 채널에 상품 ID를 발행하여 다른 노드의 로컬 캐시도 비우게 합니다.
+ * 조회 시 읽은 세대를 저장할 때 함께 넘기므로, 무효화 전에 DB에서 이전 값을 읽은 요청은 그 값을 다시 저장하지 못합니다.
+ * Redis 장애 시에는 캐시가 없는 것처럼 DB에서 조회합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.cache.redis", name = "enabled", havingValue = "true")
+public class ProductRedisCache {
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-cache-put.lua"), Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product-cache-invalidate.lua"), Long.class);
+
+    private static final String VALUE_FIELD = "value";
+    private static final String GENERATION_FIELD = "gen";
+    private static final String LOOKUP_METRIC = "product.cache.l2";
+    static final String ID_DELIMITER = ",";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 상품 상세 조회
+     *
+     * @param productId 상품 ID
+     * @return 조회 결과 (없으면 DB에서 불러온 값을 저장할 때 넘길 무효화 세대 포함)
+     */
+    public Lookup get(Long productId) {
+        try {
+            List<Object> fields = redisTemplate.opsForHash()
+                    .multiGet(key(productId), List.of(VALUE_FIELD, GENERATION_FIELD));
+            Object value = fields.get(0);
+            Object generation = fields.get(1);
+            if (value == null) {
+                meterRegistry.counter(LOOKUP_METRIC, "result", "miss").increment();
+                return Lookup.miss(generation == null ? 0L : Long.parseLong(generation.toString()));
+            }
+            meterRegistry.counter(LOOKUP_METRIC, "result", "hit").increment();
+            return Lookup.hit(objectMapper.readValue(value.toString(), ProductResponse.class));
+        } catch (DataAccessException | JsonProcessingException | NumberFormatException e) {
+            log.warn("상품 캐시 조회 실패: productId={}, message={}", productId, e.getMessage());
+            return Lookup.unavailable();
+        }
+    }
+
+    /**
+     * 상품 상세 저장
+     * <p>
+     * 조회 이후 무효화되어 세대가 바뀌었거나 저장된 버전보다 오래된 값이면 무시합니다.
+     * </p>
+     *
+     * @param product    상품 응답 DTO
+     * @param generation DB 조회 전에 {@link #get}으로 읽은 무효화 세대
+     */
+    public void put(ProductResponse product, long generation) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(product.getId())),
+                    String.valueOf(version(product.getUpdatedAt())),
+                    objectMapper.writeValueAsString(product),
+                    String.valueOf(properties.getRedis().getTtlMs()),
+                    String.valueOf(generation));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("상품 캐시 저장 실패: productId={}, message={}", product.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 캐시를 묘비로 바꾼 뒤 다른 노드에 무효화 메시지 발행
+     *
+     * @param productIds 변경된 상품 ID 목록
+     */
+    public void invalidate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, productIds.stream().map(this::key).toList(),
+                    String.valueOf(properties.getRedis().getTtlMs()));
+            redisTemplate.convertAndSend(properties.getRedis().getChannel(), productIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(ID_DELIMITER)));
+        } catch (DataAccessException e) {
+            log.warn("상품 캐시 무효화 실패: productIds={}, message={}", productIds, e.getMessage());
+        }
+    }
+
+    private String key(Long productId) {
+        return properties.getRedis().getKeyPrefix() + productId;
+    }
+
+    /**
+     * 수정 일시를 비교 가능한 버전 숫자로 변환 (마이크로초)
+     */
+    private static long version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return 0L;
+        }
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    }
+
+    /**
+     * L2 조회 결과
+     *
+     * @param product    캐시된 상품 (없으면 null)
+     * @param generation 조회 시점 무효화 세대 (Redis 장애로 알 수 없으면 -1)
+     */
+    public record Lookup(ProductResponse product, long generation) {
+
+        static final long UNKNOWN_GENERATION = -1L;
+
+        static Lookup hit(ProductResponse product) {
+            return new Lookup(product, UNKNOWN_GENERATION);
+        }
+
+        static Lookup miss(long generation) {
+            return new Lookup(null, generation);
+        }
+
+        static Lookup unavailable() {
+            return new Lookup(null, UNKNOWN_GENERATION);
+        }
+
+        public boolean isHit() {
+            return product != null;
+        }
+
+        /**
+         * @return 불러온 값을 저장해도 되는지 (Redis 장애로 세대를 모르면 저장하지 않음)
+         */
+        public boolean isStorable() {
+            return generation != UNKNOWN_GENERATION;
+        }
+    }
+}
@@ -5,10 +5,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.example.domain.product.cache.ProductEdgeCache;
 import org.example.domain.product.dto.response.ProductResponse;
 import org.example.domain.product.service.ProductService;
 import org.example.global.common.ApiResponse;
+import org.example.global.common.EntityTags;
 import org.example.global.common.PagingResponse;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -23,30 +26,60 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ProductController {
 
+    private static final String PRODUCT_RESOURCE = "product";
+
     private final ProductService productService;
+    private final ProductEdgeCache productEdgeCache;
 
     @Operation(summary = "상품 목록 조회", description = "판매중/품절 상품 목록을 페이징하여 조회합니다")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
     })
     @GetMapping
-    public ApiResponse<PagingResponse<ProductResponse>> getProducts(
+    public ResponseEntity<ApiResponse<PagingResponse<ProductResponse>>> getProducts(
             @Parameter(description = "페이지 번호 (0부터 시작)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기")
             @RequestParam(defaultValue = "20") int size) {
-        return ApiResponse.success(productService.getProducts(page, size));
+        return ResponseEntity.ok()
+                .cacheControl(productEdgeCache.cacheControl())
+                .header(ProductEdgeCache.SURROGATE_KEY_HEADER, ProductEdgeCache.LIST_KEY)
+                .body(ApiResponse.success(productService.getProducts(page, size)));
+    }
+
+    @Operation(summary = "상품 목록 조회 (커서)", description = "판매중/품절 상품 목록을 최신순으로 조회합니다. 전체 개수 대신 다음 페이지 커서를 반환합니다")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PagingResponse<ProductResponse>>> getProductsByCursor(
+            @Parameter(description = "이전 응답의 다음 페이지 커서 (없으면 처음부터)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok()
+                .cacheControl(productEdgeCache.cacheControl())
+                .header(ProductEdgeCache.SURROGATE_KEY_HEADER, ProductEdgeCache.LIST_KEY)
+                .body(ApiResponse.success(productService.getProductsByCursor(cursor, size)));
     }
 
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "If-None-Match와 ETag가 같아 변경 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
     })
     @GetMapping("/{id}")
-    public ApiResponse<ProductResponse> getProduct(
+    public ResponseEntity<ApiResponse<ProductResponse>> getProduct(
             @Parameter(description = "상품 ID", required = true)
             @PathVariable Long id) {
-        return ApiResponse.success(productService.getProduct(id));
+        // 상세 캐시에서 읽은 버전으로 ETag를 만들며 (재고 벌크 UPDATE도 버전을 올림), If-None-Match가 같으면 본문 없이 304로 응답됨
+        ProductResponse product = productService.getProduct(id);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(PRODUCT_RESOURCE, id, product.getVersion()))
+                .cacheControl(productEdgeCache.cacheControl())
+                .header(ProductEdgeCache.SURROGATE_KEY_HEADER, ProductEdgeCache.productKey(id))
+                .body(ApiResponse.success(product));
     }
 }
@@ -2,6 +2,7 @@ package org.example.domain.product.dto.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized
 public class ProductResponse {
 
     private Long id;
@@ -17,6 +19,7 @@ public class ProductResponse {
     private Integer stockQuantity;
     private ProductStatus status;
     private Long sellerId;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -28,6 +31,7 @@ public class ProductResponse {
                 .stockQuantity(product.getStockQuantity())
                 .status(product.getStatus())
                 .sellerId(product.getSellerId())
+                .version(product.getVersion())
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
                 .build();
@@ -5,9 +5,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.global.common.BaseTimeEntity;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
+import org.example.global.id.SnowflakeId;
 
 /**
  * 상품 엔티티
@@ -16,14 +18,17 @@ import org.example.global.exception.ErrorCode;
  * </p>
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_products_seller_id_created_at", columnList = "seller_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseTimeEntity {
 
     /** 상품 고유 식별자 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     /** 상품명 */
@@ -47,6 +52,12 @@ public class Product extends BaseTimeEntity {
     @Column(nullable = false)
     private Long sellerId;
 
+    /** 낙관적 락 버전 (변경될 때마다 증가) */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Product(String name, Long price, Integer stockQuantity, Long sellerId) {
         this.name = name;
@@ -93,9 +104,13 @@ public class Product extends BaseTimeEntity {
      * </p>
      *
      * @param quantity 차감할 수량
+     * @throws BusinessException INVALID_STOCK_QUANTITY - 차감 수량이 1 미만일 경우
      * @throws BusinessException INSUFFICIENT_STOCK - 재고가 부족할 경우
      */
     public void decreaseStock(int quantity) {
+        if (quantity <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_STOCK_QUANTITY);
+        }
         if (this.stockQuantity < quantity) {
             throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
         }
@@ -0,0 +1,31 @@
+package org.example.domain.product.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 상품 변경 이벤트
+ * <p>
+ * 상품 정보나 재고가 바뀌거나 상품이 삭제될 때 발행됩니다.
+ * </p>
+ *
+ * @param productIds   변경된 상품 ID 목록
+ * @param sellerChange 판매자가 상품을 수정/삭제했는지 여부 (재고가 주문 증감이 아닌 새 값으로 바뀌었을 수 있음)
+ */
+public record ProductChangedEvent(
+        Set<Long> productIds,
+        boolean sellerChange
+) {
+
+    public static ProductChangedEvent of(Long productId) {
+        return new ProductChangedEvent(Set.of(productId), false);
+    }
+
+    public static ProductChangedEvent of(Collection<Long> productIds) {
+        return new ProductChangedEvent(Set.copyOf(productIds), false);
+    }
+
+    public static ProductChangedEvent ofSellerChange(Long productId) {
+        return new ProductChangedEvent(Set.of(productId), true);
+    }
+}
@@ -6,12 +6,16 @@ import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,12 +29,45 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
      * 상태 목록으로 상품 조회 (페이징)
+     * <p>
+     * 전체 개수를 세지 않으므로 COUNT 쿼리가 실행되지 않습니다. 전체 개수는 {@link #countByStatusIn(Collection)}으로 따로 조회합니다.
+     * </p>
      *
      * @param statuses 조회할 상태 목록
      * @param pageable 페이징 정보
-     * @return 상품 페이지
+     * @return 상품 슬라이스
+     */
+    Slice<Product> findByStatusIn(List<ProductStatus> statuses, Pageable pageable);
+
+    /**
+     * 상태 목록으로 커서 이후의 상품 조회 (keyset 페이징)
+     * <p>
+     * (생성 일시, 상품 ID) 내림차순으로 커서보다 오래된 상품만 조회하며, (status, created_at, id) 인덱스를 사용합니다.
+     * OFFSET 없이 인덱스에서 바로 다음 위치를 찾으므로 뒤쪽 페이지도 첫 페이지와 비용이 같습니다.
+     * </p>
+     *
+     * @param statuses        조회할 상태 목록
+     * @param beforeCreatedAt 커서의 생성 일시
+     * @param beforeId        커서의 상품 ID
+     * @param pageable        조회 개수 (첫 페이지만 사용)
+     * @return 상품 목록 (생성 일시, 상품 ID 내림차순)
+     */
+    @Query("SELECT p FROM Product p " +
+           "WHERE p.status IN :statuses " +
+           "AND (p.createdAt < :beforeCreatedAt OR (p.createdAt = :beforeCreatedAt AND p.id < :beforeId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findByStatusInBefore(@Param("statuses") Collection<ProductStatus> statuses,
+                                       @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                       @Param("beforeId") Long beforeId,
+                                       Pageable pageable);
+
+    /**
+     * 상태 목록에 해당하는 상품 수 조회
+     *
+     * @param statuses 조회할 상태 목록
+     * @return 상품 수
      */
-    Page<Product> findByStatusIn(List<ProductStatus> statuses, Pageable pageable);
+    long countByStatusIn(Collection<ProductStatus> statuses);
 
     /**
      * 판매자 ID로 상품 조회 (페이징)
@@ -55,4 +92,99 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 대기 없는 비관적 락으로 상품 조회 (SELECT ... FOR UPDATE NOWAIT)
+     * <p>
+     * 다른 트랜잭션이 행을 잠그고 있으면 기다리지 않고 바로 락 획득 실패 예외가 발생합니다.
+     * </p>
+     *
+     * @param id 상품 ID
+     * @return 상품 Optional (락 획득 후)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0")})
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdWithLockNoWait(@Param("id") Long id);
+
+    /**
+     * 잠긴 행을 건너뛰는 비관적 락으로 상품 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * <p>
+     * 다른 트랜잭션이 행을 잠그고 있으면 예외 없이 빈 결과를 반환합니다.
+     * </p>
+     *
+     * @param id 상품 ID
+     * @return 상품 Optional (상품이 없거나 다른 트랜잭션이 잠그고 있으면 empty)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdWithLockSkipLocked(@Param("id") Long id);
+
+    /**
+     * 비관적 락으로 여러 상품 조회 (SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE)
+     * <p>
+     * 여러 상품을 한 번에 주문할 때 사용됩니다.
+     * 항상 상품 ID 오름차순으로 락을 잡으므로 상품 구성이 겹치는 주문끼리 데드락이 발생하지 않습니다.
+     * 락 획득 타임아웃: 3초
+     * </p>
+     *
+     * @param ids 상품 ID 목록
+     * @return 상품 목록 (ID 오름차순, 존재하는 상품만)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 조건부 재고 차감 (단일 UPDATE)
+     * <p>
+     * 재고가 충분할 때만 차감하며, 재고에 따라 상태(SELLING/SOLD_OUT)도 함께 변경합니다.
+     * MySQL은 SET 절을 왼쪽부터 평가하므로 상태를 재고보다 먼저 계산해야 변경 전 재고를 기준으로 판단합니다.
+     * 낙관적 락 경로와 충돌을 감지할 수 있도록 버전도 함께 증가시킵니다.
+     * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 조회한 상품 엔티티에는 반영되지 않습니다.
+     * </p>
+     *
+     * @param id       상품 ID
+     * @param quantity 차감할 수량
+     * @param now      수정 일시
+     * @return 변경된 행 수 (0이면 상품이 없거나 재고 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET " +
+           "p.status = CASE " +
+           "WHEN p.status = org.example.domain.product.entity.ProductStatus.SELLING AND p.stockQuantity = :quantity " +
+           "THEN org.example.domain.product.entity.ProductStatus.SOLD_OUT " +
+           "WHEN p.status = org.example.domain.product.entity.ProductStatus.SOLD_OUT AND p.stockQuantity > :quantity " +
+           "THEN org.example.domain.product.entity.ProductStatus.SELLING " +
+           "ELSE p.status END, " +
+           "p.stockQuantity = p.stockQuantity - :quantity, " +
+           "p.version = p.version + 1, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    /**
+     * 재고 원자적 증가 (단일 UPDATE)
+     * <p>
+     * 품절 상태에서 재고가 생기면 상태를 SELLING으로 변경합니다.
+     * </p>
+     *
+     * @param id       상품 ID
+     * @param quantity 증가할 수량
+     * @param now      수정 일시
+     * @return 변경된 행 수 (0이면 상품이 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET " +
+           "p.status = CASE " +
+           "WHEN p.status = org.example.domain.product.entity.ProductStatus.SOLD_OUT AND p.stockQuantity + :quantity > 0 " +
+           "THEN org.example.domain.product.entity.ProductStatus.SELLING " +
+           "ELSE p.status END, " +
+           "p.stockQuantity = p.stockQuantity + :quantity, " +
+           "p.version = p.version + 1, " +
+           "p.updatedAt = :now " +
+           "WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
 }
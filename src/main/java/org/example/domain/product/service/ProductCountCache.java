@@ -0,0 +1,76 @@
+package org.example.domain.product.service;
+
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 상태별 상품 수 캐시
+ * <p>
+ * 상품 목록의 전체 개수는 화면 표시용이므로 정확할 필요가 없습니다.
+ * 상태 조합별로 COUNT 결과를 보관하다가 갱신 주기가 지난 뒤 처음 조회하는 요청 하나만 다시 COUNT하고,
+ * 그동안 다른 요청은 이전 값을 그대로 사용합니다.
+ * </p>
+ */
+@Component
+public class ProductCountCache {
+
+    private final ProductRepository productRepository;
+    private final ProductListingProperties properties;
+    private final LongSupplier clock;
+    private final Map<Set<ProductStatus>, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProductCountCache(ProductRepository productRepository, ProductListingProperties properties) {
+        this(productRepository, properties, System::currentTimeMillis);
+    }
+
+    ProductCountCache(ProductRepository productRepository, ProductListingProperties properties, LongSupplier clock) {
+        this.productRepository = productRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 상태 목록에 해당하는 상품 수 조회
+     *
+     * @param statuses 상태 목록
+     * @return 상품 수 (최대 갱신 주기만큼 지난 값일 수 있음)
+     */
+    public long count(Collection<ProductStatus> statuses) {
+        if (properties.getCountRefreshMs() <= 0) {
+            return productRepository.countByStatusIn(statuses);
+        }
+
+        Set<ProductStatus> key = EnumSet.copyOf(statuses);
+        CachedCount cached = counts.computeIfAbsent(key, this::load);
+        if (clock.getAsLong() - cached.loadedAt() < properties.getCountRefreshMs()
+                || !cached.refreshing().compareAndSet(false, true)) {
+            return cached.value();
+        }
+
+        try {
+            CachedCount refreshed = load(key);
+            counts.put(key, refreshed);
+            return refreshed.value();
+        } finally {
+            cached.refreshing().set(false);
+        }
+    }
+
+    private CachedCount load(Set<ProductStatus> statuses) {
+        return new CachedCount(productRepository.countByStatusIn(statuses), clock.getAsLong(), new AtomicBoolean());
+    }
+
+    private record CachedCount(long value, long loadedAt, AtomicBoolean refreshing) {
+    }
+}
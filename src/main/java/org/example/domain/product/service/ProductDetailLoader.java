@@ -0,0 +1,40 @@
+package org.example.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.bulkhead.DbBulkhead;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 상세 DB 조회기
+ * <p>
+ * 상품 상세 캐시에 없을 때만 호출되며, 다른 조회와 같이 {@link DbBulkhead} 허용을 받은 뒤 단건 조회 트랜잭션으로 실행됩니다.
+ * 캐시 적중은 허용 없이 반환되도록 {@link ProductServiceImpl}과 별도 빈으로 둡니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@DbBulkhead
+@Transactional(readOnly = true)
+public class ProductDetailLoader {
+
+    private final ProductRepository productRepository;
+
+    /**
+     * 상품 상세 조회
+     *
+     * @param productId 상품 ID
+     * @return 상품 응답 DTO
+     * @throws BusinessException PRODUCT_NOT_FOUND - 상품이 존재하지 않을 경우
+     * @throws BusinessException DB_BULKHEAD_FULL - DB 동시 실행 허용을 받지 못할 경우
+     */
+    public ProductResponse load(Long productId) {
+        return productRepository.findById(productId)
+                .map(ProductResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.domain.product.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 목록 조회 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "product.listing")
+public class ProductListingProperties {
+
+    /** 페이지 번호 방식 목록의 전체 개수 캐시 갱신 주기 (밀리초, 0이면 매번 COUNT 쿼리 실행) */
+    private long countRefreshMs = 60_000;
+}
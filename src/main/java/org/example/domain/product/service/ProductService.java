@@ -24,6 +24,7 @@ public interface ProductService {
      * 판매중/품절 상품 목록 페이징 조회
      * <p>
      * SELLING, SOLD_OUT 상태의 상품만 조회됩니다. STOPPED 상태는 제외됩니다.
+     * 전체 개수는 {@link ProductCountCache}에 캐시된 값이므로 갱신 주기만큼 늦게 반영될 수 있습니다.
      * </p>
      *
      * @param page 페이지 번호 (0부터 시작)
@@ -31,4 +32,17 @@ public interface ProductService {
      * @return 페이징된 상품 목록
      */
     PagingResponse<ProductResponse> getProducts(int page, int size);
+
+    /**
+     * 판매중/품절 상품 목록 조회 (커서 방식)
+     * <p>
+     * 최신 상품부터 조회하며, 전체 개수 대신 다음 페이지 커서를 반환합니다.
+     * </p>
+     *
+     * @param cursor 이전 응답의 다음 페이지 커서 (없으면 가장 최근 상품부터)
+     * @param size   페이지 크기
+     * @return 커서 방식으로 페이징된 상품 목록
+     * @throws org.example.global.exception.BusinessException INVALID_INPUT_VALUE - 커서 형식이 잘못된 경우
+     */
+    PagingResponse<ProductResponse> getProductsByCursor(String cursor, int size);
 }
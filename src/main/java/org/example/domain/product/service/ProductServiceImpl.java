@@ -1,18 +1,21 @@
 package org.example.domain.product.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.domain.product.cache.ProductDetailCache;
 import org.example.domain.product.dto.response.ProductResponse;
 import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
 import org.example.domain.product.repository.ProductRepository;
+import org.example.global.common.CursorInfo;
+import org.example.global.common.KeysetCursor;
 import org.example.global.common.PagingInfo;
 import org.example.global.common.PagingResponse;
-import org.example.global.exception.BusinessException;
-import org.example.global.exception.ErrorCode;
-import org.springframework.data.domain.Page;
+import org.example.global.bulkhead.DbBulkhead;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -25,37 +28,74 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
 
+    private static final List<ProductStatus> LISTED_STATUSES = List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT);
+
     private final ProductRepository productRepository;
+    private final ProductCountCache productCountCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductDetailLoader productDetailLoader;
 
     /**
      * {@inheritDoc}
+     * <p>
+     * 캐시에 있으면 트랜잭션도 DB bulkhead 허용도 받지 않으며,
+     * 없을 때만 {@link ProductDetailLoader}가 허용을 받아 단건 조회 트랜잭션으로 불러옵니다.
+     * </p>
      */
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProductResponse getProduct(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
-        return ProductResponse.from(product);
+        return productDetailCache.get(productId, productDetailLoader::load);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @DbBulkhead
     public PagingResponse<ProductResponse> getProducts(int page, int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Product> productPage = productRepository.findByStatusIn(
-                List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT), pageRequest);
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        Slice<Product> productSlice = productRepository.findByStatusIn(LISTED_STATUSES, pageRequest);
 
-        List<ProductResponse> content = productPage.getContent().stream()
+        List<ProductResponse> content = productSlice.getContent().stream()
                 .map(ProductResponse::from)
                 .toList();
 
         PagingInfo pagingInfo = new PagingInfo(
-                productPage.getNumber(),
-                productPage.getSize(),
-                productPage.getTotalElements()
+                productSlice.getNumber(),
+                productSlice.getSize(),
+                productCountCache.count(LISTED_STATUSES)
         );
 
         return new PagingResponse<>(pagingInfo, content);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @DbBulkhead
+    public PagingResponse<ProductResponse> getProductsByCursor(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        // 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        List<Product> products = productRepository.findByStatusInBefore(
+                LISTED_STATUSES, position.createdAt(), position.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+
+        List<ProductResponse> content = products.stream()
+                .map(ProductResponse::from)
+                .toList();
+
+        Product last = products.isEmpty() ? null : products.get(products.size() - 1);
+        String nextCursor = hasNext && last != null
+                ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode()
+                : null;
+
+        return PagingResponse.ofCursor(new CursorInfo(size, nextCursor, nextCursor != null), content);
+    }
 }
@@ -1,15 +1,18 @@
 package org.example.domain.product.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.domain.product.cache.ProductEdgeCache;
 import org.example.domain.product.dto.request.ProductCreateRequest;
 import org.example.domain.product.dto.request.ProductUpdateRequest;
 import org.example.domain.product.dto.response.ProductResponse;
 import org.example.domain.product.entity.Product;
+import org.example.domain.product.event.ProductChangedEvent;
 import org.example.domain.product.repository.ProductRepository;
 import org.example.global.common.PagingInfo;
 import org.example.global.common.PagingResponse;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -27,6 +30,8 @@ import java.util.List;
 public class SellerProductServiceImpl implements SellerProductService {
 
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductEdgeCache productEdgeCache;
 
     /**
      * {@inheritDoc}
@@ -36,6 +41,7 @@ public class SellerProductServiceImpl implements SellerProductService {
     public ProductResponse createProduct(ProductCreateRequest request, Long sellerId) {
         Product product = request.toEntity(sellerId);
         Product savedProduct = productRepository.save(product);
+        productEdgeCache.purgeAfterCommit(List.of(ProductEdgeCache.LIST_KEY));
         return ProductResponse.from(savedProduct);
     }
 
@@ -72,6 +78,8 @@ public class SellerProductServiceImpl implements SellerProductService {
         validateOwnership(product, sellerId);
 
         product.updateInfo(request.getName(), request.getPrice(), request.getStockQuantity());
+        eventPublisher.publishEvent(ProductChangedEvent.ofSellerChange(productId));
+        productEdgeCache.purgeAfterCommit(List.of(ProductEdgeCache.productKey(productId), ProductEdgeCache.LIST_KEY));
         return ProductResponse.from(product);
     }
 
@@ -87,6 +95,8 @@ public class SellerProductServiceImpl implements SellerProductService {
         validateOwnership(product, sellerId);
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.ofSellerChange(productId));
+        productEdgeCache.purgeAfterCommit(List.of(ProductEdgeCache.productKey(productId), ProductEdgeCache.LIST_KEY));
     }
 
     /**
@@ -0,0 +1,20 @@
+package org.example.global.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 동시 실행 수 제한 대상 표시
+ * <p>
+ * 클래스에 붙이면 모든 public 메서드가, 메서드에 붙이면 해당 메서드가 {@link DbBulkheadAspect}의 허용 수 안에서만 실행됩니다.
+ * 트랜잭션보다 먼저 허용을 받으므로 대기하는 동안 커넥션을 잡지 않습니다.
+ * </p>
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DbBulkhead {
+}
@@ -0,0 +1,101 @@
+package org.example.global.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 동시 실행 수 제한(bulkhead)
+ * <p>
+ * {@link DbBulkhead} 대상 호출을 공정(fair) 세마포어로 제한합니다.
+ * 트랜잭션 어드바이스보다 바깥에서 실행되어, 허용을 받은 호출만 커넥션을 가져갑니다.
+ * 같은 스레드에서 이미 허용을 받은 중첩 호출은 다시 받지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DbBulkheadAspect {
+
+    private static final String REJECTED_METRIC = "db.bulkhead.rejected";
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final ThreadLocal<Boolean> permitHeld = new ThreadLocal<>();
+    private final DbBulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore semaphore;
+    private final int permits;
+
+    public DbBulkheadAspect(DbBulkheadProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.permits = properties.getMaxConcurrent() > 0 ? properties.getMaxConcurrent() : poolSize(dataSource);
+        this.semaphore = new Semaphore(permits, true);
+        Gauge.builder("db.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .description("DB bulkhead 남은 허용 수")
+                .register(meterRegistry);
+        log.info("DB bulkhead 허용 수: {}", permits);
+    }
+
+    @Around("@within(org.example.global.bulkhead.DbBulkhead) || @annotation(org.example.global.bulkhead.DbBulkhead)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled() || permitHeld.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        if (!acquire()) {
+            meterRegistry.counter(REJECTED_METRIC, "service", service).increment();
+            log.warn("DB bulkhead 포화로 요청 거절: service={}, method={}, permits={}",
+                    service, joinPoint.getSignature().getName(), permits);
+            throw new BusinessException(ErrorCode.DB_BULKHEAD_FULL);
+        }
+
+        permitHeld.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            permitHeld.remove();
+            semaphore.release();
+        }
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    private boolean acquire() {
+        try {
+            return semaphore.tryAcquire(properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("커넥션 풀 크기 확인 실패, 기본값 사용: {}", DEFAULT_POOL_SIZE, e);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
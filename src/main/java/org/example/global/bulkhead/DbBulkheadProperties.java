@@ -0,0 +1,27 @@
+package org.example.global.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * DB 동시 실행 수 제한(bulkhead) 설정
+ * <p>
+ * 가상 스레드로 요청을 처리하면 요청 스레드 수 제한이 사라져 대기가 커넥션 풀({@code connection-timeout})로 옮겨갑니다.
+ * 트랜잭션 서비스 진입을 커넥션 풀 크기만큼만 허용하고, 허용을 받지 못하면 짧게 기다린 뒤 바로 실패시킵니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "db-bulkhead")
+public class DbBulkheadProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = false;
+
+    /** 동시 실행 허용 수 (0이면 커넥션 풀 최대 크기) */
+    private int maxConcurrent = 0;
+
+    /** 허용을 기다리는 최대 시간 (밀리초, 넘기면 DB_BULKHEAD_FULL) */
+    private long maxWaitMs = 50;
+}
@@ -0,0 +1,15 @@
+package org.example.global.common;
+
+/**
+ * 커서 기반 페이징 정보
+ *
+ * @param pageSize   페이지 크기
+ * @param nextCursor 다음 페이지 조회에 넘길 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record CursorInfo(
+        int pageSize,
+        String nextCursor,
+        boolean hasNext
+) {
+}
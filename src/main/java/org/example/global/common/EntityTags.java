@@ -0,0 +1,43 @@
+package org.example.global.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 엔티티 태그(ETag) 생성기
+ * <p>
+ * 리소스 종류, ID와 함께 버전 또는 수정 일시로 강한 ETag를 만듭니다. 그 값이 같으면 응답 본문도 같다고 봅니다.
+ * 낙관적 락 버전이 있는 엔티티는 버전을 쓰고, 없는 엔티티만 수정 일시를 씁니다.
+ * DB에는 수정 일시가 마이크로초까지 저장되므로 그보다 작은 단위는 버려, 저장 직후의 엔티티와 다시 조회한 엔티티의 태그를 같게 합니다.
+ * </p>
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * 버전 기반 ETag 생성
+     *
+     * @param resource 리소스 종류 (예: product)
+     * @param id       리소스 ID
+     * @param version  낙관적 락 버전 (벌크 UPDATE도 함께 올려야 함)
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String of(String resource, Long id, Long version) {
+        return "\"" + resource + "-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * 수정 일시 기반 ETag 생성
+     *
+     * @param resource  리소스 종류 (예: order)
+     * @param id        리소스 ID
+     * @param updatedAt 수정 일시
+     * @return 따옴표로 감싼 강한 ETag
+     */
+    public static String of(String resource, Long id, LocalDateTime updatedAt) {
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + resource + "-" + id + "-" + micros + "\"";
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.global.common;
+
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 목록 커서 (keyset)
+ * <p>
+ * (생성 일시, ID) 내림차순으로 마지막에 반환한 항목을 가리키며, 다음 페이지는 그보다 오래된 항목부터 조회합니다.
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64url로 인코딩한 문자열로 전달합니다.
+ * </p>
+ *
+ * @param createdAt 마지막 항목의 생성 일시
+ * @param id        마지막 항목 ID
+ */
+public record KeysetCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * 가장 최근 항목부터 조회하는 위치
+     */
+    public static KeysetCursor first() {
+        return new KeysetCursor(LATEST, Long.MAX_VALUE);
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (비어 있으면 처음부터)
+     * @return 목록 커서
+     * @throws BusinessException INVALID_INPUT_VALUE - 커서 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     *
+     * @return Base64url 인코딩된 커서
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
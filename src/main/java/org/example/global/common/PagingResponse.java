@@ -1,9 +1,34 @@
 package org.example.global.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/**
+ * 페이징 응답
+ * <p>
+ * 페이지 번호 방식은 {@code paging}, 커서 방식은 {@code cursor}만 채워지며 나머지는 응답에서 빠집니다.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PagingResponse<T>(
         PagingInfo paging,
+        CursorInfo cursor,
         List<T> content
 ) {
+
+    public PagingResponse(PagingInfo paging, List<T> content) {
+        this(paging, null, content);
+    }
+
+    /**
+     * 커서 방식 페이징 응답 생성
+     *
+     * @param cursor  커서 페이징 정보
+     * @param content 페이지 내용
+     * @return 페이징 응답
+     */
+    public static <T> PagingResponse<T> ofCursor(CursorInfo cursor, List<T> content) {
+        return new PagingResponse<>(null, cursor, content);
+    }
 }
@@ -14,6 +14,11 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류가 발생했습니다"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "잘못된 타입의 값입니다"),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "접근이 거부되었습니다"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C006", "다른 요청에 의해 변경되었습니다. 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "C007", "잘못된 멱등성 키입니다"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C008", "같은 멱등성 키로 다른 요청을 보낼 수 없습니다"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C009", "같은 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    DB_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "C010", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
 
     // Auth
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증이 필요합니다"),
@@ -31,12 +36,21 @@ public enum ErrorCode {
     // Product
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "상품을 찾을 수 없습니다"),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "P002", "재고가 부족합니다"),
+    INVALID_STOCK_QUANTITY(HttpStatus.BAD_REQUEST, "P003", "재고 변경 수량은 1 이상이어야 합니다"),
 
     // Order
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "O001", "주문을 찾을 수 없습니다"),
     ORDER_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "O002", "이미 취소된 주문입니다"),
     ORDER_CANNOT_CANCEL(HttpStatus.BAD_REQUEST, "O003", "취소할 수 없는 주문 상태입니다"),
-    ORDER_LOCK_FAILED(HttpStatus.CONFLICT, "O004", "다른 요청이 처리 중입니다. 잠시 후 다시 시도해주세요");
+    ORDER_LOCK_FAILED(HttpStatus.CONFLICT, "O004", "다른 요청이 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    ORDER_INTAKE_NOT_FOUND(HttpStatus.NOT_FOUND, "O005", "주문 접수 내역을 찾을 수 없습니다"),
+    ORDER_INTAKE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "O006", "주문 접수가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    ORDER_INTAKE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "O007", "비동기 주문 접수를 사용할 수 없습니다"),
+    WAITING_ROOM_NOT_OPEN(HttpStatus.NOT_FOUND, "O008", "대기열이 운영되지 않는 상품입니다"),
+    WAITING_ROOM_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "O009", "대기열 입장권이 없습니다"),
+    WAITING_ROOM_ADMISSION_REQUIRED(HttpStatus.TOO_MANY_REQUESTS, "O010", "대기열 입장 순서가 되지 않았습니다. 입장권을 발급받아 대기해주세요"),
+    ORDER_PRODUCT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "O011", "주문이 몰리고 있는 상품입니다. 잠시 후 다시 시도해주세요"),
+    ORDER_BULK_TOO_LARGE(HttpStatus.BAD_REQUEST, "O012", "대량 주문 줄 수가 한 번에 처리할 수 있는 수를 넘었습니다");
 
     private final HttpStatus status;
     private final String code;
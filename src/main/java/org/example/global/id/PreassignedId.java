@@ -0,0 +1,16 @@
+package org.example.global.id;
+
+/**
+ * 저장 전에 미리 발급한 ID를 가질 수 있는 엔티티
+ * <p>
+ * {@link SnowflakeIdentifierGenerator}는 미리 발급한 ID가 있으면 새로 발급하지 않고 그 ID를 사용합니다.
+ * 엔티티의 {@code @Id} 필드는 저장 전까지 비워 두어야 Hibernate가 새 엔티티로 보고 INSERT합니다.
+ * </p>
+ */
+public interface PreassignedId {
+
+    /**
+     * @return 미리 발급한 ID (없으면 null)
+     */
+    Long getPreassignedId();
+}
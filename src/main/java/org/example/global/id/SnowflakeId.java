@@ -0,0 +1,23 @@
+package org.example.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 발급하는 시간순 ID
+ * <p>
+ * {@code @GeneratedValue(strategy = IDENTITY)} 대신 사용합니다.
+ * INSERT 전에 ID가 정해지므로 Hibernate가 JDBC 배치 INSERT를 사용할 수 있습니다.
+ * </p>
+ *
+ * @see SnowflakeIdGenerator
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
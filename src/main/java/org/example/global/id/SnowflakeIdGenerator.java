@@ -0,0 +1,98 @@
+package org.example.global.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 ID 발급기
+ * <p>
+ * ID는 [초 단위 시각 32비트 | 노드 ID 5비트 | 순번 16비트]로 구성된 53비트 양수로,
+ * JavaScript Number로도 손실 없이 표현됩니다.
+ * 같은 노드에서는 항상 증가하며, 노드 ID가 다르면 서로 겹치지 않습니다.
+ * 노드당 초당 65,536개를 넘게 발급하면 다음 초가 될 때까지 기다리고,
+ * 시계가 뒤로 가면 마지막으로 사용한 시각을 따라잡을 때까지 기다립니다.
+ * 아직 오지 않은 시각의 ID를 미리 쓰지 않으므로, 재시작 후 같은 노드가 이미 발급한 ID를 다시 발급하지 않습니다.
+ * </p>
+ */
+public final class SnowflakeIdGenerator {
+
+    /** 기준 시각 (2024-01-01T00:00:00Z) */
+    static final long EPOCH_SECONDS = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    static final int NODE_ID_BITS = 5;
+    static final int SEQUENCE_BITS = 16;
+
+    /** 최대 노드 ID */
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long WAIT_INTERVAL_MS = 10;
+    private static final Map<Integer, SnowflakeIdGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier epochSecondClock;
+
+    private long lastSecond = -1;
+    private long sequence;
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier epochSecondClock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.epochSecondClock = epochSecondClock;
+    }
+
+    /**
+     * 노드별 발급기 조회 (엔티티 간 공유)
+     *
+     * @param nodeId 노드 ID (0 ~ {@link #MAX_NODE_ID}, 인스턴스마다 달라야 함)
+     * @return ID 발급기
+     */
+    public static SnowflakeIdGenerator forNode(int nodeId) {
+        return GENERATORS.computeIfAbsent(nodeId,
+                id -> new SnowflakeIdGenerator(id, () -> Instant.now().getEpochSecond()));
+    }
+
+    /**
+     * 다음 ID 발급
+     *
+     * @return 53비트 양수 ID
+     */
+    public synchronized long nextId() {
+        long second = currentSecond();
+        if (second < lastSecond) {
+            // 시계가 뒤로 감: 마지막으로 사용한 시각까지 기다림
+            second = awaitSecond(lastSecond);
+        }
+        if (second > lastSecond) {
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            // 이번 초의 순번 소진: 다음 초까지 기다림
+            second = awaitSecond(lastSecond + 1);
+            sequence = 0;
+        }
+        lastSecond = second;
+        return (lastSecond << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private long currentSecond() {
+        return epochSecondClock.getAsLong() - EPOCH_SECONDS;
+    }
+
+    private long awaitSecond(long target) {
+        long second = currentSecond();
+        while (second < target) {
+            try {
+                Thread.sleep(WAIT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("ID 발급 대기 중 인터럽트", e);
+            }
+            second = currentSecond();
+        }
+        return second;
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.global.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * {@link SnowflakeId} Hibernate ID 생성기
+ * <p>
+ * 노드 ID는 Hibernate 설정 {@value #NODE_ID_SETTING}
+ * ({@code spring.jpa.properties.youyoung.id.node-id})에서 읽으며, 없으면 0을 사용합니다.
+ * 노드 ID 없이 시작할 수 있는 것은 local/test 프로필뿐입니다 ({@code IdConfig}에서 확인).
+ * 엔티티가 {@link PreassignedId}로 미리 발급한 ID를 가지고 있으면 그 ID를 사용합니다.
+ * </p>
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "youyoung.id.node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.generator = SnowflakeIdGenerator.forNode(nodeId == null || nodeId.toString().isBlank()
+                ? 0
+                : Integer.parseInt(nodeId.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof PreassignedId preassigned && preassigned.getPreassignedId() != null) {
+            return preassigned.getPreassignedId();
+        }
+        return generator.nextId();
+    }
+}
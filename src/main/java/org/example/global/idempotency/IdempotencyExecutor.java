@@ -0,0 +1,200 @@
+package org.example.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키 실행기
+ * <p>
+ * 같은 구매자가 같은 {@code Idempotency-Key}로 보낸 요청은 한 번만 처리합니다.
+ * <ul>
+ *     <li>저장된 결과가 있으면 DB 접근 없이 그대로 반환 (hit)</li>
+ *     <li>같은 인스턴스에서 처리 중이면 그 결과를 기다려 함께 반환 (collision)</li>
+ *     <li>다른 인스턴스에서 처리 중이면 결과가 저장될 때까지 잠시 기다리고, 그래도 없으면 409 (collision)</li>
+ *     <li>처음 보는 키면 처리 후 결과 저장 (miss)</li>
+ * </ul>
+ * 실패한 요청의 결과는 저장하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * 같은 키로 내용이 다른 요청을 보내면 422로 거절합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyExecutor {
+
+    private static final String METRIC = "idempotency.requests";
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 멱등성 키를 적용하여 실행
+     *
+     * @param operation      작업 이름 (키 범위, 메트릭 태그)
+     * @param buyerId        요청자 ID (키 범위)
+     * @param idempotencyKey 멱등성 키 (없으면 멱등성 미적용)
+     * @param request        요청 내용 (같은 키 재사용 검증용)
+     * @param responseType   응답 타입
+     * @param action         실행할 작업
+     * @return 작업 결과 또는 저장된 첫 요청 결과
+     * @throws BusinessException IDEMPOTENCY_KEY_INVALID - 키 형식이 잘못된 경우
+     * @throws BusinessException IDEMPOTENCY_KEY_REUSED - 같은 키로 다른 요청을 보낸 경우
+     * @throws BusinessException IDEMPOTENCY_REQUEST_IN_PROGRESS - 같은 키의 요청이 아직 처리 중인 경우
+     */
+    public <T> T execute(String operation, Long buyerId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || !properties.isEnabled()) {
+            return action.get();
+        }
+        validate(idempotencyKey);
+
+        String key = properties.getKeyPrefix() + operation + ":" + buyerId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(operation, request);
+
+        CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            count(operation, "collision");
+            return replay(awaitLocal(running), fingerprint, responseType);
+        }
+
+        try {
+            IdempotencyRecord record = store.find(key);
+            if (record != null) {
+                count(operation, "hit");
+                mine.complete(record);
+                return replay(record, fingerprint, responseType);
+            }
+
+            String lockToken = store.tryLock(key);
+            if (lockToken == null) {
+                count(operation, "collision");
+                record = awaitRemote(key);
+                mine.complete(record);
+                return replay(record, fingerprint, responseType);
+            }
+
+            try {
+                // 조회와 락 획득 사이에 다른 요청이 처리를 마치고 락을 풀었을 수 있으므로 다시 확인
+                record = store.find(key);
+                if (record != null) {
+                    count(operation, "hit");
+                    mine.complete(record);
+                    return replay(record, fingerprint, responseType);
+                }
+
+                count(operation, "miss");
+                T result = action.get();
+                record = new IdempotencyRecord(fingerprint, serialize(result));
+                store.save(key, record);
+                mine.complete(record);
+                return result;
+            } finally {
+                store.unlock(key, lockToken);
+            }
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void validate(String idempotencyKey) {
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_INVALID);
+        }
+    }
+
+    private IdempotencyRecord awaitLocal(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private IdempotencyRecord awaitRemote(String key) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeoutMs());
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            IdempotencyRecord record = store.find(key);
+            if (record != null) {
+                return record;
+            }
+        }
+        throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    private <T> T replay(IdempotencyRecord record, String fingerprint, Class<T> responseType) {
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return objectMapper.readValue(record.body(), responseType);
+        } catch (JsonProcessingException e) {
+            log.error("멱등성 결과 역직렬화 실패: type={}", responseType.getSimpleName(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private String serialize(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 결과 직렬화 실패", e);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((operation + ":" + serialize(request)).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String operation, String result) {
+        meterRegistry.counter(METRIC, "operation", operation, "result", result).increment();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.global.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 멱등성 키 설정
+ * <p>
+ * {@code Idempotency-Key} 헤더가 있는 요청의 첫 응답을 Redis에 저장해 두고, 같은 키로 다시 들어온 요청에는
+ * 저장된 응답을 그대로 돌려줍니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /** 멱등성 키 사용 여부 (끄면 헤더를 무시) */
+    private boolean enabled = true;
+
+    /** Redis 키 접두사 */
+    private String keyPrefix = "idempotency:";
+
+    /** 응답 보관 시간 (초) */
+    private long ttlSeconds = 86400;
+
+    /** 처리 중 표시 유지 시간 (밀리초, 처리 중 장애가 나도 이 시간이 지나면 다시 처리 가능) */
+    private long lockTimeoutMs = 30000;
+
+    /** 다른 인스턴스에서 처리 중인 요청의 결과를 기다리는 최대 시간 (밀리초) */
+    private long waitTimeoutMs = 5000;
+
+    /** 멱등성 키 최대 길이 */
+    private int maxKeyLength = 100;
+}
@@ -0,0 +1,10 @@
+package org.example.global.idempotency;
+
+/**
+ * 저장된 첫 요청 결과
+ *
+ * @param fingerprint 첫 요청 내용의 해시 (같은 키로 다른 요청을 보냈는지 확인용)
+ * @param body        직렬화한 응답 데이터
+ */
+public record IdempotencyRecord(String fingerprint, String body) {
+}
@@ -0,0 +1,102 @@
+package org.example.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 멱등성 결과 저장소 (Redis)
+ * <p>
+ * Redis 장애 시에는 요청을 막지 않도록 저장된 결과가 없고 처리 중 표시도 획득한 것으로 간주합니다.
+ * </p>
+ * <p>
+ * 처리 중 표시에는 요청마다 다른 소유자 토큰을 저장하고, 해제할 때 토큰이 같을 때만 지웁니다.
+ * 처리가 {@code lockTimeoutMs}보다 오래 걸려 표시가 만료되고 다른 요청이 다시 획득했으면 그 표시를 지우지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final RedisScript<Long> UNLOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/idempotency-unlock.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+
+    /**
+     * 저장된 결과 조회
+     *
+     * @param key 멱등성 저장 키
+     * @return 저장된 결과 (없거나 Redis 장애 시 null)
+     */
+    public IdempotencyRecord find(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value == null ? null : objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("멱등성 결과 조회 실패: key={}, message={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 처리 중 표시 획득
+     *
+     * @param key 멱등성 저장 키
+     * @return 해제할 때 쓸 소유자 토큰 (다른 요청이 처리 중이면 null, Redis 장애 시에도 토큰 반환)
+     */
+    public String tryLock(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(key + LOCK_SUFFIX, token, Duration.ofMillis(properties.getLockTimeoutMs()));
+            return Boolean.FALSE.equals(locked) ? null : token;
+        } catch (DataAccessException e) {
+            log.warn("멱등성 처리 중 표시 실패, 멱등성 미적용: key={}, message={}", key, e.getMessage());
+            return token;
+        }
+    }
+
+    /**
+     * 처리 중 표시 해제
+     *
+     * @param key   멱등성 저장 키
+     * @param token {@link #tryLock(String)}이 반환한 소유자 토큰
+     */
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key + LOCK_SUFFIX), token);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 처리 중 표시 해제 실패: key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 결과 저장
+     *
+     * @param key    멱등성 저장 키
+     * @param record 저장할 결과
+     */
+    public void save(String key, IdempotencyRecord record) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(record),
+                    Duration.ofSeconds(properties.getTtlSeconds()));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("멱등성 결과 저장 실패: key={}, message={}", key, e.getMessage());
+        }
+    }
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
 import org.example.global.security.auth.CustomUserDetailsService;
+import org.example.global.trace.PhaseTracer;
 import org.example.util.redis.RedisService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,6 +29,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
     private final RedisService redisService;
+    private final PhaseTracer phaseTracer;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -37,12 +39,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = jwtTokenProvider.resolveToken(request);
 
             if (StringUtils.hasText(token)) {
-                if (redisService.isTokenBlacklisted(token)) {
+                if (phaseTracer.trace("auth.blacklist", () -> redisService.isTokenBlacklisted(token))) {
                     log.debug("블랙리스트에 등록된 토큰입니다");
                     throw new BusinessException(ErrorCode.LOGOUT_USER);
                 }
 
-                if (jwtTokenProvider.validateToken(token)) {
+                if (phaseTracer.trace("auth.jwt", () -> jwtTokenProvider.validateToken(token))) {
                     Authentication authentication = getAuthentication(token);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("Security Context에 '{}' 인증 정보 저장", authentication.getName());
@@ -56,8 +58,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private Authentication getAuthentication(String token) {
-        String email = jwtTokenProvider.getEmailFromToken(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        String email = phaseTracer.trace("auth.jwt", () -> jwtTokenProvider.getEmailFromToken(token));
+        UserDetails userDetails = phaseTracer.trace("auth.member", () -> userDetailsService.loadUserByUsername(email));
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
@@ -0,0 +1,44 @@
+package org.example.global.trace;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 최근 요청 기록을 메모리에 보관하는 exporter (로컬 확인용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "phase-trace.memory", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<RequestTrace> traces = new ArrayDeque<>();
+
+    public InMemorySpanExporter(PhaseTraceProperties properties) {
+        this.capacity = Math.max(1, properties.getMemory().getCapacity());
+    }
+
+    @Override
+    public synchronized void export(RequestTrace trace) {
+        if (traces.size() >= capacity) {
+            traces.removeFirst();
+        }
+        traces.addLast(trace);
+    }
+
+    /**
+     * 최근 요청 기록 조회
+     *
+     * @return 최근 요청 기록 (최신순)
+     */
+    public synchronized List<RequestTrace> getRecentTraces() {
+        List<RequestTrace> recent = new ArrayList<>(traces);
+        Collections.reverse(recent);
+        return recent;
+    }
+}
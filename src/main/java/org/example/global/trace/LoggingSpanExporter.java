@@ -0,0 +1,32 @@
+package org.example.global.trace;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * 요청 기록을 로그로 출력하는 exporter (로컬 확인용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "phase-trace.log", name = "enabled", havingValue = "true")
+public class LoggingSpanExporter implements SpanExporter {
+
+    private final PhaseTraceProperties properties;
+
+    @Override
+    public void export(RequestTrace trace) {
+        if (trace.getDurationMs() < properties.getLog().getThresholdMs()) {
+            return;
+        }
+        String spans = trace.getSpans().stream()
+                .map(span -> String.format("%s%s=%.2fms%s",
+                        "  ".repeat(span.depth()), span.phase(), span.durationMs(), span.failed() ? "(failed)" : ""))
+                .collect(Collectors.joining("\n"));
+        log.info("요청 단계 기록: {} {}ms\n{}", trace.getName(), String.format("%.2f", trace.getDurationMs()), spans);
+    }
+}
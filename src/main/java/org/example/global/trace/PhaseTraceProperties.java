@@ -0,0 +1,48 @@
+package org.example.global.trace;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 단계별 소요 시간 추적 설정
+ * <p>
+ * 요청 하나를 JWT 검증, 회원 조회, 재고 락, Repository 호출, 커밋 같은 단계(span)로 나누어 시간을 잽니다.
+ * 단계별 시간은 메트릭({@code request.phase})으로 집계되고, 요청 단위 기록은 {@link SpanExporter}로 내보냅니다.
+ * </p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "phase-trace")
+public class PhaseTraceProperties {
+
+    /** 요청 단계 추적 사용 여부 (끄면 단계별 메트릭도 기록하지 않음) */
+    private boolean enabled = true;
+
+    /** 추적할 요청 경로 접두사 */
+    private String pathPrefix = "/api/";
+
+    /** 메모리 exporter 설정 */
+    private Memory memory = new Memory();
+
+    /** 로그 exporter 설정 */
+    private Log log = new Log();
+
+    @Getter
+    @Setter
+    public static class Memory {
+        /** 최근 요청 기록을 메모리에 보관 (/actuator/phases 에서 조회) */
+        private boolean enabled = true;
+        /** 보관할 최근 요청 수 */
+        private int capacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class Log {
+        /** 요청 기록을 로그로 출력 */
+        private boolean enabled = false;
+        /** 이 시간 이상 걸린 요청만 출력 (밀리초) */
+        private long thresholdMs = 0;
+    }
+}
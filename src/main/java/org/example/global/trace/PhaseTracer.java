@@ -0,0 +1,178 @@
+package org.example.global.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단계 추적기
+ * <p>
+ * 단계마다 {@code request.phase} 타이머(phase 태그, p50/p95/p99)에 시간을 기록하고,
+ * 현재 스레드에 진행 중인 요청이 있으면 요청 기록에도 단계를 추가합니다.
+ * 요청은 {@link PhaseTraceFilter}가 시작하고 끝내며, 끝난 요청은 등록된 모든 {@link SpanExporter}로 내보냅니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PhaseTracer {
+
+    public static final String PHASE_METRIC = "request.phase";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final ThreadLocal<RequestTrace> currentTrace = new ThreadLocal<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final PhaseTraceProperties properties;
+    private final List<SpanExporter> exporters;
+
+    public PhaseTracer(MeterRegistry meterRegistry, PhaseTraceProperties properties, List<SpanExporter> exporters) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.exporters = exporters;
+    }
+
+    /**
+     * 현재 스레드에서 요청 기록 시작
+     *
+     * @param name 요청 이름
+     */
+    public void begin(String name) {
+        currentTrace.set(new RequestTrace(name));
+    }
+
+    /**
+     * 현재 스레드의 요청 기록을 끝내고 내보냄
+     */
+    public void end() {
+        RequestTrace trace = currentTrace.get();
+        if (trace == null) {
+            return;
+        }
+        currentTrace.remove();
+        trace.finish();
+        for (SpanExporter exporter : exporters) {
+            try {
+                exporter.export(trace);
+            } catch (RuntimeException e) {
+                log.warn("요청 단계 기록 내보내기 실패: exporter={}", exporter.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * 단계 실행 및 기록
+     *
+     * @param phase  단계 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T trace(String phase, Supplier<T> action) {
+        return traceChecked(phase, action::get);
+    }
+
+    /**
+     * 검사 예외를 던지는 단계 실행 및 기록
+     *
+     * @param phase  단계 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     * @throws E 작업이 던진 예외
+     */
+    public <T, E extends Throwable> T traceChecked(String phase, PhaseAction<T, E> action) throws E {
+        if (!properties.isEnabled()) {
+            return action.run();
+        }
+        RequestTrace trace = currentTrace.get();
+        int depth = trace != null ? trace.enter() : 0;
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = action.run();
+            failed = false;
+            return result;
+        } finally {
+            record(trace, phase, depth, startNanos, failed);
+        }
+    }
+
+    /**
+     * 단계 실행 및 기록 (반환값 없음)
+     *
+     * @param phase  단계 이름
+     * @param action 실행할 작업
+     */
+    public void trace(String phase, Runnable action) {
+        trace(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 단계 기록 예약
+     * <p>
+     * 커밋 직전부터 트랜잭션 종료까지를 한 단계로 기록합니다.
+     * 쓰기 지연된 INSERT/UPDATE는 커밋 시 flush되므로 이 단계에 포함됩니다.
+     * </p>
+     *
+     * @param phase 단계 이름
+     */
+    public void traceCommit(String phase) {
+        if (!properties.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long startNanos;
+            private int depth;
+            private RequestTrace trace;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                trace = currentTrace.get();
+                depth = trace != null ? trace.enter() : 0;
+                startNanos = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (startNanos != 0) {
+                    record(trace, phase, depth, startNanos, status != STATUS_COMMITTED);
+                }
+            }
+        });
+    }
+
+    private void record(RequestTrace trace, String phase, int depth, long startNanos, boolean failed) {
+        long endNanos = System.nanoTime();
+        timer(phase).record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+        if (trace != null) {
+            trace.exit(phase, depth, startNanos, endNanos, failed);
+        }
+    }
+
+    private Timer timer(String phase) {
+        return timers.computeIfAbsent(phase, key -> Timer.builder(PHASE_METRIC)
+                .description("요청 단계별 소요 시간")
+                .tag("phase", key)
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry));
+    }
+
+    /**
+     * 단계로 기록할 작업
+     */
+    @FunctionalInterface
+    public interface PhaseAction<T, E extends Throwable> {
+        T run() throws E;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.global.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단계별 소요 시간 조회 Actuator 엔드포인트 (/actuator/phases)
+ * <p>
+ * 단계별 호출 수, 평균, 최대, p50/p95/p99(밀리초)와, 메모리 exporter가 켜져 있으면 최근 요청 기록을 보여줍니다.
+ * </p>
+ */
+@Component
+@Endpoint(id = "phases")
+@RequiredArgsConstructor
+public class PhasesEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<InMemorySpanExporter> inMemorySpanExporter;
+
+    @ReadOperation
+    public Map<String, Object> phases() {
+        List<Map<String, Object>> phases = meterRegistry.find(PhaseTracer.PHASE_METRIC).timers().stream()
+                .sorted(Comparator.comparing((Timer timer) -> timer.totalTime(TimeUnit.MILLISECONDS)).reversed())
+                .map(this::toPhase)
+                .toList();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("phases", phases);
+        InMemorySpanExporter exporter = inMemorySpanExporter.getIfAvailable();
+        if (exporter != null) {
+            body.put("recent", exporter.getRecentTraces());
+        }
+        return body;
+    }
+
+    private Map<String, Object> toPhase(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        Map<String, Object> phase = new LinkedHashMap<>();
+        phase.put("phase", timer.getId().getTag("phase"));
+        phase.put("count", snapshot.count());
+        phase.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        phase.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            phase.put("p" + Math.round(percentile.percentile() * 100) + "Ms", percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return phase;
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.global.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repository 호출 단계 기록
+ * <p>
+ * 모든 Spring Data Repository 메서드 호출을 {@code repository.<Repository>.<method>} 단계로 기록합니다.
+ * </p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryPhaseAspect {
+
+    private final PhaseTracer phaseTracer;
+    /** Repository 프록시 클래스별, 메서드별 단계 이름 */
+    private final Map<Class<?>, Map<Method, String>> phaseNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String phase = phaseNames.computeIfAbsent(joinPoint.getThis().getClass(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> "repository." + repositoryName(joinPoint) + "." + method.getName());
+        return phaseTracer.traceChecked(phase, joinPoint::proceed);
+    }
+
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())) {
+            if (type.getPackageName().startsWith("org.example")) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.global.trace;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나의 단계 기록
+ * <p>
+ * 요청을 처리하는 스레드에서만 변경되며, 완료 후 {@link SpanExporter}에 전달됩니다.
+ * 단계는 끝난 순서로 쌓이므로 바깥 단계가 안쪽 단계보다 뒤에 옵니다.
+ * </p>
+ */
+public class RequestTrace {
+
+    private final String name;
+    private final Instant startedAt;
+    private final long startNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private int depth;
+    private long durationNanos = -1;
+
+    RequestTrace(String name) {
+        this.name = name;
+        this.startedAt = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    /** 요청 이름 (HTTP 메서드와 경로) */
+    public String getName() {
+        return name;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /** 요청 전체 소요 시간 (밀리초) */
+    public double getDurationMs() {
+        return toMs(durationNanos);
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    int enter() {
+        return depth++;
+    }
+
+    void exit(String phase, int spanDepth, long spanStartNanos, long spanEndNanos, boolean failed) {
+        depth = spanDepth;
+        spans.add(new Span(phase, spanDepth, toMs(spanStartNanos - startNanos), toMs(spanEndNanos - spanStartNanos), failed));
+    }
+
+    void finish() {
+        durationNanos = System.nanoTime() - startNanos;
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
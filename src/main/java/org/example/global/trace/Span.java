@@ -0,0 +1,19 @@
+package org.example.global.trace;
+
+/**
+ * 요청 안의 한 단계
+ *
+ * @param phase          단계 이름
+ * @param depth          중첩 깊이 (0이 가장 바깥)
+ * @param startOffsetMs  요청 시작부터 단계 시작까지 시간 (밀리초)
+ * @param durationMs     단계 소요 시간 (밀리초)
+ * @param failed         예외로 끝났는지 여부
+ */
+public record Span(
+        String phase,
+        int depth,
+        double startOffsetMs,
+        double durationMs,
+        boolean failed
+) {
+}
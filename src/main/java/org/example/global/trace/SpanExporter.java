@@ -0,0 +1,18 @@
+package org.example.global.trace;
+
+/**
+ * 요청 단계 기록 exporter
+ * <p>
+ * 빈으로 등록된 모든 exporter가 요청이 끝날 때마다 호출됩니다.
+ * 요청 스레드에서 호출되므로 외부로 보내는 구현은 직접 비동기로 처리해야 합니다.
+ * </p>
+ */
+public interface SpanExporter {
+
+    /**
+     * 완료된 요청 기록 내보내기
+     *
+     * @param trace 요청 기록
+     */
+    void export(RequestTrace trace);
+}
@@ -0,0 +1,55 @@
+-- 초기 스키마 (Flyway 도입 전 ddl-auto: update로 생성되던 테이블과 동일)
+-- 기존 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 간주하고 V2부터 적용합니다.
+-- 이후 추가된 컬럼과 인덱스는 이 파일에 넣지 않고 V2 이후 마이그레이션으로 추가합니다.
+-- 상태/권한 컬럼은 VARCHAR로 만듭니다. 기존 MySQL DB에는 ENUM으로 만들어져 있을 수 있으나 값은 같으며,
+-- Hibernate는 ddl-auto: none에서 두 타입을 같은 문자열로 읽고 씁니다.
+
+CREATE TABLE members (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    email         VARCHAR(50)  NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    name          VARCHAR(50)  NOT NULL,
+    phone         VARCHAR(20),
+    role          VARCHAR(20)  NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    last_login_at DATETIME(6),
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_members_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE products (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(200) NOT NULL,
+    price          BIGINT       NOT NULL,
+    stock_quantity INT          NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    seller_id      BIGINT       NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE orders (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    buyer_id    BIGINT      NOT NULL,
+    total_price BIGINT      NOT NULL,
+    status      VARCHAR(20)  NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE order_items (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    order_id      BIGINT       NOT NULL,
+    product_id    BIGINT       NOT NULL,
+    product_name  VARCHAR(200) NOT NULL,
+    product_price BIGINT       NOT NULL,
+    quantity      INT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order_id FOREIGN KEY (order_id) REFERENCES orders (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,2 @@
+-- 낙관적 락 재고 전략용 상품 버전 (기존 행은 0부터 시작)
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- 결제 전 주문의 재고 예약 만료 일시 (null이면 만료 없음, 기존 주문은 만료되지 않음)
+ALTER TABLE orders ADD COLUMN expires_at DATETIME(6);
+
+-- 만료 주문 정리: status = 'PENDING' AND expires_at <= ? ORDER BY expires_at, id
+CREATE INDEX idx_orders_status_expires_at ON orders (status, expires_at);
@@ -0,0 +1,5 @@
+-- 구매자 주문 내역 페이징/커서: buyer_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_orders_buyer_id_created_at_id ON orders (buyer_id, created_at, id);
+
+-- 판매 중 상품 목록 페이징/커서: status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_products_status_created_at_id ON products (status, created_at, id);
@@ -0,0 +1,6 @@
+-- 판매자 상품 목록: findBySellerId (seller_id = ? ORDER BY created_at DESC)
+CREATE INDEX idx_products_seller_id_created_at ON products (seller_id, created_at);
+
+-- 주문 상품 fetch join / 상품별 수량 합계: order_id IN (...)
+-- MySQL은 외래 키용으로 자동 생성한 인덱스를 이 인덱스로 대체합니다.
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
@@ -0,0 +1,8 @@
+-- 멱등성 처리 중 표시 해제 스크립트
+-- KEYS[1]: 처리 중 표시 키
+-- ARGV[1]: 표시를 획득할 때 저장한 소유자 토큰
+-- 반환값: 해제했으면 1, 만료 후 다른 요청이 다시 획득했거나 이미 없으면 0
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
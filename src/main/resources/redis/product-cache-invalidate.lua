@@ -0,0 +1,11 @@
+-- 상품 상세 캐시 무효화 스크립트
+-- KEYS: 상품 캐시 키 목록 (hash: gen, version, value)
+-- ARGV[1]: 묘비 유지 시간 (밀리초)
+-- 키를 지우지 않고 값만 지운 뒤 세대를 올려 둡니다.
+-- 무효화 전에 DB 조회를 시작한 요청은 이전 세대를 들고 있으므로 저장 스크립트에서 거절됩니다.
+for _, key in ipairs(KEYS) do
+    redis.call('HINCRBY', key, 'gen', 1)
+    redis.call('HDEL', key, 'version', 'value')
+    redis.call('PEXPIRE', key, ARGV[1])
+end
+return #KEYS
@@ -0,0 +1,16 @@
+-- 상품 상세 캐시 저장 스크립트
+-- KEYS[1]: 상품 캐시 키 (hash: gen, version, value)
+-- ARGV[1]: 저장할 버전 (상품 수정 일시), ARGV[2]: 상품 JSON, ARGV[3]: 유지 시간 (밀리초)
+-- ARGV[4]: DB 조회 전에 읽은 무효화 세대
+-- 조회 이후 무효화되어 세대가 바뀌었거나, 이미 더 새로운 버전이 저장되어 있으면 덮어쓰지 않습니다.
+local generation = redis.call('HGET', KEYS[1], 'gen') or '0'
+if generation ~= ARGV[4] then
+    return 0
+end
+local current = redis.call('HGET', KEYS[1], 'version')
+if current and tonumber(current) > tonumber(ARGV[1]) then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'version', ARGV[1], 'value', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,17 @@
+-- 재고 게이트 선차감 스크립트
+-- KEYS: 상품별 재고 카운터 키 목록
+-- ARGV: 차감할 수량 목록 (KEYS와 같은 순서)
+-- 반환값: 1 = 차감 성공, 0 = 재고 부족, -1 = 초기화되지 않은 카운터 존재
+for i = 1, #KEYS do
+    local stock = redis.call('GET', KEYS[i])
+    if not stock then
+        return -1
+    end
+    if tonumber(stock) < tonumber(ARGV[i]) then
+        return 0
+    end
+end
+for i = 1, #KEYS do
+    redis.call('DECRBY', KEYS[i], ARGV[i])
+end
+return 1
@@ -0,0 +1,10 @@
+-- 재고 게이트 반환 스크립트
+-- KEYS: 상품별 재고 카운터 키 목록
+-- ARGV: 반환할 수량 목록 (KEYS와 같은 순서)
+-- 카운터가 없으면(재동기화로 삭제된 경우 등) 새로 만들지 않습니다.
+for i = 1, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('INCRBY', KEYS[i], ARGV[i])
+    end
+end
+return 1
@@ -0,0 +1,31 @@
+-- 대기열 입장 허용 스크립트
+-- KEYS[1]: 대기 ZSET (member = 구매자 ID, score = 대기 시작 시각)
+-- KEYS[2]: 입장 ZSET (member = 구매자 ID, score = 입장권 만료 시각)
+-- KEYS[3]: 직전 주기 주문 완료 카운터
+-- KEYS[4]: 주기당 1회 실행 보장용 락
+-- ARGV: 현재 시각(ms), 입장권 유효 시간(ms), 최소 입장 인원, 최대 입장 인원, 여유 배수, 주기(ms)
+-- 반환값: 입장시킨 인원 수, 이번 주기에 다른 인스턴스가 이미 실행했으면 -1
+if not redis.call('SET', KEYS[4], '1', 'NX', 'PX', ARGV[6]) then
+    return -1
+end
+
+local now = tonumber(ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+-- 직전 주기 처리량에 여유 배수를 곱한 만큼만 동시에 입장시킨다
+local completed = tonumber(redis.call('GETSET', KEYS[3], '0') or '0')
+local target = math.ceil(completed * tonumber(ARGV[5]))
+target = math.max(target, tonumber(ARGV[3]))
+target = math.min(target, tonumber(ARGV[4]))
+
+local count = target - redis.call('ZCARD', KEYS[2])
+if count <= 0 then
+    return 0
+end
+
+local popped = redis.call('ZPOPMIN', KEYS[1], count)
+local expiresAt = now + tonumber(ARGV[2])
+for i = 1, #popped, 2 do
+    redis.call('ZADD', KEYS[2], expiresAt, popped[i])
+end
+return #popped / 2
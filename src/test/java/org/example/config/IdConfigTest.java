@@ -0,0 +1,50 @@
+package org.example.config;
+
+import org.example.global.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdConfig 단위 테스트")
+class IdConfigTest {
+
+    private final IdConfig idConfig = new IdConfig();
+
+    @Test
+    @DisplayName("노드 ID가 없으면 local/test 프로필이 아닐 때 시작하지 않는다")
+    void missingNodeId_OutsideLocalOrTest_Fails() {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty(IdConfig.NODE_ID_PROPERTY, "");
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThatThrownBy(() -> idConfig.snowflakeIdGenerator(environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ID_NODE_ID");
+    }
+
+    @Test
+    @DisplayName("노드 ID가 없어도 test 프로필에서는 0번 노드를 사용한다")
+    void missingNodeId_TestProfile_UsesNodeZero() {
+        // given
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("test");
+
+        // when & then
+        assertThat(idConfig.snowflakeIdGenerator(environment)).isSameAs(SnowflakeIdGenerator.forNode(0));
+    }
+
+    @Test
+    @DisplayName("설정한 노드 ID의 발급기를 사용한다")
+    void configuredNodeId_UsesThatNode() {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty(IdConfig.NODE_ID_PROPERTY, "7");
+        environment.setActiveProfiles("prod");
+
+        // when & then
+        assertThat(idConfig.snowflakeIdGenerator(environment)).isSameAs(SnowflakeIdGenerator.forNode(7));
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.domain;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.product.dto.request.ProductUpdateRequest;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.domain.product.service.SellerProductService;
+import org.example.global.security.auth.CustomUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 조건부 조회(ETag / If-None-Match) 통합 테스트
+ * <p>
+ * 상품/주문 상세 조회가 변경이 없으면 본문 없이 304로 응답하고, 변경되면 새 ETag로 200 응답하는지 검증합니다.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("조건부 조회 통합 테스트")
+class ConditionalGetIntegrationTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Long BUYER_ID = 10L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SellerProductService sellerProductService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        product = productRepository.save(Product.builder()
+                .name("조건부 조회 상품")
+                .price(10000L)
+                .stockQuantity(100)
+                .sellerId(SELLER_ID)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("상품 상세")
+    class ProductDetail {
+
+        @Test
+        @DisplayName("ETag가 같으면 304, 판매자가 수정하면 새 ETag로 200")
+        void 상품_조건부_조회() throws Exception {
+            // given
+            String path = "/api/v1/products/" + product.getId();
+            MockHttpServletResponse first = perform(get(path));
+            String eTag = first.getHeader("ETag");
+
+            // when
+            MockHttpServletResponse notModified = perform(get(path).header("If-None-Match", eTag));
+            sellerProductService.updateProduct(product.getId(), ProductUpdateRequest.builder()
+                    .name("수정된 상품")
+                    .price(20000L)
+                    .stockQuantity(50)
+                    .build(), SELLER_ID);
+            MockHttpServletResponse modified = perform(get(path).header("If-None-Match", eTag));
+
+            // then
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(eTag).isEqualTo("\"product-" + product.getId() + "-v" + product.getVersion() + "\"");
+            assertThat(first.getHeader("Cache-Control")).isEqualTo("max-age=0, public, s-maxage=10");
+            assertThat(first.getHeader("Surrogate-Key")).isEqualTo("product-" + product.getId());
+
+            assertThat(notModified.getStatus()).isEqualTo(304);
+            assertThat(notModified.getContentAsByteArray()).isEmpty();
+            assertThat(notModified.getHeaders("ETag")).containsExactly(eTag);
+
+            assertThat(modified.getStatus()).isEqualTo(200);
+            assertThat(modified.getHeader("ETag")).isNotEqualTo(eTag);
+            assertThat(modified.getContentAsString(StandardCharsets.UTF_8)).contains("수정된 상품");
+        }
+
+        @Test
+        @DisplayName("주문으로 재고가 줄면 버전이 올라 새 ETag로 200")
+        void 재고_변경_후_조건부_조회() throws Exception {
+            // given
+            String path = "/api/v1/products/" + product.getId();
+            String eTag = perform(get(path)).getHeader("ETag");
+
+            // when
+            orderService.createOrder(new OrderCreateRequest(product.getId(), 1), BUYER_ID);
+            MockHttpServletResponse modified = perform(get(path).header("If-None-Match", eTag));
+
+            // then
+            Long version = productRepository.findById(product.getId()).orElseThrow().getVersion();
+            assertThat(modified.getStatus()).isEqualTo(200);
+            assertThat(modified.getHeader("ETag")).isEqualTo("\"product-" + product.getId() + "-v" + version + "\"");
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 상세")
+    class OrderDetail {
+
+        @Test
+        @DisplayName("ETag가 같으면 304, 주문이 취소되면 새 ETag로 200")
+        void 주문_조건부_조회() throws Exception {
+            // given
+            Long orderId = orderService.createOrder(new OrderCreateRequest(product.getId(), 1), BUYER_ID).getId();
+            String path = "/api/v1/orders/" + orderId;
+            MockHttpServletResponse first = perform(asBuyer(get(path)));
+            String eTag = first.getHeader("ETag");
+
+            // when
+            MockHttpServletResponse notModified = perform(asBuyer(get(path).header("If-None-Match", eTag)));
+            orderService.cancelOrder(orderId, BUYER_ID);
+            MockHttpServletResponse modified = perform(asBuyer(get(path).header("If-None-Match", eTag)));
+
+            // then
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(eTag).startsWith("\"order-" + orderId + "-");
+            assertThat(first.getHeader("Cache-Control")).isEqualTo("no-cache, private");
+
+            assertThat(notModified.getStatus()).isEqualTo(304);
+            assertThat(notModified.getContentAsByteArray()).isEmpty();
+            assertThat(notModified.getHeaders("ETag")).containsExactly(eTag);
+
+            assertThat(modified.getStatus()).isEqualTo(200);
+            assertThat(modified.getHeader("ETag")).isNotEqualTo(eTag);
+            assertThat(modified.getContentAsString(StandardCharsets.UTF_8)).contains("CANCELLED");
+        }
+
+        @Test
+        @DisplayName("다른 구매자의 주문은 ETag를 알아도 404")
+        void 다른_구매자_주문() throws Exception {
+            // given
+            Long orderId = orderService.createOrder(new OrderCreateRequest(product.getId(), 1), BUYER_ID).getId();
+            String eTag = perform(asBuyer(get("/api/v1/orders/" + orderId))).getHeader("ETag");
+
+            // when
+            MockHttpServletResponse response = perform(get("/api/v1/orders/" + orderId)
+                    .header("If-None-Match", eTag)
+                    .with(user(principal(BUYER_ID + 1))));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(404);
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private MockHttpServletRequestBuilder asBuyer(MockHttpServletRequestBuilder request) {
+        return request.with(user(principal(BUYER_ID)));
+    }
+
+    private CustomUserDetails principal(Long memberId) {
+        return new CustomUserDetails(memberId, "buyer" + memberId + "@example.com", "", "구매자",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), true);
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.domain;
+
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿼리 실행 계획 테스트
+ * <p>
+ * Flyway 마이그레이션으로 만든 H2(MySQL 모드) 스키마에서 Repository 메서드를 실행하고,
+ * Hibernate가 실제로 만든 SQL을 EXPLAIN하여 의도한 인덱스를 사용하는지 검증합니다.
+ * 쿼리나 인덱스가 바뀌어 전체 스캔으로 돌아가면 실패합니다.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.domain.QueryPlanTest$SqlRecorder")
+@ActiveProfiles("test")
+@DisplayName("쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+    private static final List<ProductStatus> LISTED = List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT);
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.STATEMENTS.clear();
+        SqlRecorder.owner = Thread.currentThread();
+    }
+
+    @Test
+    @DisplayName("상품 목록은 (status, created_at, id) 인덱스 사용")
+    void 상품_목록() {
+        productRepository.findByStatusIn(LISTED, PageRequest.of(1, 20, LATEST_FIRST));
+        productRepository.findByStatusInBefore(LISTED, LocalDateTime.now(), Long.MAX_VALUE, PageRequest.of(0, 21));
+        productRepository.countByStatusIn(LISTED);
+
+        assertAllUseIndex("IDX_PRODUCTS_STATUS_CREATED_AT_ID", 3);
+    }
+
+    @Test
+    @DisplayName("판매자 상품 목록은 (seller_id, created_at) 인덱스 사용")
+    void 판매자_상품_목록() {
+        productRepository.findBySellerId(1L, PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        // 두 번째 페이지가 비어 있으므로 COUNT 쿼리도 함께 실행됨
+        assertAllUseIndex("IDX_PRODUCTS_SELLER_ID_CREATED_AT", 2);
+    }
+
+    @Test
+    @DisplayName("구매자 주문 목록은 (buyer_id, created_at, id) 인덱스 사용")
+    void 구매자_주문_목록() {
+        orderRepository.findIdsByBuyerId(1L, PageRequest.of(1, 20, LATEST_FIRST));
+        orderRepository.findIdsByBuyerIdBefore(1L, LocalDateTime.now(), Long.MAX_VALUE, PageRequest.of(0, 21));
+
+        assertAllUseIndex("IDX_ORDERS_BUYER_ID_CREATED_AT_ID", 3);
+    }
+
+    @Test
+    @DisplayName("만료 주문 선점은 (status, expires_at) 인덱스 사용")
+    void 만료_주문_선점() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.findExpiredForUpdate(now, LocalDateTime.MIN, 0L, PageRequest.of(0, 500)));
+
+        assertAllUseIndex("IDX_ORDERS_STATUS_EXPIRES_AT", 1);
+    }
+
+    @Test
+    @DisplayName("주문 상품 조회와 상품별 수량 합계는 order_id 인덱스 사용")
+    void 주문_상품_조회() {
+        orderRepository.findAllWithItemsByIdIn(List.of(1L, 2L));
+        orderRepository.sumQuantitiesByProduct(List.of(1L, 2L));
+
+        // H2는 외래 키마다 별도 인덱스를 만들고 그쪽을 고르므로 인덱스 이름 대신 order_id 조건으로 검증
+        List<String> plans = explainRecorded();
+        assertThat(plans).hasSize(2);
+        assertThat(plans).allSatisfy(plan -> {
+            assertThat(plan).doesNotContain("tableScan");
+            assertThat(plan).containsPattern("/\\* PUBLIC\\.\\w+: ORDER_ID (=|IN)");
+        });
+    }
+
+    private void assertAllUseIndex(String indexName, int expectedStatements) {
+        List<String> plans = explainRecorded();
+        assertThat(plans).hasSize(expectedStatements);
+        assertThat(plans).allSatisfy(plan -> {
+            assertThat(plan).doesNotContain("tableScan");
+            assertThat(plan).contains("/* PUBLIC." + indexName + ":");
+        });
+    }
+
+    private List<String> explainRecorded() {
+        List<String> plans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : SqlRecorder.STATEMENTS) {
+                // 파라미터 값 없이도 H2는 실행 계획을 만들 수 있음
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                     ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    plans.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("실행 계획 조회 실패", e);
+        }
+        return plans;
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 기록 (스케줄러 등 다른 스레드의 SQL은 제외)
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        static volatile Thread owner;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == owner) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.domain.order.bulk;
+
+import org.example.global.security.auth.CustomUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "order.bulk.max-lines=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("대량 주문 통합 테스트")
+class OrderBulkIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("줄 수가 최대치를 넘으면 주문 없이 400과 ORDER_BULK_TOO_LARGE로 응답")
+    void 줄_수_초과_400() throws Exception {
+        // when
+        MockHttpServletResponse response = mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(OrderBulkFormat.CSV_VALUE)
+                        .content("1,1\n1,1\n1,1\n")
+                        .with(user(new CustomUserDetails(1L, "buyer@example.com", "", "구매자",
+                                List.of(new SimpleGrantedAuthority("ROLE_USER")), true))))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).contains("O012");
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.domain.order.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderBulkProcessor 단위 테스트")
+class OrderBulkProcessorTest {
+
+    private static final Long BUYER_ID = 1L;
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    private OrderBulkProperties properties;
+    private ObjectMapper objectMapper;
+    private OrderBulkProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderBulkProperties();
+        objectMapper = new ObjectMapper();
+        processor = new OrderBulkProcessor(orderFacade, properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("process 메서드")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("NDJSON 줄별 결과를 입력 순서대로 쓰고 잘못된 줄만 실패 처리")
+        void processesNdjsonInInputOrder() throws IOException {
+            // given
+            givenAllAccepted();
+            String body = """
+                    {"productId":2,"quantity":1,"ref":"A"}
+                    {"productId":1,"quantity":3,"ref":"B"}
+                    {"productId":1,"quantity":0,"ref":"C"}
+                    not json
+
+                    {"productId":2,"quantity":2}
+                    """;
+
+            // when
+            List<JsonNode> lines = process(body, OrderBulkFormat.NDJSON);
+
+            // then
+            assertThat(lines).hasSize(6);
+            assertThat(lines.get(0).get("line").asLong()).isEqualTo(1);
+            assertThat(lines.get(0).get("ref").asText()).isEqualTo("A");
+            assertThat(lines.get(0).has("orderId")).isTrue();
+            assertThat(lines.get(1).get("ref").asText()).isEqualTo("B");
+            assertThat(lines.get(1).has("orderId")).isTrue();
+            assertThat(lines.get(2).get("code").asText()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE.getCode());
+            assertThat(lines.get(3).get("line").asLong()).isEqualTo(4);
+            assertThat(lines.get(3).get("code").asText()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE.getCode());
+            assertThat(lines.get(4).get("line").asLong()).isEqualTo(6);
+            assertThat(lines.get(4).has("orderId")).isTrue();
+            assertThat(lines.get(5).get("total").asInt()).isEqualTo(5);
+            assertThat(lines.get(5).get("succeeded").asInt()).isEqualTo(3);
+            assertThat(lines.get(5).get("failed").asInt()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("CSV 헤더를 건너뛰고 상품별로 묶어 재고 부족 줄만 실패 처리")
+        void processesCsvGroupedByProduct() throws IOException {
+            // given
+            given(orderFacade.createBulkOrders(any())).willAnswer(invocation -> {
+                SortedMap<Long, List<OrderBatchCommand>> commands = invocation.getArgument(0);
+                assertThat(commands.keySet()).containsExactly(1L, 2L);
+                assertThat(commands.get(1L)).extracting(OrderBatchCommand::quantity).containsExactly(5, 1);
+                Map<Long, List<OrderBatchResult>> results = new LinkedHashMap<>();
+                results.put(1L, List.of(success(10L), OrderBatchResult.failure(ErrorCode.INSUFFICIENT_STOCK)));
+                results.put(2L, List.of(success(11L)));
+                return results;
+            });
+            String body = "productId,quantity,ref\n1,5,X\n2,1,Y\n1,1,Z\n";
+
+            // when
+            List<JsonNode> lines = process(body, OrderBulkFormat.CSV);
+
+            // then
+            assertThat(lines.get(0).get("orderId").asLong()).isEqualTo(10L);
+            assertThat(lines.get(1).get("orderId").asLong()).isEqualTo(11L);
+            assertThat(lines.get(2).get("ref").asText()).isEqualTo("Z");
+            assertThat(lines.get(2).get("code").asText()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK.getCode());
+        }
+
+        @Test
+        @DisplayName("청크 크기마다 한 트랜잭션으로 나누어 처리")
+        void splitsIntoChunks() throws IOException {
+            // given
+            properties.setChunkSize(2);
+            givenAllAccepted();
+            String body = "1,1\n1,1\n1,1\n1,1\n1,1\n";
+
+            // when
+            List<JsonNode> lines = process(body, OrderBulkFormat.CSV);
+
+            // then
+            verify(orderFacade, times(3)).createBulkOrders(any());
+            assertThat(lines.get(5).get("succeeded").asInt()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("청크 락 획득에 실패하면 해당 청크 줄만 ORDER_LOCK_FAILED로 실패하고 다음 청크는 계속 처리")
+        void failsOnlyLockedChunk() throws IOException {
+            // given
+            properties.setChunkSize(1);
+            AtomicLong orderIds = new AtomicLong();
+            given(orderFacade.createBulkOrders(any()))
+                    .willThrow(new PessimisticLockingFailureException("lock timeout"))
+                    .willAnswer(invocation -> allAccepted(invocation.getArgument(0), orderIds));
+            String body = "1,1\n1,1\n";
+
+            // when
+            List<JsonNode> lines = process(body, OrderBulkFormat.CSV);
+
+            // then
+            assertThat(lines.get(0).get("code").asText()).isEqualTo(ErrorCode.ORDER_LOCK_FAILED.getCode());
+            assertThat(lines.get(1).has("orderId")).isTrue();
+        }
+
+        @Test
+        @DisplayName("올바른 줄이 없으면 트랜잭션을 시작하지 않는다")
+        void skipsTransactionWithoutValidLines() throws IOException {
+            // when
+            List<JsonNode> lines = process("abc\n{\"quantity\":1}\n", OrderBulkFormat.NDJSON);
+
+            // then
+            verify(orderFacade, never()).createBulkOrders(any());
+            assertThat(lines.get(2).get("failed").asInt()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("줄 수가 최대치를 넘으면 읽는 단계에서 주문 없이 ORDER_BULK_TOO_LARGE 예외")
+        void rejectsTooManyLinesBeforeWriting() {
+            // given
+            properties.setMaxLines(2);
+            byte[] body = "1,1\n1,1\n1,1\n".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThatThrownBy(() -> processor.read(new ByteArrayInputStream(body), OrderBulkFormat.CSV))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.ORDER_BULK_TOO_LARGE);
+            verify(orderFacade, never()).createBulkOrders(any());
+        }
+
+        @Test
+        @DisplayName("한 줄 수량이 최대치를 넘으면 해당 줄만 INVALID_INPUT_VALUE로 실패")
+        void rejectsLineQuantityOverMax() throws IOException {
+            // when
+            List<JsonNode> lines = process("1,10001\n", OrderBulkFormat.CSV);
+
+            // then
+            verify(orderFacade, never()).createBulkOrders(any());
+            assertThat(lines.get(0).get("code").asText()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE.getCode());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private List<JsonNode> process(String body, OrderBulkFormat format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        processor.process(processor.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format),
+                BUYER_ID, output);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private void givenAllAccepted() {
+        AtomicLong orderIds = new AtomicLong();
+        given(orderFacade.createBulkOrders(any()))
+                .willAnswer(invocation -> allAccepted(invocation.getArgument(0), orderIds));
+    }
+
+    private Map<Long, List<OrderBatchResult>> allAccepted(SortedMap<Long, List<OrderBatchCommand>> commands,
+                                                          AtomicLong orderIds) {
+        Map<Long, List<OrderBatchResult>> results = new LinkedHashMap<>();
+        commands.forEach((productId, productCommands) -> results.put(productId, productCommands.stream()
+                .map(command -> success(orderIds.incrementAndGet()))
+                .toList()));
+        return results;
+    }
+
+    private OrderBatchResult success(Long orderId) {
+        return OrderBatchResult.success(OrderResponse.builder().id(orderId).build());
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.domain.order.facade;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 묶음 처리 벤치마크
+ * <p>
+ * 재고가 충분한 한 상품에 주문이 몰릴 때 요청별 트랜잭션과 묶음 트랜잭션의 처리량을 비교합니다.
+ * (./gradlew benchmark)
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("주문 묶음 처리 벤치마크")
+class OrderCoalescerBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 3000;
+    private static final int THREAD_COUNT = 64;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderCoalescerProperties coalescerProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescerProperties.setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("요청별 트랜잭션 vs 묶음 트랜잭션 (주문 3000건)")
+    void 요청별_트랜잭션_대비_묶음_처리량_비교() throws InterruptedException {
+        coalescerProperties.setEnabled(false);
+        Result single = run("요청별 트랜잭션");
+
+        coalescerProperties.setEnabled(true);
+        Result coalesced = run("묶음 트랜잭션");
+
+        assertThat(single.successCount()).isEqualTo(REQUEST_COUNT);
+        assertThat(coalesced.successCount()).isEqualTo(REQUEST_COUNT);
+
+        System.out.println("=== 벤치마크 결과 ===");
+        System.out.println(single);
+        System.out.println(coalesced);
+    }
+
+    private Result run(String name) throws InterruptedException {
+        Product product = productRepository.save(Product.builder()
+                .name("인기 상품")
+                .price(10000L)
+                .stockQuantity(REQUEST_COUNT)
+                .sellerId(1L)
+                .build());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final long buyerId = i + 1L;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderFacade.createOrder(createOrderRequest(product.getId()), buyerId);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패 건수는 성공 건수로 확인
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        return new Result(name, elapsedMs, successCount.get());
+    }
+
+    private OrderCreateRequest createOrderRequest(Long productId) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(1)
+                .build();
+    }
+
+    private record Result(String name, long elapsedMs, int successCount) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dms, 성공 %d, 처리량 %.1f req/s",
+                    name, elapsedMs, successCount, REQUEST_COUNT * 1000.0 / Math.max(elapsedMs, 1));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.domain.order.facade;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"order.coalescer.enabled=true", "order.coalescer.window-ms=10"})
+@ActiveProfiles("test")
+@DisplayName("주문 묶음 처리 동시성 통합 테스트")
+class OrderCoalescerConcurrencyTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대량 동시 주문 시 재고 정합성 테스트 (재고 100개, 동시 주문 150개)")
+    void 대량_동시_주문시_재고_정합성_테스트() throws InterruptedException {
+        // given
+        int initialStock = 100;
+        int threadCount = 150;
+
+        Product product = productRepository.save(Product.builder()
+                .name("인기 상품")
+                .price(10000L)
+                .stockQuantity(initialStock)
+                .sellerId(1L)
+                .build());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            final long buyerId = i + 1L;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderFacade.createOrder(createOrderRequest(product.getId(), 1), buyerId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                        insufficientCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 기타 예외
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+
+        // then
+        Product updatedProduct = productRepository.findById(product.getId()).orElseThrow();
+
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(insufficientCount.get()).isEqualTo(threadCount - initialStock);
+        assertThat(updatedProduct.getStockQuantity()).isEqualTo(0);
+        assertThat(updatedProduct.getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+        assertThat(orderRepository.count()).isEqualTo(initialStock);
+    }
+
+    // ========== Helper Methods ==========
+
+    private OrderCreateRequest createOrderRequest(Long productId, Integer quantity) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.domain.order.facade;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.domain.order.service.OrderBatchService;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCoalescer 단위 테스트")
+class OrderCoalescerTest {
+
+    @Mock
+    private OrderBatchService orderBatchService;
+
+    private OrderCoalescerProperties properties;
+    private OrderCoalescer orderCoalescer;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderCoalescerProperties();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(1);
+        properties.setWorkerThreads(1);
+        properties.setQueueCapacity(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (orderCoalescer != null) {
+            orderCoalescer.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("처리 대기 제한")
+    class Bounded {
+
+        @Test
+        @DisplayName("처리 대기 묶음이 가득 차면 ORDER_PRODUCT_BUSY로 바로 실패한다")
+        void submit_QueueFull_FailsWithProductBusy() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            given(orderBatchService.createOrders(anyLong(), anyList())).willAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return List.of(OrderBatchResult.success(mock(OrderResponse.class)));
+            });
+            orderCoalescer = new OrderCoalescer(orderBatchService, properties, new SimpleMeterRegistry());
+
+            orderCoalescer.submit(1L, new OrderBatchCommand(1L, 1));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            orderCoalescer.submit(1L, new OrderBatchCommand(2L, 1));
+
+            // when
+            CompletableFuture<OrderResponse> rejected = orderCoalescer.submit(1L, new OrderBatchCommand(3L, 1));
+
+            // then
+            assertThatThrownBy(rejected::join)
+                    .hasCauseInstanceOf(BusinessException.class)
+                    .cause()
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.ORDER_PRODUCT_BUSY);
+        }
+
+        @Test
+        @DisplayName("대기 시간을 넘기면 ORDER_LOCK_FAILED로 실패하고 처리 전 묶음에서 빠진다")
+        void createOrder_Timeout_FailsWithLockFailed() throws Exception {
+            // given
+            properties.setTimeoutMs(50);
+            CountDownLatch started = new CountDownLatch(1);
+            given(orderBatchService.createOrders(anyLong(), anyList())).willAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return List.of(OrderBatchResult.success(mock(OrderResponse.class)));
+            });
+            orderCoalescer = new OrderCoalescer(orderBatchService, properties, new SimpleMeterRegistry());
+
+            orderCoalescer.submit(1L, new OrderBatchCommand(1L, 1));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> orderCoalescer.createOrder(createOrderRequest(2L), 2L, null))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.ORDER_LOCK_FAILED);
+
+            release.countDown();
+            verify(orderBatchService, timeout(1000)).createOrders(eq(1L), anyList());
+            Thread.sleep(100);
+            verify(orderBatchService, never()).createOrders(eq(2L), anyList());
+        }
+
+        @Test
+        @DisplayName("처리가 시작된 요청은 대기 시간을 넘겨도 실제 결과를 받는다")
+        void createOrder_ClaimedBeforeTimeout_ReturnsCommittedResult() {
+            // given
+            properties.setTimeoutMs(50);
+            OrderResponse committed = mock(OrderResponse.class);
+            given(orderBatchService.createOrders(anyLong(), anyList())).willAnswer(invocation -> {
+                Thread.sleep(200);
+                return List.of(OrderBatchResult.success(committed));
+            });
+            orderCoalescer = new OrderCoalescer(orderBatchService, properties, new SimpleMeterRegistry());
+
+            // when
+            OrderResponse response = orderCoalescer.createOrder(createOrderRequest(1L), 1L, null);
+
+            // then
+            assertThat(response).isSameAs(committed);
+        }
+    }
+
+    private OrderCreateRequest createOrderRequest(Long productId) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(1)
+                .build();
+    }
+}
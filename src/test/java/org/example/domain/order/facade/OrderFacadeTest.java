@@ -0,0 +1,458 @@
+package org.example.domain.order.facade;
+
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.request.OrderLineRequest;
+import org.example.domain.order.dto.response.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.service.OrderBatchCommand;
+import org.example.domain.order.service.OrderBatchResult;
+import org.example.domain.order.service.OrderBatchService;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.order.stock.HotProductDetector;
+import org.example.domain.order.stock.ProductAdmission;
+import org.example.domain.order.stock.ProductContentionTracker;
+import org.example.domain.order.stock.StockGate;
+import org.example.domain.order.stock.StockGateResult;
+import org.example.domain.order.stock.StockProperties;
+import org.example.domain.order.waitingroom.WaitingRoom;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderFacade 단위 테스트")
+class OrderFacadeTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private StockGate stockGate;
+
+    @Mock
+    private OrderCoalescer orderCoalescer;
+
+    @Mock
+    private OrderBatchService orderBatchService;
+
+    @Mock
+    private WaitingRoom waitingRoom;
+
+    private ProductContentionTracker contentionTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderFacade orderFacade;
+
+    @BeforeEach
+    void setUp() {
+        StockProperties stockProperties = new StockProperties();
+        stockProperties.getRetry().setMaxAttempts(3);
+        stockProperties.getRetry().setInitialBackoffMs(0);
+        contentionTracker = new ProductContentionTracker();
+        meterRegistry = new SimpleMeterRegistry();
+        orderFacade = new OrderFacade(orderService, stockGate, contentionTracker,
+                new HotProductDetector(stockProperties, meterRegistry),
+                new ProductAdmission(stockProperties, meterRegistry),
+                new OptimisticLockRetryExecutor(stockProperties, meterRegistry), orderCoalescer, orderBatchService,
+                waitingRoom);
+    }
+
+    @Nested
+    @DisplayName("createOrder 메서드 - 재고 게이트")
+    class CreateOrderStockGateTest {
+
+        @Test
+        @DisplayName("게이트 비활성화 시 카운터 없이 바로 주문 생성")
+        void createOrder_GateDisabled_CallsServiceDirectly() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            OrderResponse response = OrderResponse.builder().id(1L).build();
+
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createOrder(request, 1L, null)).willReturn(response);
+
+            // when
+            OrderResponse result = orderFacade.createOrder(request, 1L);
+
+            // then
+            assertThat(result).isSameAs(response);
+            verify(stockGate, never()).tryAcquire(any());
+        }
+
+        @Test
+        @DisplayName("게이트 카운터 부족 시 DB 접근 없이 INSUFFICIENT_STOCK 예외")
+        void createOrder_GateRejected_ThrowsWithoutService() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 5);
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 5))).willReturn(StockGateResult.REJECTED);
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+                    });
+
+            verify(orderService, never()).createOrder(any(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("주문 트랜잭션 실패 시 선차감한 카운터 반환")
+        void createOrder_ServiceFails_ReleasesCounter() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 2);
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 2))).willReturn(StockGateResult.ACQUIRED);
+            given(orderService.createOrder(request, 1L, null))
+                    .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(stockGate).release(Map.of(1L, 2));
+        }
+
+        @Test
+        @DisplayName("게이트 우회 시 주문 실패해도 카운터를 반환하지 않음")
+        void createOrder_GateBypassed_DoesNotRelease() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 2);
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 2))).willReturn(StockGateResult.BYPASSED);
+            given(orderService.createOrder(request, 1L, null))
+                    .willThrow(new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(stockGate, never()).release(any());
+        }
+
+        @Test
+        @DisplayName("주문 성공 시 카운터를 반환하지 않음")
+        void createOrder_Success_KeepsCounter() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 2);
+            OrderResponse response = OrderResponse.builder().id(1L).build();
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 2))).willReturn(StockGateResult.ACQUIRED);
+            given(orderService.createOrder(request, 1L, null)).willReturn(response);
+
+            // when
+            OrderResponse result = orderFacade.createOrder(request, 1L);
+
+            // then
+            assertThat(result).isSameAs(response);
+            verify(stockGate, never()).release(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("createCartOrder 메서드")
+    class CreateCartOrderTest {
+
+        @Test
+        @DisplayName("주문 실패 시 모든 상품의 게이트 카운터를 반환하고 경합 수를 되돌림")
+        void createCartOrder_ServiceFails_ReleasesAllCounters() {
+            // given
+            OrderCartCreateRequest request = OrderCartCreateRequest.builder()
+                    .items(List.of(
+                            OrderLineRequest.builder().productId(2L).quantity(1).build(),
+                            OrderLineRequest.builder().productId(1L).quantity(3).build()))
+                    .build();
+            Map<Long, Integer> quantities = Map.of(1L, 3, 2L, 1);
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(quantities)).willReturn(StockGateResult.ACQUIRED);
+            given(orderService.createCartOrder(request, 1L))
+                    .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createCartOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(stockGate).release(quantities);
+            assertThat(contentionTracker.getInFlight(1L)).isZero();
+            assertThat(contentionTracker.getInFlight(2L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("낙관적 락 재시도")
+    class OptimisticLockRetryTest {
+
+        @Test
+        @DisplayName("버전 충돌 후 재시도하여 주문 생성 성공")
+        void createOrder_ConflictThenSuccess_Retries() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            OrderResponse response = OrderResponse.builder().id(1L).build();
+
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createOrder(request, 1L, null))
+                    .willThrow(new ObjectOptimisticLockingFailureException(Object.class, 1L))
+                    .willReturn(response);
+
+            // when
+            OrderResponse result = orderFacade.createOrder(request, 1L);
+
+            // then
+            assertThat(result).isSameAs(response);
+            verify(orderService, times(2)).createOrder(request, 1L, null);
+            assertThat(meterRegistry.counter("order.stock.retry", "operation", "create").count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("재시도 한도 초과 시 ORDER_LOCK_FAILED 예외")
+        void createOrder_RetryExhausted_ThrowsLockFailed() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createOrder(request, 1L, null))
+                    .willThrow(new ObjectOptimisticLockingFailureException(Object.class, 1L));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_LOCK_FAILED);
+                    });
+
+            verify(orderService, times(3)).createOrder(request, 1L, null);
+            assertThat(meterRegistry.counter("order.stock.retry.exhausted", "operation", "create").count())
+                    .isEqualTo(1.0);
+            assertThat(contentionTracker.getInFlight(1L)).isZero();
+        }
+
+        @Test
+        @DisplayName("주문 취소는 재시도 없이 한 번만 실행")
+        void cancelOrder_DelegatesOnce() {
+            // when
+            orderFacade.cancelOrder(1L, 1L);
+
+            // then
+            verify(orderService, times(1)).cancelOrder(1L, 1L);
+            assertThat(meterRegistry.find("order.stock.retry").tag("operation", "cancel").counter()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrder 메서드 - 묶음 처리")
+    class CreateOrderCoalescerTest {
+
+        @Test
+        @DisplayName("묶음 처리 활성화 시 서비스 대신 묶음 처리기로 주문 생성")
+        void createOrder_CoalescerEnabled_DelegatesToCoalescer() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            OrderResponse response = OrderResponse.builder().id(1L).build();
+
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderCoalescer.isEnabled()).willReturn(true);
+            given(orderCoalescer.createOrder(request, 1L, null)).willReturn(response);
+
+            // when
+            OrderResponse result = orderFacade.createOrder(request, 1L);
+
+            // then
+            assertThat(result).isSameAs(response);
+            verify(orderService, never()).createOrder(any(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("묶음 처리 중 재고 부족이면 선차감한 게이트 카운터 반환")
+        void createOrder_CoalescerRejected_ReleasesCounter() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 1))).willReturn(StockGateResult.ACQUIRED);
+            given(orderCoalescer.isEnabled()).willReturn(true);
+            given(orderCoalescer.createOrder(request, 1L, null))
+                    .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(stockGate).release(Map.of(1L, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("createBulkOrders 메서드")
+    class CreateBulkOrdersTest {
+
+        @Test
+        @DisplayName("게이트가 거절한 줄은 트랜잭션에서 빼고, 트랜잭션에서 실패한 줄의 카운터만 반환")
+        void createBulkOrders_GateEnabled_ReleasesOnlyUnorderedLines() {
+            // given
+            SortedMap<Long, List<OrderBatchCommand>> commands = new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(1L, 2), new OrderBatchCommand(1L, 3), new OrderBatchCommand(1L, 4))));
+            OrderResponse response = OrderResponse.builder().id(10L).build();
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(Map.of(1L, 2))).willReturn(StockGateResult.ACQUIRED);
+            given(stockGate.tryAcquire(Map.of(1L, 3))).willReturn(StockGateResult.REJECTED);
+            given(stockGate.tryAcquire(Map.of(1L, 4))).willReturn(StockGateResult.ACQUIRED);
+            given(orderBatchService.createOrders(new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(1L, 2), new OrderBatchCommand(1L, 4))))))
+                    .willReturn(Map.of(1L, List.of(
+                            OrderBatchResult.success(response),
+                            OrderBatchResult.failure(ErrorCode.INSUFFICIENT_STOCK))));
+
+            // when
+            Map<Long, List<OrderBatchResult>> results = orderFacade.createBulkOrders(commands);
+
+            // then
+            assertThat(results.get(1L)).extracting(OrderBatchResult::errorCode)
+                    .containsExactly(null, ErrorCode.INSUFFICIENT_STOCK, ErrorCode.INSUFFICIENT_STOCK);
+            assertThat(results.get(1L).get(0).response()).isSameAs(response);
+            verify(stockGate).release(Map.of(1L, 4));
+            assertThat(contentionTracker.getInFlight(1L)).isZero();
+        }
+
+        @Test
+        @DisplayName("청크 트랜잭션이 실패하면 선차감한 카운터를 모두 반환")
+        void createBulkOrders_TransactionFails_ReleasesAll() {
+            // given
+            SortedMap<Long, List<OrderBatchCommand>> commands = new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(1L, 2)),
+                    2L, List.of(new OrderBatchCommand(1L, 1))));
+
+            given(stockGate.isEnabled()).willReturn(true);
+            given(stockGate.tryAcquire(any())).willReturn(StockGateResult.ACQUIRED);
+            given(orderBatchService.createOrders(commands)).willThrow(new IllegalStateException("db down"));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createBulkOrders(commands))
+                    .isInstanceOf(IllegalStateException.class);
+
+            verify(stockGate).release(Map.of(1L, 2, 2L, 1));
+            assertThat(contentionTracker.getInFlight(1L)).isZero();
+            assertThat(contentionTracker.getInFlight(2L)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("주문 대기열 입장권")
+    class WaitingRoomCompletionTest {
+
+        @Test
+        @DisplayName("대기열 적용 상품 주문이 생성되면 입장권을 소멸시킨다")
+        void createOrder_GuardedProduct_CompletesTicket() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createOrder(request, 2L, null)).willReturn(OrderResponse.builder().id(1L).build());
+            given(waitingRoom.isGuarded(1L)).willReturn(true);
+
+            // when
+            orderFacade.createOrder(request, 2L);
+
+            // then
+            verify(waitingRoom).complete(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("주문 생성에 실패하면 입장권을 소멸시키지 않는다")
+        void createOrder_Fails_KeepsTicket() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createOrder(request, 2L, null))
+                    .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+            // when & then
+            assertThatThrownBy(() -> orderFacade.createOrder(request, 2L))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(waitingRoom, never()).complete(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("여러 상품 주문은 대기열 적용 상품의 입장권만 소멸시킨다")
+        void createCartOrder_CompletesOnlyGuardedProducts() {
+            // given
+            OrderCartCreateRequest request = OrderCartCreateRequest.builder()
+                    .items(List.of(
+                            OrderLineRequest.builder().productId(1L).quantity(1).build(),
+                            OrderLineRequest.builder().productId(2L).quantity(1).build()))
+                    .build();
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderService.createCartOrder(request, 3L)).willReturn(OrderResponse.builder().id(1L).build());
+            given(waitingRoom.isGuarded(1L)).willReturn(true);
+            given(waitingRoom.isGuarded(2L)).willReturn(false);
+
+            // when
+            orderFacade.createCartOrder(request, 3L);
+
+            // then
+            verify(waitingRoom).complete(1L, 3L);
+            verify(waitingRoom, never()).complete(eq(2L), anyLong());
+        }
+
+        @Test
+        @DisplayName("대량 주문은 주문이 생성된 줄의 구매자만 한 번씩 입장권을 소멸시킨다")
+        void createBulkOrders_CompletesBuyersWithCreatedLines() {
+            // given
+            SortedMap<Long, List<OrderBatchCommand>> commands = new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(5L, 1), new OrderBatchCommand(5L, 1), new OrderBatchCommand(6L, 1))));
+            OrderResponse response = OrderResponse.builder().id(10L).build();
+            given(stockGate.isEnabled()).willReturn(false);
+            given(orderBatchService.createOrders(commands)).willReturn(Map.of(1L, List.of(
+                    OrderBatchResult.success(response),
+                    OrderBatchResult.success(response),
+                    OrderBatchResult.failure(ErrorCode.INSUFFICIENT_STOCK))));
+            given(waitingRoom.isGuarded(1L)).willReturn(true);
+
+            // when
+            orderFacade.createBulkOrders(commands);
+
+            // then
+            verify(waitingRoom, times(1)).complete(1L, 5L);
+            verify(waitingRoom, never()).complete(1L, 6L);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private OrderCreateRequest createOrderCreateRequest(Long productId, Integer quantity) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
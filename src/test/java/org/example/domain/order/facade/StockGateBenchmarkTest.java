@@ -0,0 +1,152 @@
+package org.example.domain.order.facade;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.stock.StockGateProperties;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 재고 게이트 경합 벤치마크
+ * <p>
+ * 재고보다 훨씬 많은 주문이 한 상품에 몰릴 때 비관적 락 단독 경로와 게이트 경로의 처리 시간을 비교합니다.
+ * Redis가 필요합니다. (./gradlew benchmark)
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.data.redis.password=${REDIS_PASSWORD:}")
+@ActiveProfiles("test")
+@DisplayName("재고 게이트 경합 벤치마크")
+class StockGateBenchmarkTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final int REQUEST_COUNT = 2000;
+    private static final int THREAD_COUNT = 64;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockGateProperties stockGateProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "Redis가 실행 중이어야 합니다");
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockGateProperties.setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("비관적 락 단독 vs 재고 게이트 (재고 100개, 주문 2000건)")
+    void 비관적_락_단독_대비_재고_게이트_처리시간_비교() throws InterruptedException {
+        stockGateProperties.setEnabled(false);
+        Result pessimistic = run("비관적 락 단독");
+
+        stockGateProperties.setEnabled(true);
+        Result gated = run("재고 게이트");
+
+        assertThat(pessimistic.successCount()).isEqualTo(INITIAL_STOCK);
+        assertThat(gated.successCount()).isEqualTo(INITIAL_STOCK);
+
+        System.out.println("=== 벤치마크 결과 ===");
+        System.out.println(pessimistic);
+        System.out.println(gated);
+    }
+
+    private Result run(String name) throws InterruptedException {
+        Product product = productRepository.save(Product.builder()
+                .name("한정 상품")
+                .price(10000L)
+                .stockQuantity(INITIAL_STOCK)
+                .sellerId(1L)
+                .build());
+        redisTemplate.delete(stockGateProperties.getKeyPrefix() + product.getId());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final long buyerId = i + 1L;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderFacade.createOrder(createOrderRequest(product.getId()), buyerId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    failCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        return new Result(name, elapsedMs, successCount.get(), failCount.get());
+    }
+
+    private boolean isRedisAvailable() {
+        try {
+            return redisTemplate.getConnectionFactory().getConnection().ping() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private OrderCreateRequest createOrderRequest(Long productId) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(1)
+                .build();
+    }
+
+    private record Result(String name, long elapsedMs, int successCount, int failCount) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dms, 성공 %d, 실패 %d, 처리량 %.1f req/s",
+                    name, elapsedMs, successCount, failCount, REQUEST_COUNT * 1000.0 / Math.max(elapsedMs, 1));
+        }
+    }
+}
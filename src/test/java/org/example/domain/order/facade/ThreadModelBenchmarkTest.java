@@ -0,0 +1,210 @@
+package org.example.domain.order.facade;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.bulkhead.DbBulkheadProperties;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 요청 스레드 모델 벤치마크
+ * <p>
+ * 한 상품에 주문이 몰릴 때 플랫폼 스레드(Tomcat 기본 200개)와 가상 스레드(요청마다 1개)로 요청을 실행하고,
+ * 각각 DB bulkhead를 켜고 끈 경우의 처리 시간, 지연 시간(p50/p99), 거절 수를 비교합니다.
+ * </p>
+ * <p>
+ * 빌드는 Java 17 대상이므로 가상 스레드 비교는 JDK 21 툴체인에서 실행할 때만 측정하고({@code ./gradlew benchmarkJdk21}),
+ * Java 17에서는 건너뜁니다. 플랫폼 스레드만의 bulkhead 유무 비교는 어느 JVM에서나 측정합니다. ({@code ./gradlew benchmark})
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("요청 스레드 모델 벤치마크")
+class ThreadModelBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 2000;
+    private static final int PLATFORM_THREAD_COUNT = 200;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private DbBulkheadProperties bulkheadProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkheadProperties.setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드, bulkhead 유무 (한 상품에 주문 2000건)")
+    void 플랫폼_스레드_bulkhead_비교() throws InterruptedException {
+        Supplier<ExecutorService> platform = () -> Executors.newFixedThreadPool(PLATFORM_THREAD_COUNT);
+
+        List<Result> results = List.of(
+                run("플랫폼 스레드", platform, false),
+                run("플랫폼 스레드 + bulkhead", platform, true));
+
+        print("플랫폼 스레드 bulkhead 비교 (" + Runtime.version() + ")", results);
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 vs 가상 스레드, bulkhead 유무 (한 상품에 주문 2000건, JDK 21 이상)")
+    void 스레드_모델별_처리시간_비교() throws InterruptedException {
+        ExecutorService probe = newVirtualThreadExecutor();
+        assumeTrue(probe != null, "가상 스레드 비교는 JDK 21 이상에서만 측정합니다 (./gradlew benchmarkJdk21), 현재: "
+                + Runtime.version());
+        probe.shutdown();
+        Supplier<ExecutorService> platform = () -> Executors.newFixedThreadPool(PLATFORM_THREAD_COUNT);
+        Supplier<ExecutorService> virtual = ThreadModelBenchmarkTest::newVirtualThreadExecutor;
+
+        List<Result> results = List.of(
+                run("플랫폼 스레드", platform, false),
+                run("플랫폼 스레드 + bulkhead", platform, true),
+                run("가상 스레드", virtual, false),
+                run("가상 스레드 + bulkhead", virtual, true));
+
+        print("플랫폼 스레드 vs 가상 스레드 (" + Runtime.version() + ")", results);
+    }
+
+    private void print(String title, List<Result> results) {
+        results.forEach(result -> assertThat(result.successCount() + result.rejectedCount() + result.failCount())
+                .isEqualTo(REQUEST_COUNT));
+
+        System.out.println("=== " + title + " ===");
+        results.forEach(System.out::println);
+    }
+
+    private Result run(String name, Supplier<ExecutorService> executorFactory, boolean bulkhead)
+            throws InterruptedException {
+        bulkheadProperties.setEnabled(bulkhead);
+        Product product = productRepository.save(Product.builder()
+                .name("인기 상품")
+                .price(10000L)
+                .stockQuantity(REQUEST_COUNT)
+                .sellerId(1L)
+                .build());
+
+        ExecutorService executorService = executorFactory.get();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger rejectedCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        // 지연 시간은 모든 요청이 동시에 도착한 시점부터 재므로, 실행 스레드를 기다린 시간도 포함됨
+        AtomicLongArray latencies = new AtomicLongArray(REQUEST_COUNT);
+        AtomicLong burstStartedAt = new AtomicLong();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    try {
+                        orderFacade.createOrder(createOrderRequest(product.getId()), index + 1L);
+                        successCount.incrementAndGet();
+                    } finally {
+                        latencies.set(index, System.nanoTime() - burstStartedAt.get());
+                    }
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.DB_BULKHEAD_FULL) {
+                        rejectedCount.incrementAndGet();
+                    } else {
+                        failCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        burstStartedAt.set(startedAt);
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        long[] sorted = new long[REQUEST_COUNT];
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return new Result(name, elapsedMs, successCount.get(), rejectedCount.get(), failCount.get(),
+                percentileMs(sorted, 0.5), percentileMs(sorted, 0.99));
+    }
+
+    /**
+     * 가상 스레드 실행기 (Java 21 미만이면 null)
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static double percentileMs(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private OrderCreateRequest createOrderRequest(Long productId) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(1)
+                .build();
+    }
+
+    private record Result(String name, long elapsedMs, int successCount, int rejectedCount, int failCount,
+                          double p50Ms, double p99Ms) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dms, 성공 %d, 거절 %d, 실패 %d, p50 %.1fms, p99 %.1fms, 처리량 %.1f req/s",
+                    name, elapsedMs, successCount, rejectedCount, failCount, p50Ms, p99Ms,
+                    successCount * 1000.0 / Math.max(elapsedMs, 1));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.domain.order.intake;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderIntakeResponse;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "order.intake.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("비동기 주문 접수 통합 테스트")
+class OrderIntakeIntegrationTest {
+
+    @Autowired
+    private OrderIntakeQueue orderIntakeQueue;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("접수 응답의 주문 ID로 주문이 생성된다")
+    void 접수_응답의_주문_ID로_주문_생성() throws InterruptedException {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .name("접수 상품")
+                .price(10000L)
+                .stockQuantity(10)
+                .sellerId(1L)
+                .build());
+
+        // when
+        OrderIntakeResponse accepted = orderIntakeQueue.submit(OrderCreateRequest.builder()
+                .productId(product.getId())
+                .quantity(1)
+                .build(), 1L);
+
+        // then
+        OrderIntakeStatus status = OrderIntakeStatus.ACCEPTED;
+        for (int i = 0; i < 100 && !status.isFinished(); i++) {
+            Thread.sleep(50);
+            status = orderIntakeQueue.getIntake(accepted.getIntakeId(), 1L).getStatus();
+        }
+        assertThat(status).isEqualTo(OrderIntakeStatus.COMPLETED);
+        Optional<Order> order = orderRepository.findById(accepted.getOrderId());
+        assertThat(order).isPresent();
+        assertThat(order.get().getBuyerId()).isEqualTo(1L);
+    }
+}
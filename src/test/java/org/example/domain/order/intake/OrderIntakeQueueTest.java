@@ -0,0 +1,210 @@
+package org.example.domain.order.intake;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.response.OrderIntakeResponse;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.example.global.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIntakeQueue 단위 테스트")
+class OrderIntakeQueueTest {
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    private OrderIntakeProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderIntakeQueue orderIntakeQueue;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderIntakeProperties();
+        properties.setEnabled(true);
+        properties.setQueueCapacity(2);
+        meterRegistry = new SimpleMeterRegistry();
+        // 워커를 시작하지 않고 processNext()로 한 건씩 처리
+        orderIntakeQueue = new OrderIntakeQueue(orderFacade, properties, meterRegistry,
+                SnowflakeIdGenerator.forNode(0));
+    }
+
+    @Nested
+    @DisplayName("submit 메서드")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("접수 성공 시 ACCEPTED 상태와 접수 ID, 미리 발급한 주문 ID 반환")
+        void submit_Success() {
+            // when
+            OrderIntakeResponse response = orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 1L);
+
+            // then
+            assertThat(response.getIntakeId()).isNotBlank();
+            assertThat(response.getOrderId()).isPositive();
+            assertThat(response.getStatus()).isEqualTo(OrderIntakeStatus.ACCEPTED);
+            assertThat(meterRegistry.get("order.intake.queue.depth").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 ORDER_INTAKE_FULL 예외")
+        void submit_QueueFull_ThrowsException() {
+            // given
+            orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 1L);
+            orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 2L);
+
+            // when & then
+            assertThatThrownBy(() -> orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 3L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_INTAKE_FULL);
+                    });
+            assertThat(meterRegistry.get("order.intake.rejected").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("비동기 접수가 꺼져 있으면 ORDER_INTAKE_UNAVAILABLE 예외")
+        void submit_Disabled_ThrowsException() {
+            // given
+            properties.setEnabled(false);
+
+            // when & then
+            assertThatThrownBy(() -> orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_INTAKE_UNAVAILABLE);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 처리")
+    class ProcessTest {
+
+        @Test
+        @DisplayName("미리 발급한 주문 ID로 주문을 생성하고 COMPLETED 상태 기록")
+        void process_Success_Completed() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 1);
+            OrderIntakeResponse accepted = orderIntakeQueue.submit(request, 1L);
+            String intakeId = accepted.getIntakeId();
+            Long orderId = accepted.getOrderId();
+            given(orderFacade.createOrder(request, 1L, orderId)).willReturn(OrderResponse.builder().id(orderId).build());
+
+            // when
+            boolean processed = orderIntakeQueue.processNext();
+
+            // then
+            OrderIntakeResponse response = orderIntakeQueue.getIntake(intakeId, 1L);
+            assertThat(processed).isTrue();
+            assertThat(response.getStatus()).isEqualTo(OrderIntakeStatus.COMPLETED);
+            assertThat(response.getOrderId()).isEqualTo(orderId);
+            assertThat(meterRegistry.get("order.intake.latency").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재고 부족 시 FAILED 상태와 오류 코드 기록")
+        void process_InsufficientStock_Failed() {
+            // given
+            OrderCreateRequest request = createOrderCreateRequest(1L, 100);
+            String intakeId = orderIntakeQueue.submit(request, 1L).getIntakeId();
+            given(orderFacade.createOrder(eq(request), eq(1L), anyLong()))
+                    .willThrow(new BusinessException(ErrorCode.INSUFFICIENT_STOCK));
+
+            // when
+            orderIntakeQueue.processNext();
+
+            // then
+            OrderIntakeResponse response = orderIntakeQueue.getIntake(intakeId, 1L);
+            assertThat(response.getStatus()).isEqualTo(OrderIntakeStatus.FAILED);
+            assertThat(response.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK.getCode());
+            assertThat(meterRegistry.get("order.intake.drained").tag("status", "FAILED").counter().count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("워커")
+    class WorkerTest {
+
+        @Test
+        @DisplayName("주문 처리 중 Error가 나도 접수 건을 FAILED로 끝내고 워커는 다음 접수 건을 처리")
+        void drain_Error_FailsIntakeAndKeepsWorking() throws InterruptedException {
+            // given
+            properties.setWorkerThreads(1);
+            OrderCreateRequest failing = createOrderCreateRequest(1L, 1);
+            OrderCreateRequest next = createOrderCreateRequest(2L, 1);
+            CountDownLatch nextProcessed = new CountDownLatch(1);
+            given(orderFacade.createOrder(eq(failing), eq(1L), anyLong())).willThrow(new AssertionError("boom"));
+            given(orderFacade.createOrder(eq(next), eq(1L), anyLong())).willAnswer(invocation -> {
+                nextProcessed.countDown();
+                return OrderResponse.builder().id(invocation.getArgument(2)).build();
+            });
+            String failingId = orderIntakeQueue.submit(failing, 1L).getIntakeId();
+            String nextId = orderIntakeQueue.submit(next, 1L).getIntakeId();
+
+            // when
+            orderIntakeQueue.start();
+            try {
+                assertThat(nextProcessed.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                orderIntakeQueue.shutdown();
+            }
+
+            // then
+            OrderIntakeResponse failed = orderIntakeQueue.getIntake(failingId, 1L);
+            assertThat(failed.getStatus()).isEqualTo(OrderIntakeStatus.FAILED);
+            assertThat(failed.getErrorCode()).isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR.getCode());
+            assertThat(orderIntakeQueue.getIntake(nextId, 1L).getStatus()).isNotEqualTo(OrderIntakeStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("getIntake 메서드")
+    class GetIntakeTest {
+
+        @Test
+        @DisplayName("다른 구매자의 접수 건 조회 시 ORDER_INTAKE_NOT_FOUND 예외")
+        void getIntake_OtherBuyer_ThrowsException() {
+            // given
+            String intakeId = orderIntakeQueue.submit(createOrderCreateRequest(1L, 1), 1L).getIntakeId();
+
+            // when & then
+            assertThatThrownBy(() -> orderIntakeQueue.getIntake(intakeId, 2L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_INTAKE_NOT_FOUND);
+                    });
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private OrderCreateRequest createOrderCreateRequest(Long productId, Integer quantity) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.domain.order.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.entity.OrderItem;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장 벤치마크
+ * <p>
+ * 주문 상품이 많은 주문을 트랜잭션 단위로 저장할 때의 처리량과 실행된 JDBC 문 수를 측정합니다.
+ * IDENTITY 전략에서는 행마다 INSERT가 실행되고, 애플리케이션에서 ID를 발급하면 JDBC 배치 INSERT로 묶입니다.
+ * (./gradlew benchmark)
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@DisplayName("주문 저장 벤치마크")
+class OrderInsertBenchmarkTest {
+
+    private static final int ORDER_COUNT = 2000;
+    private static final int ITEMS_PER_ORDER = 10;
+    private static final int ORDERS_PER_TRANSACTION = 100;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 2000건 x 주문 상품 10개 저장")
+    void 주문_저장_처리량() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .name("상품 " + i)
+                    .price(1000L)
+                    .stockQuantity(ORDER_COUNT)
+                    .sellerId(1L)
+                    .build()));
+        }
+
+        // 워밍업
+        saveOrders(products, ORDERS_PER_TRANSACTION);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        saveOrders(products, ORDER_COUNT);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        long rows = (long) ORDER_COUNT * (ITEMS_PER_ORDER + 1);
+        assertThat(orderRepository.count()).isEqualTo(ORDER_COUNT + ORDERS_PER_TRANSACTION);
+
+        System.out.println("=== 벤치마크 결과 ===");
+        System.out.printf("주문 %d건 (행 %d개): %dms, 처리량 %.1f orders/s, JDBC 문 %d개%n",
+                ORDER_COUNT, rows, elapsedMs, ORDER_COUNT * 1000.0 / Math.max(elapsedMs, 1),
+                statistics.getPrepareStatementCount());
+    }
+
+    private void saveOrders(List<Product> products, int orderCount) {
+        for (int saved = 0; saved < orderCount; saved += ORDERS_PER_TRANSACTION) {
+            int chunk = Math.min(ORDERS_PER_TRANSACTION, orderCount - saved);
+            long firstBuyerId = saved + 1L;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Order> orders = new ArrayList<>(chunk);
+                for (int i = 0; i < chunk; i++) {
+                    List<OrderItem> items = products.stream()
+                            .map(product -> OrderItem.createFromProduct(product, 1))
+                            .toList();
+                    orders.add(Order.create(firstBuyerId + i, items));
+                }
+                orderRepository.saveAll(orders);
+            });
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.domain.order.reservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.event.OrderReservationsExpiredEvent;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.repository.ProductQuantity;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderReservationService 단위 테스트")
+class OrderReservationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private OrderReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new OrderReservationService(
+                orderRepository, productRepository, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("expireChunk 메서드")
+    class ExpireChunkTest {
+
+        @Test
+        @DisplayName("만료 주문을 일괄 취소하고 상품마다 한 번씩 재고를 복구한다")
+        void expiresChunkAndRestoresPerProduct() {
+            // given
+            ReservationCursor cursor = ReservationCursor.first();
+            List<Order> orders = List.of(
+                    createOrder(1L, NOW.minusMinutes(3)),
+                    createOrder(2L, NOW.minusMinutes(2)),
+                    createOrder(3L, NOW.minusMinutes(1)));
+            given(orderRepository.findExpiredForUpdate(NOW, cursor.expiresAt(), cursor.orderId(), PageRequest.of(0, 10)))
+                    .willReturn(orders);
+            given(orderRepository.sumQuantitiesByProduct(List.of(1L, 2L, 3L)))
+                    .willReturn(List.of(new ProductQuantity(10L, 5L), new ProductQuantity(20L, 1L)));
+            given(productRepository.increaseStock(anyLong(), anyInt(), any())).willReturn(1);
+
+            // when
+            ReservationCursor next = reservationService.expireChunk(NOW, cursor, 10);
+
+            // then
+            assertThat(next).isNull();
+            InOrder inOrder = inOrder(orderRepository, productRepository);
+            inOrder.verify(orderRepository).cancelPendingOrders(List.of(1L, 2L, 3L), NOW);
+            inOrder.verify(productRepository).increaseStock(10L, 5, NOW);
+            inOrder.verify(productRepository).increaseStock(20L, 1, NOW);
+            verify(eventPublisher).publishEvent(
+                    new OrderReservationsExpiredEvent(List.of(1L, 2L, 3L), Map.of(10L, 5, 20L, 1)));
+        }
+
+        @Test
+        @DisplayName("청크가 가득 차면 마지막 주문 위치를 다음 커서로 반환한다")
+        void returnsNextCursorWhenChunkFull() {
+            // given
+            ReservationCursor cursor = ReservationCursor.first();
+            LocalDateTime lastExpiresAt = NOW.minusMinutes(1);
+            List<Order> orders = List.of(createOrder(1L, NOW.minusMinutes(2)), createOrder(2L, lastExpiresAt));
+            given(orderRepository.findExpiredForUpdate(NOW, cursor.expiresAt(), cursor.orderId(), PageRequest.of(0, 2)))
+                    .willReturn(orders);
+            given(orderRepository.sumQuantitiesByProduct(List.of(1L, 2L)))
+                    .willReturn(List.of(new ProductQuantity(10L, 2L)));
+            given(productRepository.increaseStock(10L, 2, NOW)).willReturn(1);
+
+            // when
+            ReservationCursor next = reservationService.expireChunk(NOW, cursor, 2);
+
+            // then
+            assertThat(next).isEqualTo(new ReservationCursor(lastExpiresAt, 2L));
+        }
+
+        @Test
+        @DisplayName("만료 주문이 없으면 아무것도 변경하지 않는다")
+        void doesNothingWhenNoExpiredOrders() {
+            // given
+            ReservationCursor cursor = ReservationCursor.first();
+            given(orderRepository.findExpiredForUpdate(NOW, cursor.expiresAt(), cursor.orderId(), PageRequest.of(0, 10)))
+                    .willReturn(List.of());
+
+            // when
+            ReservationCursor next = reservationService.expireChunk(NOW, cursor, 10);
+
+            // then
+            assertThat(next).isNull();
+            verify(orderRepository, never()).cancelPendingOrders(any(), any());
+            verify(productRepository, never()).increaseStock(anyLong(), anyInt(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    private Order createOrder(Long id, LocalDateTime expiresAt) {
+        Order order = Order.builder().buyerId(1L).build();
+        ReflectionTestUtils.setField(order, "id", id);
+        order.reserveUntil(expiresAt);
+        return order;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.domain.order.reservation;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.entity.OrderStatus;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "order.reservation.enabled=true",
+        "order.reservation.ttl-ms=1",
+        "order.reservation.chunk-size=2",
+        "order.reservation.sweep-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("만료 주문 정리 통합 테스트")
+class OrderReservationSweeperTest {
+
+    @Autowired
+    private OrderReservationSweeper sweeper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료된 결제 전 주문을 여러 청크에 걸쳐 취소하고 재고를 복구한다")
+    void 만료_주문_취소_및_재고_복구() throws InterruptedException {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .name("한정 상품")
+                .price(10000L)
+                .stockQuantity(5)
+                .sellerId(1L)
+                .build());
+        for (long buyerId = 1; buyerId <= 5; buyerId++) {
+            orderService.createOrder(createOrderRequest(product.getId(), 1), buyerId);
+        }
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStatus())
+                .isEqualTo(ProductStatus.SOLD_OUT);
+        Thread.sleep(10);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        Product restored = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(restored.getStockQuantity()).isEqualTo(5);
+        assertThat(restored.getStatus()).isEqualTo(ProductStatus.SELLING);
+        assertThat(orderRepository.findAll())
+                .hasSize(5)
+                .allMatch(order -> order.getStatus() == OrderStatus.CANCELLED);
+    }
+
+    private OrderCreateRequest createOrderRequest(Long productId, Integer quantity) {
+        return OrderCreateRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.domain.order.service;
+
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
+import org.example.domain.order.dto.request.OrderLineRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("여러 상품 주문 동시성 통합 테스트")
+class CartOrderConcurrencyTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상품 구성이 겹치는 주문이 서로 다른 순서로 몰려도 데드락 없이 재고 정합성 유지")
+    void 겹치는_장바구니_동시_주문시_데드락_없음() throws InterruptedException {
+        // given
+        int initialStock = 100;
+        int threadCount = 150;
+
+        Product productA = saveProduct("상품 A", initialStock);
+        Product productB = saveProduct("상품 B", initialStock);
+        Product productC = saveProduct("상품 C", initialStock);
+
+        // 요청 순서가 서로 반대인 장바구니 (A가 모든 장바구니에 포함되어 병목)
+        List<List<Long>> carts = List.of(
+                List.of(productA.getId(), productB.getId()),
+                List.of(productB.getId(), productA.getId()),
+                List.of(productC.getId(), productA.getId()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+
+        AtomicInteger[] successCounts = {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()};
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        AtomicInteger otherFailureCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            final long buyerId = i + 1L;
+            final int cartIndex = i % carts.size();
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderService.createCartOrder(createCartRequest(carts.get(cartIndex)), buyerId);
+                    successCounts[cartIndex].incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.INSUFFICIENT_STOCK) {
+                        insufficientCount.incrementAndGet();
+                    } else {
+                        otherFailureCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 데드락, 락 타임아웃 등
+                    otherFailureCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+
+        // then
+        int totalSuccess = Arrays.stream(successCounts).mapToInt(AtomicInteger::get).sum();
+
+        assertThat(otherFailureCount.get()).isZero();
+        assertThat(totalSuccess).isEqualTo(initialStock);
+        assertThat(insufficientCount.get()).isEqualTo(threadCount - initialStock);
+        assertThat(stockOf(productA)).isEqualTo(initialStock - totalSuccess);
+        assertThat(stockOf(productB)).isEqualTo(initialStock - successCounts[0].get() - successCounts[1].get());
+        assertThat(stockOf(productC)).isEqualTo(initialStock - successCounts[2].get());
+        assertThat(orderRepository.count()).isEqualTo(totalSuccess);
+    }
+
+    // ========== Helper Methods ==========
+
+    private Product saveProduct(String name, int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(10000L)
+                .stockQuantity(stockQuantity)
+                .sellerId(1L)
+                .build());
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.findById(product.getId()).orElseThrow().getStockQuantity();
+    }
+
+    private OrderCartCreateRequest createCartRequest(List<Long> productIds) {
+        return OrderCartCreateRequest.builder()
+                .items(productIds.stream()
+                        .map(productId -> OrderLineRequest.builder().productId(productId).quantity(1).build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.domain.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.entity.Order;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.reservation.OrderReservationProperties;
+import org.example.domain.order.stock.HotProductDetector;
+import org.example.domain.order.stock.ProductLockMetrics;
+import org.example.domain.order.stock.StockProperties;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderBatchService 단위 테스트")
+class OrderBatchServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Spy
+    private OrderReservationProperties reservationProperties = new OrderReservationProperties();
+
+    @Spy
+    private ProductLockMetrics lockMetrics = createLockMetrics();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderBatchService orderBatchService;
+
+    @Nested
+    @DisplayName("createOrders 메서드")
+    class CreateOrdersTest {
+
+        @Test
+        @DisplayName("락은 한 번만 잡고 수락한 수량 합계만큼 재고 차감")
+        void createOrders_AllAccepted_DecreasesOnce() {
+            // given
+            Product product = createProduct(1L, 10);
+            given(productRepository.findByIdWithLock(1L)).willReturn(Optional.of(product));
+            givenSaveAllAssignsIds();
+
+            List<OrderBatchCommand> commands = List.of(
+                    new OrderBatchCommand(1L, 2),
+                    new OrderBatchCommand(2L, 3),
+                    new OrderBatchCommand(3L, 1));
+
+            // when
+            List<OrderBatchResult> results = orderBatchService.createOrders(1L, commands);
+
+            // then
+            assertThat(results).hasSize(3).allMatch(OrderBatchResult::isSuccess);
+            assertThat(results).extracting(result -> result.response().getBuyerId())
+                    .containsExactly(1L, 2L, 3L);
+            assertThat(product.getStockQuantity()).isEqualTo(4);
+            verify(productRepository, times(1)).findByIdWithLock(1L);
+            verify(orderRepository, times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("남은 재고를 넘는 요청만 INSUFFICIENT_STOCK, 이후 요청은 남은 재고 안에서 수락")
+        void createOrders_PartiallyAccepted_InArrivalOrder() {
+            // given
+            Product product = createProduct(1L, 3);
+            given(productRepository.findByIdWithLock(1L)).willReturn(Optional.of(product));
+            givenSaveAllAssignsIds();
+
+            List<OrderBatchCommand> commands = List.of(
+                    new OrderBatchCommand(1L, 2),
+                    new OrderBatchCommand(2L, 2),
+                    new OrderBatchCommand(3L, 1));
+
+            // when
+            List<OrderBatchResult> results = orderBatchService.createOrders(1L, commands);
+
+            // then
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+            assertThat(results.get(2).isSuccess()).isTrue();
+            assertThat(product.getStockQuantity()).isZero();
+            assertThat(product.getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+        }
+
+        @Test
+        @DisplayName("상품이 없으면 PRODUCT_NOT_FOUND 예외")
+        void createOrders_ProductNotFound_ThrowsException() {
+            // given
+            given(productRepository.findByIdWithLock(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> orderBatchService.createOrders(999L, List.of(new OrderBatchCommand(1L, 1))))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+                    });
+
+            verify(orderRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrders 메서드 - 여러 상품")
+    class CreateOrdersForProductsTest {
+
+        @Test
+        @DisplayName("상품 락은 한 번에 잡고 상품마다 수락한 수량만큼 차감, 주문은 한 번에 저장")
+        void createOrders_MultipleProducts_LocksAndSavesOnce() {
+            // given
+            Product product1 = createProduct(1L, 3);
+            Product product2 = createProduct(2L, 10);
+            given(productRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(product1, product2));
+            givenSaveAllAssignsIds();
+
+            SortedMap<Long, List<OrderBatchCommand>> commands = new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(1L, 2), new OrderBatchCommand(1L, 2)),
+                    2L, List.of(new OrderBatchCommand(1L, 4))));
+
+            // when
+            Map<Long, List<OrderBatchResult>> results = orderBatchService.createOrders(commands);
+
+            // then
+            assertThat(results.get(1L).get(0).isSuccess()).isTrue();
+            assertThat(results.get(1L).get(1).errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+            assertThat(results.get(2L).get(0).isSuccess()).isTrue();
+            assertThat(product1.getStockQuantity()).isEqualTo(1);
+            assertThat(product2.getStockQuantity()).isEqualTo(6);
+            verify(orderRepository, times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("없는 상품의 요청만 PRODUCT_NOT_FOUND로 실패")
+        void createOrders_MissingProduct_FailsOnlyThatProduct() {
+            // given
+            Product product1 = createProduct(1L, 10);
+            given(productRepository.findAllByIdInWithLock(List.of(1L, 999L))).willReturn(List.of(product1));
+            givenSaveAllAssignsIds();
+
+            SortedMap<Long, List<OrderBatchCommand>> commands = new TreeMap<>(Map.of(
+                    1L, List.of(new OrderBatchCommand(1L, 1)),
+                    999L, List.of(new OrderBatchCommand(1L, 1), new OrderBatchCommand(1L, 1))));
+
+            // when
+            Map<Long, List<OrderBatchResult>> results = orderBatchService.createOrders(commands);
+
+            // then
+            assertThat(results.get(1L)).allMatch(OrderBatchResult::isSuccess);
+            assertThat(results.get(999L)).hasSize(2)
+                    .allMatch(result -> result.errorCode() == ErrorCode.PRODUCT_NOT_FOUND);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    @SuppressWarnings("unchecked")
+    private void givenSaveAllAssignsIds() {
+        AtomicLong sequence = new AtomicLong();
+        given(orderRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> ReflectionTestUtils.setField(order, "id", sequence.incrementAndGet()));
+            return orders;
+        });
+    }
+
+    private Product createProduct(Long id, Integer stockQuantity) {
+        Product product = Product.builder()
+                .name("테스트 상품")
+                .price(10000L)
+                .stockQuantity(stockQuantity)
+                .sellerId(1L)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        ReflectionTestUtils.setField(product, "createdAt", LocalDateTime.now());
+        return product;
+    }
+
+    private static ProductLockMetrics createLockMetrics() {
+        StockProperties stockProperties = new StockProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new ProductLockMetrics(meterRegistry, stockProperties, new HotProductDetector(stockProperties, meterRegistry));
+    }
+}
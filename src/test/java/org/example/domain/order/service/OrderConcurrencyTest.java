@@ -248,6 +248,60 @@ class OrderConcurrencyTest {
         assertThat(finalProduct.getStockQuantity()).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("같은 주문을 동시에 여러 번 취소해도 한 번만 취소되고 재고도 한 번만 복구")
+    void 같은_주문_동시_취소시_재고_한번만_복구() throws InterruptedException {
+        // given
+        int initialStock = 10;
+        int orderQuantity = 3;
+        int threadCount = 10;
+
+        testProduct = productRepository.save(Product.builder()
+                .name("테스트 상품")
+                .price(10000L)
+                .stockQuantity(initialStock)
+                .sellerId(1L)
+                .build());
+        Long orderId = orderService.createOrder(createOrderRequest(testProduct.getId(), orderQuantity), 100L).getId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+
+        AtomicInteger cancelSuccess = new AtomicInteger(0);
+        AtomicInteger alreadyCancelled = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderService.cancelOrder(orderId, 100L);
+                    cancelSuccess.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.ORDER_ALREADY_CANCELLED) {
+                        alreadyCancelled.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    // 기타 예외
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        endLatch.await();
+        executorService.shutdown();
+
+        // then
+        Product finalProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+
+        assertThat(cancelSuccess.get()).isEqualTo(1);
+        assertThat(alreadyCancelled.get()).isEqualTo(threadCount - 1);
+        assertThat(finalProduct.getStockQuantity()).isEqualTo(initialStock);
+    }
+
     @Test
     @DisplayName("대량 동시 주문 시 재고 정합성 테스트 (재고 100개, 동시 주문 150개)")
     void 대량_동시_주문시_재고_정합성_테스트() throws InterruptedException {
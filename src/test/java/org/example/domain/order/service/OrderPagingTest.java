@@ -0,0 +1,122 @@
+package org.example.domain.order.service;
+
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
+import org.example.domain.order.dto.request.OrderLineRequest;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.common.PagingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 목록 페이징 통합 테스트
+ * <p>
+ * 컬렉션 fetch join에 페이징을 적용하면 Hibernate가 메모리 페이징 대신 예외를 던지도록 설정하여,
+ * 주문 목록 조회가 DB에서 LIMIT을 적용하는지 검증합니다.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.query.fail_on_pagination_over_collection_fetch=true")
+@ActiveProfiles("test")
+@DisplayName("주문 목록 페이징 통합 테스트")
+class OrderPagingTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("최신 주문부터 한 페이지만 조회하고 주문 상품을 함께 반환한다")
+    void 주문_목록_페이징() {
+        // given: 구매자 1의 주문 5건(주문마다 상품 2개)과 다른 구매자의 주문 1건
+        Product first = saveProduct("상품 A");
+        Product second = saveProduct("상품 B");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            orderIds.add(orderService.createCartOrder(createCartRequest(first, second), 1L).getId());
+        }
+        orderService.createCartOrder(createCartRequest(first, second), 2L);
+        orderIds.sort(Comparator.reverseOrder());
+
+        // when
+        PagingResponse<OrderResponse> firstPage = orderService.getMyOrders(1L, 0, 2);
+        PagingResponse<OrderResponse> lastPage = orderService.getMyOrders(1L, 2, 2);
+
+        // then
+        assertThat(firstPage.paging().totalElements()).isEqualTo(5);
+        assertThat(firstPage.content()).extracting(OrderResponse::getId)
+                .containsExactly(orderIds.get(0), orderIds.get(1));
+        assertThat(firstPage.content()).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(2));
+        assertThat(lastPage.content()).extracting(OrderResponse::getId).containsExactly(orderIds.get(4));
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 최신 주문부터 빠짐없이 한 번씩 반환한다")
+    void 주문_목록_커서_페이징() {
+        // given: 구매자 1의 주문 5건과 다른 구매자의 주문 1건
+        Product first = saveProduct("상품 A");
+        Product second = saveProduct("상품 B");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            orderIds.add(orderService.createCartOrder(createCartRequest(first, second), 1L).getId());
+        }
+        orderService.createCartOrder(createCartRequest(first, second), 2L);
+        orderIds.sort(Comparator.reverseOrder());
+
+        // when: 다음 커서가 없을 때까지 2건씩 조회
+        List<Long> fetched = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            PagingResponse<OrderResponse> page = orderService.getMyOrdersByCursor(1L, cursor, 2);
+            assertThat(page.paging()).isNull();
+            assertThat(page.content()).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(2));
+            page.content().forEach(order -> fetched.add(order.getId()));
+            pageSizes.add(page.content().size());
+            cursor = page.cursor().nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertThat(fetched).containsExactlyElementsOf(orderIds);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+    }
+
+    private Product saveProduct(String name) {
+        return productRepository.save(Product.builder()
+                .name(name)
+                .price(10000L)
+                .stockQuantity(100)
+                .sellerId(1L)
+                .build());
+    }
+
+    private OrderCartCreateRequest createCartRequest(Product first, Product second) {
+        return OrderCartCreateRequest.builder()
+                .items(List.of(
+                        OrderLineRequest.builder().productId(first.getId()).quantity(1).build(),
+                        OrderLineRequest.builder().productId(second.getId()).quantity(1).build()))
+                .build();
+    }
+}
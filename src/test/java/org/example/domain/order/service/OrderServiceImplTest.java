@@ -1,31 +1,53 @@
 package org.example.domain.order.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.dto.request.OrderCartCreateRequest;
 import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.dto.request.OrderLineRequest;
 import org.example.domain.order.dto.response.OrderResponse;
 import org.example.domain.order.entity.Order;
 import org.example.domain.order.entity.OrderItem;
 import org.example.domain.order.entity.OrderStatus;
+import org.example.domain.order.event.OrderCancelledEvent;
 import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.repository.ProductQuantity;
+import org.example.domain.order.reservation.OrderReservationProperties;
+import org.example.domain.order.stock.ConditionalUpdateStockStrategy;
+import org.example.domain.order.stock.HotProductDetector;
+import org.example.domain.order.stock.OptimisticLockStockStrategy;
+import org.example.domain.order.stock.PessimisticLockStockStrategy;
+import org.example.domain.order.stock.ProductContentionTracker;
+import org.example.domain.order.stock.ProductLockMetrics;
+import org.example.domain.order.stock.StockProperties;
+import org.example.domain.order.stock.StockStrategyResolver;
+import org.example.domain.order.stock.StockStrategyType;
 import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
 import org.example.domain.product.repository.ProductRepository;
+import org.example.global.common.KeysetCursor;
 import org.example.global.common.PagingResponse;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
+import org.example.global.trace.PhaseTraceProperties;
+import org.example.global.trace.PhaseTracer;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,9 +67,38 @@ class OrderServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StockProperties stockProperties;
+
+    private ProductContentionTracker contentionTracker;
+
+    private HotProductDetector hotProductDetector;
+
     private OrderServiceImpl orderService;
 
+    @BeforeEach
+    void setUp() {
+        stockProperties = new StockProperties();
+        contentionTracker = new ProductContentionTracker();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hotProductDetector = new HotProductDetector(stockProperties, meterRegistry);
+        ProductLockMetrics lockMetrics = new ProductLockMetrics(meterRegistry, stockProperties, hotProductDetector);
+        StockStrategyResolver stockStrategyResolver = new StockStrategyResolver(
+                List.of(new PessimisticLockStockStrategy(productRepository, lockMetrics),
+                        new ConditionalUpdateStockStrategy(productRepository),
+                        new OptimisticLockStockStrategy(productRepository)),
+                stockProperties,
+                contentionTracker,
+                hotProductDetector);
+        OrderReservationProperties reservationProperties = new OrderReservationProperties();
+        reservationProperties.setEnabled(true);
+        orderService = new OrderServiceImpl(orderRepository, productRepository, stockStrategyResolver, eventPublisher,
+                reservationProperties, hotProductDetector, lockMetrics,
+                new PhaseTracer(meterRegistry, new PhaseTraceProperties(), List.of()));
+    }
+
     @Nested
     @DisplayName("createOrder 메서드")
     class CreateOrderTest {
@@ -100,6 +151,31 @@ class OrderServiceImplTest {
             assertThat(product.getStockQuantity()).isEqualTo(initialStock - quantity);
         }
 
+        @Test
+        @DisplayName("주문 생성 시 재고 예약 만료 일시 설정")
+        void createOrder_ReservationExpiresAt() {
+            // given
+            Long buyerId = 1L;
+            Long productId = 1L;
+            OrderCreateRequest request = createOrderCreateRequest(productId, 1);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, buyerId, OrderStatus.PENDING, product, 1);
+            LocalDateTime before = LocalDateTime.now();
+
+            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            orderService.createOrder(request, buyerId);
+
+            // then
+            ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+            verify(orderRepository).save(captor.capture());
+            assertThat(captor.getValue().getExpiresAt())
+                    .isAfterOrEqualTo(before.plusMinutes(30))
+                    .isBeforeOrEqualTo(LocalDateTime.now().plusMinutes(30));
+        }
+
         @Test
         @DisplayName("재고 소진 시 SOLD_OUT 상태 변경 확인")
         void createOrder_StockZero_StatusSoldOut() {
@@ -171,6 +247,301 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("createCartOrder 메서드")
+    class CreateCartOrderTest {
+
+        @Test
+        @DisplayName("모든 상품을 ID 오름차순 쿼리 한 번으로 잠그고 주문 하나로 생성")
+        void createCartOrder_Success() {
+            // given
+            Product product1 = createProduct(1L, "상품 1", 10000L, 10, ProductStatus.SELLING, 1L);
+            Product product2 = createProduct(2L, "상품 2", 5000L, 10, ProductStatus.SELLING, 1L);
+            OrderCartCreateRequest request = createCartRequest(Map.of(2L, 3), Map.of(1L, 1));
+
+            given(productRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(product1, product2));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            OrderResponse response = orderService.createCartOrder(request, 1L);
+
+            // then
+            assertThat(response.getTotalPrice()).isEqualTo(25000L);
+            assertThat(response.getOrderItems()).extracting("productId").containsExactly(2L, 1L);
+            assertThat(product1.getStockQuantity()).isEqualTo(9);
+            assertThat(product2.getStockQuantity()).isEqualTo(7);
+            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(orderRepository, times(1)).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("같은 상품이 여러 줄이면 수량을 합산")
+        void createCartOrder_DuplicateLines_Merged() {
+            // given
+            Product product = createProduct(1L, "상품 1", 10000L, 10, ProductStatus.SELLING, 1L);
+            OrderCartCreateRequest request = createCartRequest(Map.of(1L, 2), Map.of(1L, 3));
+
+            given(productRepository.findAllByIdInWithLock(List.of(1L))).willReturn(List.of(product));
+            given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            OrderResponse response = orderService.createCartOrder(request, 1L);
+
+            // then
+            assertThat(response.getOrderItems()).hasSize(1);
+            assertThat(response.getOrderItems().get(0).getQuantity()).isEqualTo(5);
+            assertThat(product.getStockQuantity()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("같은 상품 줄의 합산 수량이 int 범위를 넘으면 재고 조회 없이 INVALID_INPUT_VALUE 예외")
+        void createCartOrder_DuplicateLinesOverflow_ThrowsWithoutDecrease() {
+            // given
+            OrderCartCreateRequest request = createCartRequest(Map.of(1L, Integer.MAX_VALUE), Map.of(1L, 2));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createCartOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+                    });
+
+            verify(productRepository, never()).findAllByIdInWithLock(anyList());
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("차감 수량이 1 미만이면 상품을 잠그지 않고 INVALID_STOCK_QUANTITY 예외")
+        void createCartOrder_NonPositiveQuantity_ThrowsWithoutLock() {
+            // given
+            OrderCartCreateRequest request = createCartRequest(Map.of(1L, -5));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createCartOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INVALID_STOCK_QUANTITY);
+                    });
+
+            verify(productRepository, never()).findAllByIdInWithLock(anyList());
+        }
+
+        @Test
+        @DisplayName("상품 하나라도 재고가 부족하면 어떤 상품도 차감하지 않고 INSUFFICIENT_STOCK 예외")
+        void createCartOrder_OneInsufficient_ThrowsWithoutDecrease() {
+            // given
+            Product product1 = createProduct(1L, "상품 1", 10000L, 10, ProductStatus.SELLING, 1L);
+            Product product2 = createProduct(2L, "상품 2", 5000L, 1, ProductStatus.SELLING, 1L);
+            OrderCartCreateRequest request = createCartRequest(Map.of(1L, 1), Map.of(2L, 2));
+
+            given(productRepository.findAllByIdInWithLock(List.of(1L, 2L))).willReturn(List.of(product1, product2));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createCartOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+                    });
+
+            assertThat(product1.getStockQuantity()).isEqualTo(10);
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("상품 하나라도 없으면 PRODUCT_NOT_FOUND 예외")
+        void createCartOrder_ProductMissing_ThrowsException() {
+            // given
+            Product product1 = createProduct(1L, "상품 1", 10000L, 10, ProductStatus.SELLING, 1L);
+            OrderCartCreateRequest request = createCartRequest(Map.of(1L, 1), Map.of(999L, 1));
+
+            given(productRepository.findAllByIdInWithLock(List.of(1L, 999L))).willReturn(List.of(product1));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createCartOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrder 메서드 - 조건부 UPDATE 전략")
+    class CreateOrderConditionalUpdateTest {
+
+        @BeforeEach
+        void setUp() {
+            stockProperties.setStrategy(StockStrategyType.CONDITIONAL_UPDATE);
+        }
+
+        @Test
+        @DisplayName("UPDATE 영향 행 수가 1이면 주문 생성 (락 조회 없음)")
+        void createOrder_Updated_Success() {
+            // given
+            Long buyerId = 1L;
+            Long productId = 1L;
+            int quantity = 2;
+            OrderCreateRequest request = createOrderCreateRequest(productId, quantity);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 98, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, buyerId, OrderStatus.PENDING, product, quantity);
+
+            given(productRepository.decreaseStock(eq(productId), eq(quantity), any(LocalDateTime.class))).willReturn(1);
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            OrderResponse response = orderService.createOrder(request, buyerId);
+
+            // then
+            assertThat(response.getTotalPrice()).isEqualTo(20000L);
+            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(orderRepository).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("UPDATE 영향 행 수가 0이고 상품이 있으면 INSUFFICIENT_STOCK 예외")
+        void createOrder_NotUpdated_InsufficientStock() {
+            // given
+            Long productId = 1L;
+            OrderCreateRequest request = createOrderCreateRequest(productId, 100);
+
+            given(productRepository.decreaseStock(eq(productId), eq(100), any(LocalDateTime.class))).willReturn(0);
+            given(productRepository.existsById(productId)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_STOCK);
+                    });
+
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("UPDATE 영향 행 수가 0이고 상품이 없으면 PRODUCT_NOT_FOUND 예외")
+        void createOrder_NotUpdated_ProductNotFound() {
+            // given
+            Long productId = 999L;
+            OrderCreateRequest request = createOrderCreateRequest(productId, 1);
+
+            given(productRepository.decreaseStock(eq(productId), eq(1), any(LocalDateTime.class))).willReturn(0);
+            given(productRepository.existsById(productId)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(request, 1L))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+                    });
+        }
+    }
+
+    @Nested
+    @DisplayName("createOrder 메서드 - 낙관적 락 전략")
+    class CreateOrderOptimisticLockTest {
+
+        @BeforeEach
+        void setUp() {
+            stockProperties.setStrategy(StockStrategyType.OPTIMISTIC_LOCK);
+        }
+
+        @Test
+        @DisplayName("락 없이 조회 후 차감하고 즉시 flush하여 버전 충돌을 확인")
+        void createOrder_FindsWithoutLockAndFlushes() {
+            // given
+            Long productId = 1L;
+            OrderCreateRequest request = createOrderCreateRequest(productId, 2);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, 1L, OrderStatus.PENDING, product, 2);
+
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            orderService.createOrder(request, 1L);
+
+            // then
+            assertThat(product.getStockQuantity()).isEqualTo(98);
+            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(productRepository).flush();
+        }
+
+        @Test
+        @DisplayName("상품별 지정 전략이 기본 전략보다 우선")
+        void createOrder_ProductOverride_UsesPessimisticLock() {
+            // given
+            Long productId = 1L;
+            stockProperties.getProducts().put(productId, StockStrategyType.PESSIMISTIC_LOCK);
+            OrderCreateRequest request = createOrderCreateRequest(productId, 1);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, 1L, OrderStatus.PENDING, product, 1);
+
+            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            orderService.createOrder(request, 1L);
+
+            // then
+            verify(productRepository, never()).findById(anyLong());
+            verify(productRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("동시 주문 수가 임계치 이상이면 경합 상품 전략으로 전환")
+        void createOrder_HotProduct_UsesHotnessStrategy() {
+            // given
+            Long productId = 1L;
+            stockProperties.getHotness().setThreshold(2);
+            contentionTracker.enter(productId);
+            contentionTracker.enter(productId);
+            OrderCreateRequest request = createOrderCreateRequest(productId, 1);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, 1L, OrderStatus.PENDING, product, 1);
+
+            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            orderService.createOrder(request, 1L);
+
+            // then
+            verify(productRepository).findByIdWithLock(productId);
+            verify(productRepository, never()).flush();
+        }
+
+        @Test
+        @DisplayName("최근 요청 수가 임계치 이상이면 경합 상품 전략으로 전환")
+        void createOrder_FrequentProduct_UsesHotnessStrategy() {
+            // given
+            Long productId = 1L;
+            stockProperties.getHotness().setRateThreshold(3);
+            for (int i = 0; i < 3; i++) {
+                hotProductDetector.record(productId);
+            }
+            OrderCreateRequest request = createOrderCreateRequest(productId, 1);
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order savedOrder = createOrder(1L, 1L, OrderStatus.PENDING, product, 1);
+
+            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.save(any(Order.class))).willReturn(savedOrder);
+
+            // when
+            orderService.createOrder(request, 1L);
+
+            // then
+            verify(productRepository).findByIdWithLock(productId);
+            assertThat(hotProductDetector.isHot(2L)).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("getMyOrders 메서드")
     class GetMyOrdersTest {
@@ -188,9 +559,10 @@ class OrderServiceImplTest {
                     createOrder(1L, buyerId, OrderStatus.PENDING, product, 1),
                     createOrder(2L, buyerId, OrderStatus.PAID, product, 2)
             );
-            Page<Order> orderPage = new PageImpl<>(orders);
 
-            given(orderRepository.findByBuyerId(eq(buyerId), any(Pageable.class))).willReturn(orderPage);
+            given(orderRepository.findIdsByBuyerId(eq(buyerId), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(1L, 2L)));
+            given(orderRepository.findAllWithItemsByIdIn(List.of(1L, 2L))).willReturn(orders);
 
             // when
             PagingResponse<OrderResponse> response = orderService.getMyOrders(buyerId, page, size);
@@ -199,7 +571,44 @@ class OrderServiceImplTest {
             assertThat(response).isNotNull();
             assertThat(response.content()).hasSize(2);
 
-            verify(orderRepository).findByBuyerId(eq(buyerId), any(Pageable.class));
+            verify(orderRepository).findIdsByBuyerId(eq(buyerId), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("주문 상품 조회 결과를 주문 ID 페이지 순서대로 정렬")
+        void getMyOrders_KeepsIdPageOrder() {
+            // given
+            Long buyerId = 1L;
+            Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            List<Order> orders = List.of(
+                    createOrder(1L, buyerId, OrderStatus.PENDING, product, 1),
+                    createOrder(2L, buyerId, OrderStatus.PAID, product, 2),
+                    createOrder(3L, buyerId, OrderStatus.PAID, product, 3)
+            );
+
+            given(orderRepository.findIdsByBuyerId(eq(buyerId), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(3L, 1L, 2L)));
+            given(orderRepository.findAllWithItemsByIdIn(List.of(3L, 1L, 2L))).willReturn(orders);
+
+            // when
+            PagingResponse<OrderResponse> response = orderService.getMyOrders(buyerId, 0, 10);
+
+            // then
+            assertThat(response.content()).extracting(OrderResponse::getId).containsExactly(3L, 1L, 2L);
+        }
+
+        @Test
+        @DisplayName("주문이 없으면 주문 상품 조회 생략")
+        void getMyOrders_Empty_SkipsItemQuery() {
+            // given
+            given(orderRepository.findIdsByBuyerId(eq(1L), any(Pageable.class))).willReturn(Page.empty());
+
+            // when
+            PagingResponse<OrderResponse> response = orderService.getMyOrders(1L, 0, 10);
+
+            // then
+            assertThat(response.content()).isEmpty();
+            verify(orderRepository, never()).findAllWithItemsByIdIn(any());
         }
 
         @Test
@@ -213,9 +622,10 @@ class OrderServiceImplTest {
 
             Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
             List<Order> orders = List.of(createOrder(1L, buyerId, OrderStatus.PENDING, product, 1));
-            Page<Order> orderPage = new PageImpl<>(orders, org.springframework.data.domain.PageRequest.of(page, size), totalElements);
+            Page<Long> orderIdPage = new PageImpl<>(List.of(1L), org.springframework.data.domain.PageRequest.of(page, size), totalElements);
 
-            given(orderRepository.findByBuyerId(eq(buyerId), any(Pageable.class))).willReturn(orderPage);
+            given(orderRepository.findIdsByBuyerId(eq(buyerId), any(Pageable.class))).willReturn(orderIdPage);
+            given(orderRepository.findAllWithItemsByIdIn(List.of(1L))).willReturn(orders);
 
             // when
             PagingResponse<OrderResponse> response = orderService.getMyOrders(buyerId, page, size);
@@ -227,6 +637,69 @@ class OrderServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getMyOrdersByCursor 메서드")
+    class GetMyOrdersByCursorTest {
+
+        @Test
+        @DisplayName("한 건 더 조회되면 마지막 주문 위치를 다음 커서로 반환")
+        void getMyOrdersByCursor_HasNext() {
+            // given
+            Long buyerId = 1L;
+            Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order newer = createOrder(3L, buyerId, OrderStatus.PAID, product, 1);
+            Order older = createOrder(2L, buyerId, OrderStatus.PAID, product, 1);
+
+            given(orderRepository.findIdsByBuyerIdBefore(eq(buyerId), any(LocalDateTime.class), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .willReturn(List.of(3L, 2L, 1L));
+            given(orderRepository.findAllWithItemsByIdIn(List.of(3L, 2L))).willReturn(List.of(older, newer));
+
+            // when
+            PagingResponse<OrderResponse> response = orderService.getMyOrdersByCursor(buyerId, null, 2);
+
+            // then
+            assertThat(response.paging()).isNull();
+            assertThat(response.content()).extracting(OrderResponse::getId).containsExactly(3L, 2L);
+            assertThat(response.cursor().hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(response.cursor().nextCursor()))
+                    .isEqualTo(new KeysetCursor(older.getCreatedAt(), 2L));
+        }
+
+        @Test
+        @DisplayName("커서 위치 이후부터 조회하고 마지막 페이지면 다음 커서 없음")
+        void getMyOrdersByCursor_LastPage() {
+            // given
+            Long buyerId = 1L;
+            Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
+            Order order = createOrder(1L, buyerId, OrderStatus.PAID, product, 1);
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 2L);
+
+            given(orderRepository.findIdsByBuyerIdBefore(eq(buyerId), eq(cursor.createdAt()), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(1L));
+            given(orderRepository.findAllWithItemsByIdIn(List.of(1L))).willReturn(List.of(order));
+
+            // when
+            PagingResponse<OrderResponse> response = orderService.getMyOrdersByCursor(buyerId, cursor.encode(), 2);
+
+            // then
+            assertThat(response.content()).extracting(OrderResponse::getId).containsExactly(1L);
+            assertThat(response.cursor().hasNext()).isFalse();
+            assertThat(response.cursor().nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외 발생")
+        void getMyOrdersByCursor_InvalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> orderService.getMyOrdersByCursor(1L, "not-a-cursor", 2))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(e -> assertThat(((BusinessException) e).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+
+            verify(orderRepository, never()).findIdsByBuyerIdBefore(any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getOrder 메서드")
     class GetOrderTest {
@@ -295,90 +768,48 @@ class OrderServiceImplTest {
     class CancelOrderTest {
 
         @Test
-        @DisplayName("PENDING 상태 주문 정상 취소")
-        void cancelOrder_PendingOrder_Success() {
+        @DisplayName("취소 UPDATE가 성공하면 상품별 원자적 증가로 재고 복구")
+        void cancelOrder_Success_RestoresStockAtomically() {
             // given
             Long orderId = 1L;
             Long buyerId = 1L;
-            Long productId = 1L;
-            Product product = createProduct(productId, "상품", 10000L, 90, ProductStatus.SELLING, 1L);
-            Order order = createOrder(orderId, buyerId, OrderStatus.PENDING, product, 10);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
-            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(1);
+            given(orderRepository.sumQuantitiesByProduct(List.of(orderId)))
+                    .willReturn(List.of(new ProductQuantity(1L, 10L), new ProductQuantity(2L, 3L)));
+            given(productRepository.increaseStock(anyLong(), anyInt(), any())).willReturn(1);
 
             // when
             orderService.cancelOrder(orderId, buyerId);
 
             // then
-            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
-            verify(orderRepository).findByIdWithItems(orderId);
-            verify(productRepository).findByIdWithLock(productId);
-        }
-
-        @Test
-        @DisplayName("PAID 상태 주문 정상 취소")
-        void cancelOrder_PaidOrder_Success() {
-            // given
-            Long orderId = 1L;
-            Long buyerId = 1L;
-            Long productId = 1L;
-            Product product = createProduct(productId, "상품", 10000L, 90, ProductStatus.SELLING, 1L);
-            Order order = createOrder(orderId, buyerId, OrderStatus.PAID, product, 10);
-
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
-            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
-
-            // when
-            orderService.cancelOrder(orderId, buyerId);
-
-            // then
-            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
-        }
-
-        @Test
-        @DisplayName("취소 시 재고 복구 확인")
-        void cancelOrder_StockRestored() {
-            // given
-            Long orderId = 1L;
-            Long buyerId = 1L;
-            Long productId = 1L;
-            int currentStock = 90;
-            int orderQuantity = 10;
-            Product product = createProduct(productId, "상품", 10000L, currentStock, ProductStatus.SELLING, 1L);
-            Order order = createOrder(orderId, buyerId, OrderStatus.PENDING, product, orderQuantity);
-
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
-            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
-
-            // when
-            orderService.cancelOrder(orderId, buyerId);
-
-            // then
-            assertThat(product.getStockQuantity()).isEqualTo(currentStock + orderQuantity);
+            verify(productRepository).increaseStock(eq(1L), eq(10), any());
+            verify(productRepository).increaseStock(eq(2L), eq(3), any());
+            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(orderRepository, never()).findById(anyLong());
         }
 
         @Test
-        @DisplayName("SOLD_OUT 상품이 취소 시 SELLING 상태로 변경")
-        void cancelOrder_SoldOutToSelling() {
+        @DisplayName("취소 시 복구 수량을 담은 주문 취소 이벤트 발행")
+        void cancelOrder_PublishesCancelledEvent() {
             // given
             Long orderId = 1L;
             Long buyerId = 1L;
             Long productId = 1L;
-            int currentStock = 0;
             int orderQuantity = 10;
-            Product product = createProduct(productId, "상품", 10000L, currentStock, ProductStatus.SOLD_OUT, 1L);
-            Order order = createOrder(orderId, buyerId, OrderStatus.PENDING, product, orderQuantity);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
-            given(productRepository.findByIdWithLock(productId)).willReturn(Optional.of(product));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(1);
+            given(orderRepository.sumQuantitiesByProduct(List.of(orderId)))
+                    .willReturn(List.of(new ProductQuantity(productId, (long) orderQuantity)));
+            given(productRepository.increaseStock(eq(productId), eq(orderQuantity), any())).willReturn(1);
 
             // when
             orderService.cancelOrder(orderId, buyerId);
 
             // then
-            assertThat(product.getStockQuantity()).isEqualTo(orderQuantity);
-            assertThat(product.getStatus()).isEqualTo(ProductStatus.SELLING);
+            verify(eventPublisher).publishEvent(new OrderCancelledEvent(orderId, Map.of(productId, orderQuantity)));
         }
 
         @Test
@@ -388,7 +819,9 @@ class OrderServiceImplTest {
             Long orderId = 999L;
             Long buyerId = 1L;
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.empty());
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(0);
+            given(orderRepository.findById(orderId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(orderId, buyerId))
@@ -409,7 +842,9 @@ class OrderServiceImplTest {
             Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
             Order order = createOrder(orderId, ownerId, OrderStatus.PENDING, product, 10);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(attempterId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(0);
+            given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(orderId, attempterId))
@@ -419,7 +854,7 @@ class OrderServiceImplTest {
                         assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
                     });
 
-            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(productRepository, never()).increaseStock(anyLong(), anyInt(), any());
         }
 
         @Test
@@ -431,7 +866,9 @@ class OrderServiceImplTest {
             Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
             Order order = createOrder(orderId, buyerId, OrderStatus.CANCELLED, product, 10);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(0);
+            given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(orderId, buyerId))
@@ -441,7 +878,8 @@ class OrderServiceImplTest {
                         assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_ALREADY_CANCELLED);
                     });
 
-            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(productRepository, never()).increaseStock(anyLong(), anyInt(), any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -453,7 +891,9 @@ class OrderServiceImplTest {
             Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
             Order order = createOrder(orderId, buyerId, OrderStatus.SHIPPING, product, 10);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(0);
+            given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(orderId, buyerId))
@@ -463,7 +903,7 @@ class OrderServiceImplTest {
                         assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_CANNOT_CANCEL);
                     });
 
-            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(productRepository, never()).increaseStock(anyLong(), anyInt(), any());
         }
 
         @Test
@@ -475,7 +915,9 @@ class OrderServiceImplTest {
             Product product = createProduct(1L, "상품", 10000L, 100, ProductStatus.SELLING, 1L);
             Order order = createOrder(orderId, buyerId, OrderStatus.DELIVERED, product, 10);
 
-            given(orderRepository.findByIdWithItems(orderId)).willReturn(Optional.of(order));
+            given(orderRepository.cancelIfCancellable(eq(orderId), eq(buyerId), eq(OrderStatus.CANCELLABLE), any()))
+                    .willReturn(0);
+            given(orderRepository.findById(orderId)).willReturn(Optional.of(order));
 
             // when & then
             assertThatThrownBy(() -> orderService.cancelOrder(orderId, buyerId))
@@ -485,7 +927,7 @@ class OrderServiceImplTest {
                         assertThat(be.getErrorCode()).isEqualTo(ErrorCode.ORDER_CANNOT_CANCEL);
                     });
 
-            verify(productRepository, never()).findByIdWithLock(anyLong());
+            verify(productRepository, never()).increaseStock(anyLong(), anyInt(), any());
         }
     }
 
@@ -498,6 +940,19 @@ class OrderServiceImplTest {
                 .build();
     }
 
+    @SafeVarargs
+    private OrderCartCreateRequest createCartRequest(Map<Long, Integer>... lines) {
+        return OrderCartCreateRequest.builder()
+                .items(Arrays.stream(lines)
+                        .flatMap(line -> line.entrySet().stream())
+                        .map(entry -> OrderLineRequest.builder()
+                                .productId(entry.getKey())
+                                .quantity(entry.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     private Product createProduct(Long id, String name, Long price, Integer stockQuantity, ProductStatus status, Long sellerId) {
         Product product = Product.builder()
                 .name(name)
@@ -0,0 +1,95 @@
+package org.example.domain.order.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("HotProductDetector 단위 테스트")
+class HotProductDetectorTest {
+
+    private StockProperties properties;
+    private AtomicLong now;
+    private HotProductDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StockProperties();
+        properties.getHotness().setRateThreshold(5);
+        properties.getHotness().setWindowMs(1_000);
+        properties.getHotness().setWindowBuckets(10);
+        now = new AtomicLong(1_000_000);
+        detector = new HotProductDetector(properties, now::get);
+    }
+
+    @Test
+    @DisplayName("최근 요청 수가 임계치 이상인 상품만 경합 상품으로 판단")
+    void isHot_OnlyFrequentProduct() {
+        // given
+        record(1L, 5);
+        record(2L, 4);
+
+        // when & then
+        assertThat(detector.isHot(1L)).isTrue();
+        assertThat(detector.isHot(2L)).isFalse();
+        assertThat(detector.isHot(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간이 지나면 오래된 요청은 빠짐")
+    void isHot_WindowSlides() {
+        // given
+        record(1L, 3);
+        now.addAndGet(600);
+        record(1L, 2);
+        assertThat(detector.isHot(1L)).isTrue();
+
+        // when: 처음 3건이 구간 밖으로 밀려남
+        now.addAndGet(500);
+
+        // then
+        assertThat(detector.isHot(1L)).isFalse();
+        assertThat(detector.getHotProducts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("경합 상품 목록은 요청 수 내림차순이며 topK개로 제한")
+    void getHotProducts_SortedAndLimited() {
+        // given
+        properties.getHotness().setTopK(2);
+        record(1L, 5);
+        record(2L, 7);
+        record(3L, 6);
+
+        // when & then
+        assertThat(detector.getHotProducts())
+                .extracting(HotProduct::productId, HotProduct::estimatedCount)
+                .containsExactly(
+                        tuple(2L, 7L),
+                        tuple(3L, 6L));
+    }
+
+    @Test
+    @DisplayName("임계치가 0이면 기록하지 않음")
+    void record_Disabled() {
+        // given
+        properties.getHotness().setRateThreshold(0);
+
+        // when
+        record(1L, 100);
+
+        // then
+        assertThat(detector.isHot(1L)).isFalse();
+        assertThat(detector.getHotProducts()).isEmpty();
+    }
+
+    private void record(Long productId, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.record(productId);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NoWaitLockStockStrategy 단위 테스트")
+class NoWaitLockStockStrategyTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private StockProperties stockProperties;
+    private NoWaitLockStockStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        stockProperties = new StockProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductLockMetrics lockMetrics = new ProductLockMetrics(meterRegistry, stockProperties,
+                new HotProductDetector(stockProperties, meterRegistry));
+        strategy = new NoWaitLockStockStrategy(productRepository, lockMetrics, stockProperties);
+    }
+
+    @Nested
+    @DisplayName("NOWAIT")
+    class NoWaitTest {
+
+        @Test
+        @DisplayName("행 락을 얻으면 재고 차감")
+        void decrease_Success() {
+            // given
+            Product product = createProduct(1L, 10);
+            given(productRepository.findByIdWithLockNoWait(1L)).willReturn(Optional.of(product));
+
+            // when
+            strategy.decrease(1L, 3);
+
+            // then
+            assertThat(product.getStockQuantity()).isEqualTo(7);
+            verify(productRepository, never()).findByIdWithLock(1L);
+        }
+
+        @Test
+        @DisplayName("다른 트랜잭션이 행을 잠그고 있으면 ORDER_PRODUCT_BUSY로 바로 실패")
+        void decrease_Locked_Busy() {
+            // given
+            given(productRepository.findByIdWithLockNoWait(1L))
+                    .willThrow(new CannotAcquireLockException("could not obtain lock"));
+
+            // when & then
+            assertThatThrownBy(() -> strategy.decrease(1L, 1))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.ORDER_PRODUCT_BUSY);
+        }
+    }
+
+    @Nested
+    @DisplayName("SKIP LOCKED")
+    class SkipLockedTest {
+
+        @BeforeEach
+        void setUp() {
+            stockProperties.getNoWait().setSkipLocked(true);
+        }
+
+        @Test
+        @DisplayName("잠긴 행을 건너뛰어 결과가 없고 상품이 존재하면 ORDER_PRODUCT_BUSY")
+        void decrease_Skipped_Busy() {
+            // given
+            given(productRepository.findByIdWithLockSkipLocked(1L)).willReturn(Optional.empty());
+            given(productRepository.existsById(1L)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> strategy.decrease(1L, 1))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.ORDER_PRODUCT_BUSY);
+        }
+
+        @Test
+        @DisplayName("상품이 없으면 PRODUCT_NOT_FOUND")
+        void decrease_NotFound() {
+            // given
+            given(productRepository.findByIdWithLockSkipLocked(1L)).willReturn(Optional.empty());
+            given(productRepository.existsById(1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> strategy.decrease(1L, 1))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+    }
+
+    private Product createProduct(Long id, int stockQuantity) {
+        Product product = Product.builder()
+                .name("선착순 상품")
+                .price(10000L)
+                .stockQuantity(stockQuantity)
+                .sellerId(1L)
+                .build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
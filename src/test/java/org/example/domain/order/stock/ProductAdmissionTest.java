@@ -0,0 +1,81 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductAdmission 단위 테스트")
+class ProductAdmissionTest {
+
+    private StockProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StockProperties();
+        properties.getAdmission().setMaxWaiters(2);
+        properties.getAdmission().setStripes(64);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("허용 수를 넘는 요청은 ORDER_PRODUCT_BUSY로 바로 실패하고, 반환 후 다시 허용")
+    void acquire_OverLimit_Rejected() {
+        // given
+        ProductAdmission admission = new ProductAdmission(properties, meterRegistry);
+        ProductAdmission.Permit first = admission.acquire(List.of(1L));
+        ProductAdmission.Permit second = admission.acquire(List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> admission.acquire(List.of(1L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ORDER_PRODUCT_BUSY);
+        assertThat(meterRegistry.get("order.stock.admission.rejected").counter().count()).isEqualTo(1);
+
+        first.close();
+        second.close();
+        admission.acquire(List.of(1L)).close();
+    }
+
+    @Test
+    @DisplayName("여러 상품 중 하나라도 실패하면 이미 획득한 허용을 반환")
+    void acquire_PartialFailure_ReleasesAcquired() {
+        // given: 세마포어 1개로 모든 상품이 허용 수를 공유
+        properties.getAdmission().setMaxWaiters(1);
+        properties.getAdmission().setStripes(1);
+        ProductAdmission admission = new ProductAdmission(properties, meterRegistry);
+        ProductAdmission.Permit holder = admission.acquire(List.of(1L));
+
+        // when
+        assertThatThrownBy(() -> admission.acquire(List.of(2L, 3L)))
+                .isInstanceOf(BusinessException.class);
+        holder.close();
+
+        // then: 같은 세마포어는 한 번만 획득하므로 허용 수 1로도 여러 상품 주문 가능
+        admission.acquire(List.of(2L, 3L)).close();
+        admission.acquire(List.of(1L)).close();
+    }
+
+    @Test
+    @DisplayName("허용 수가 0이면 제한하지 않음")
+    void acquire_Disabled() {
+        // given
+        properties.getAdmission().setMaxWaiters(0);
+        ProductAdmission admission = new ProductAdmission(properties, meterRegistry);
+
+        // when & then
+        for (int i = 0; i < 10; i++) {
+            admission.acquire(List.of(1L));
+        }
+        assertThat(admission.isEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.domain.order.stock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductLockMetrics 단위 테스트")
+class ProductLockMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StockProperties stockProperties;
+    private HotProductDetector hotProductDetector;
+    private ProductLockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stockProperties = new StockProperties();
+        hotProductDetector = new HotProductDetector(stockProperties, meterRegistry);
+        lockMetrics = new ProductLockMetrics(meterRegistry, stockProperties, hotProductDetector);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("락 획득 성공")
+    class AcquiredTest {
+
+        @Test
+        @DisplayName("획득 대기 시간을 작업별로 기록")
+        void lock_RecordsAcquireTime() {
+            // when
+            String result = lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, 1L, () -> "locked");
+
+            // then
+            assertThat(result).isEqualTo("locked");
+            assertThat(meterRegistry.get("order.stock.lock.acquire")
+                    .tags("operation", "create", "product", "other", "outcome", "acquired")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("트랜잭션이 끝나면 첫 락 기준 보유 시간을 한 번 기록")
+        void lock_RecordsHoldTimeOnCompletion() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            lockMetrics.lock(ProductLockMetrics.CANCEL_OPERATION, 1L, () -> 1);
+            lockMetrics.lock(ProductLockMetrics.CANCEL_OPERATION, 2L, () -> 1);
+
+            // when
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            assertThat(synchronizations).hasSize(1);
+            assertThat(meterRegistry.get("order.stock.lock.hold")
+                    .tags("operation", "cancel", "outcome", "committed")
+                    .timer().count()).isEqualTo(1);
+            assertThat(TransactionSynchronizationManager.hasResource(lockMetrics)).isFalse();
+        }
+
+        @Test
+        @DisplayName("경합 상품은 상품 ID를 태그로 기록")
+        void lock_TagsHotProduct() {
+            // given
+            stockProperties.getHotness().setRateThreshold(1);
+            hotProductDetector.record(7L);
+
+            // when
+            lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, List.of(3L, 7L), () -> 1);
+
+            // then
+            assertThat(meterRegistry.get("order.stock.lock.acquire").tag("product", "7").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("락 획득 실패")
+    class FailedTest {
+
+        @Test
+        @DisplayName("락 대기 타임아웃은 timeout으로 집계하고 예외를 그대로 던짐")
+        void lock_Timeout() {
+            // given
+            CannotAcquireLockException exception = new CannotAcquireLockException("timeout",
+                    new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+
+            // when & then
+            assertThatThrownBy(() -> lockMetrics.lock(ProductLockMetrics.CREATE_OPERATION, 1L, () -> {
+                throw exception;
+            })).isSameAs(exception);
+            assertThat(meterRegistry.get("order.stock.lock.failures").tag("type", "timeout").counter().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("order.stock.lock.acquire").tag("outcome", "failed").timer().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("데드락은 예외 종류와 관계없이 SQL 오류 코드로 deadlock 집계")
+        void lock_Deadlock() {
+            // given
+            CannotAcquireLockException exception = new CannotAcquireLockException("deadlock",
+                    new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+
+            // when & then
+            assertThatThrownBy(() -> lockMetrics.lock(ProductLockMetrics.CANCEL_OPERATION, 1L, () -> {
+                throw exception;
+            })).isSameAs(exception);
+            assertThat(meterRegistry.get("order.stock.lock.failures")
+                    .tags("operation", "cancel", "type", "deadlock")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("원인을 알 수 없는 비관적 락 실패는 other로 집계")
+        void failureType_Other() {
+            assertThat(ProductLockMetrics.failureType(new PessimisticLockingFailureException("failed")))
+                    .isEqualTo("other");
+        }
+    }
+}
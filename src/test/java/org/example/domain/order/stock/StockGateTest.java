@@ -0,0 +1,71 @@
+package org.example.domain.order.stock;
+
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockGate 단위 테스트")
+class StockGateTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private StockGate stockGate;
+
+    @BeforeEach
+    void setUp() {
+        StockGateProperties properties = new StockGateProperties();
+        properties.setEnabled(true);
+        stockGate = new StockGate(redisTemplate, productRepository, properties);
+    }
+
+    @Test
+    @DisplayName("판매자가 상품을 바꾸면 카운터를 지워 다음 주문에서 DB 재고로 다시 초기화")
+    void onProductChanged_SellerChange_DeletesCounter() {
+        // when
+        stockGate.onProductChanged(ProductChangedEvent.ofSellerChange(1L));
+
+        // then
+        verify(redisTemplate).delete(List.of("stock:gate:1"));
+    }
+
+    @Test
+    @DisplayName("주문으로 인한 재고 증감은 카운터가 이미 반영하므로 무시")
+    void onProductChanged_OrderChange_Ignored() {
+        // when
+        stockGate.onProductChanged(ProductChangedEvent.of(1L));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 예외를 전파하지 않음")
+    void onProductChanged_RedisDown_Swallowed() {
+        // given
+        given(redisTemplate.delete(anyCollection())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatCode(() -> stockGate.onProductChanged(ProductChangedEvent.ofSellerChange(1L)))
+                .doesNotThrowAnyException();
+    }
+}
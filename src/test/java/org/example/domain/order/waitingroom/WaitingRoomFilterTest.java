@@ -0,0 +1,240 @@
+package org.example.domain.order.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.domain.order.bulk.OrderBulkProcessor;
+import org.example.domain.order.bulk.OrderBulkProperties;
+import org.example.domain.order.facade.OrderFacade;
+import org.example.global.security.auth.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomFilterTest {
+
+    private static final Long BUYER_ID = 1L;
+    private static final Long GUARDED_PRODUCT_ID = 10L;
+    private static final Long OTHER_PRODUCT_ID = 20L;
+
+    @Mock
+    private WaitingRoom waitingRoom;
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    private WaitingRoomFilter filter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        WaitingRoomProperties properties = new WaitingRoomProperties();
+        properties.setEnabled(true);
+        properties.setProducts(Set.of(GUARDED_PRODUCT_ID));
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+        OrderBulkProcessor orderBulkProcessor =
+                new OrderBulkProcessor(orderFacade, new OrderBulkProperties(), objectMapper, meterRegistry);
+        filter = new WaitingRoomFilter(waitingRoom, properties, objectMapper, meterRegistry, orderBulkProcessor);
+
+        CustomUserDetails principal = new CustomUserDetails(BUYER_ID, "a@a.com", "pw", "name", List.of(), true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest orderRequest(String uri, String body) {
+        return orderRequest(uri, "application/json", body);
+    }
+
+    private MockHttpServletRequest orderRequest(String uri, String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Nested
+    @DisplayName("주문 생성 요청")
+    class OrderCreateTest {
+
+        @Test
+        @DisplayName("입장하지 않은 구매자는 429로 거절된다")
+        void rejectsWithoutAdmission() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(false);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders", "{\"productId\":10,\"quantity\":1}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getContentAsString()).contains("O010");
+            assertThat(chain.getRequest()).isNull();
+            assertThat(meterRegistry.counter("order.waiting-room.rejected", "productId", "10").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("입장한 구매자는 본문을 그대로 넘겨 통과시킨다")
+        void passesAdmitted() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(true);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders", "{\"productId\":10,\"quantity\":1}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(chain.getRequest().getInputStream().readAllBytes())
+                    .isEqualTo("{\"productId\":10,\"quantity\":1}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("성공 응답이어도 입장권은 소멸시키지 않는다 (멱등성 키 재생 응답 포함, 소멸은 주문 생성 시 파사드가 처리)")
+        void successResponseDoesNotComplete() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(true);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders", "{\"productId\":10,\"quantity\":1}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            FilterChain chain = (req, res) -> ((HttpServletResponse) res).setStatus(HttpServletResponse.SC_CREATED);
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(201);
+            verify(waitingRoom, never()).complete(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("대기열이 적용되지 않은 상품은 입장 확인 없이 통과한다")
+        void passesUnguardedProduct() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(OTHER_PRODUCT_ID)).willReturn(false);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders", "{\"productId\":20,\"quantity\":1}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNotNull();
+            verify(waitingRoom, never()).isAdmitted(anyLong(), anyLong());
+            verify(waitingRoom, never()).complete(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("여러 상품 주문은 대기열 상품 하나라도 입장하지 않았으면 거절된다")
+        void rejectsCartWithoutAdmission() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(OTHER_PRODUCT_ID)).willReturn(false);
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(false);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders/cart",
+                    "{\"items\":[{\"productId\":20,\"quantity\":1},{\"productId\":10,\"quantity\":2}]}");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(chain.getRequest()).isNull();
+        }
+
+        @Test
+        @DisplayName("대량 주문은 대기열 상품 줄이 하나라도 있으면 입장 여부를 확인하여 거절한다")
+        void rejectsBulkWithoutAdmission() throws Exception {
+            // given
+            given(waitingRoom.isGuarded(OTHER_PRODUCT_ID)).willReturn(false);
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(false);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders/bulk", "text/csv",
+                    "productId,quantity\n20,1\n10,2\n");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getContentAsString()).contains("O010");
+            assertThat(chain.getRequest()).isNull();
+        }
+
+        @Test
+        @DisplayName("대량 주문의 모든 대기열 상품에 입장했으면 본문을 그대로 넘겨 통과시킨다")
+        void passesAdmittedBulk() throws Exception {
+            // given
+            String body = "{\"productId\":10,\"quantity\":1}\n{\"productId\":10,\"quantity\":2}\n";
+            given(waitingRoom.isGuarded(GUARDED_PRODUCT_ID)).willReturn(true);
+            given(waitingRoom.isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID)).willReturn(true);
+            MockHttpServletRequest request = orderRequest("/api/v1/orders/bulk", "application/x-ndjson", body);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(chain.getRequest().getInputStream().readAllBytes())
+                    .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+            verify(waitingRoom).isAdmitted(GUARDED_PRODUCT_ID, BUYER_ID);
+        }
+
+        @Test
+        @DisplayName("주문 생성이 아닌 요청은 검사하지 않는다")
+        void skipsOtherRequests() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            filter.doFilter(request, response, chain);
+
+            // then
+            assertThat(chain.getRequest()).isSameAs(request);
+            verify(waitingRoom, never()).isGuarded(anyLong());
+        }
+    }
+}
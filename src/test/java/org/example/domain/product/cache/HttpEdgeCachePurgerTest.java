@@ -0,0 +1,51 @@
+package org.example.domain.product.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("HttpEdgeCachePurger 단위 테스트")
+class HttpEdgeCachePurgerTest {
+
+    private static final String PURGE_URL = "https://cdn.example.com/service/abc/purge";
+
+    private MockRestServiceServer server;
+    private HttpEdgeCachePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        properties.getEdge().setPurgeUrl(PURGE_URL);
+        properties.getEdge().setPurgeToken("secret");
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        purger = new HttpEdgeCachePurger(properties, builder.build());
+    }
+
+    @Test
+    @DisplayName("surrogate key를 공백으로 이어 인증 헤더와 함께 POST")
+    void purge_PostsSurrogateKeys() {
+        // given
+        server.expect(requestTo(PURGE_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("Surrogate-Key", "product-1 products"))
+                .andExpect(header("Fastly-Key", "secret"))
+                .andRespond(withSuccess());
+
+        // when
+        purger.purge(List.of(ProductEdgeCache.productKey(1L), ProductEdgeCache.LIST_KEY));
+
+        // then
+        server.verify();
+    }
+}
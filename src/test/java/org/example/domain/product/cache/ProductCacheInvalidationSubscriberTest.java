@@ -0,0 +1,76 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheInvalidationSubscriber 단위 테스트")
+class ProductCacheInvalidationSubscriberTest {
+
+    private static final byte[] CHANNEL = "product:cache:invalidate".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCacheInvalidationSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        subscriber = new ProductCacheInvalidationSubscriber(productDetailCache, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("메시지의 상품 ID만 로컬 캐시에서 제거")
+    void onMessage_EvictsListedProducts() {
+        // when
+        subscriber.onMessage(message("1,2,3"), null);
+
+        // then
+        verify(productDetailCache).evictLocal(List.of(1L, 2L, 3L));
+        verify(productDetailCache, never()).evictAllLocal();
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지면 로컬 캐시 전체 삭제")
+    void onMessage_Malformed_EvictsAll() {
+        // when
+        subscriber.onMessage(message("1,abc"), null);
+
+        // then
+        verify(productDetailCache).evictAllLocal();
+        verify(productDetailCache, never()).evictLocal(anyCollection());
+    }
+
+    @Test
+    @DisplayName("채널을 (다시) 구독하면 놓친 메시지를 대신해 로컬 캐시 전체 삭제")
+    void onChannelSubscribed_ResyncsLocalCache() {
+        // when
+        subscriber.onChannelSubscribed(CHANNEL, 1);
+        subscriber.onChannelSubscribed(CHANNEL, 1);
+
+        // then
+        verify(productDetailCache, times(2)).evictAllLocal();
+        assertThat(meterRegistry.get("product.cache.resync").counter().count()).isEqualTo(2.0);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.domain.product.cache;
+
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.domain.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 캐시 벤치마크
+ * <p>
+ * 인기 상품 몇 개에 상세 조회가 몰릴 때 캐시를 끈 경우(매번 트랜잭션 + findById)와 켠 경우의 처리량을 비교합니다.
+ * (./gradlew benchmark)
+ * </p>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@DisplayName("상품 상세 캐시 벤치마크")
+class ProductDetailCacheBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final int REQUEST_COUNT = 200_000;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCacheProperties productCacheProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            productIds.add(productRepository.save(Product.builder()
+                    .name("상품 " + i)
+                    .price(10000L)
+                    .stockQuantity(100)
+                    .sellerId(1L)
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCacheProperties.getDetail().setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("캐시 미사용 vs 사용 (상품 100개, 조회 200000건)")
+    void 캐시_미사용_대비_사용_처리량_비교() throws InterruptedException {
+        productCacheProperties.getDetail().setEnabled(false);
+        Result uncached = run("캐시 미사용");
+
+        productCacheProperties.getDetail().setEnabled(true);
+        Result cached = run("캐시 사용");
+
+        assertThat(uncached.failCount()).isZero();
+        assertThat(cached.failCount()).isZero();
+
+        System.out.println("=== 벤치마크 결과 ===");
+        System.out.println(uncached);
+        System.out.println(cached);
+    }
+
+    private Result run(String name) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failCount = new AtomicInteger(0);
+        int requestsPerThread = REQUEST_COUNT / THREAD_COUNT;
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        productService.getProduct(productIds.get(ThreadLocalRandom.current().nextInt(PRODUCT_COUNT)));
+                    }
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        executorService.shutdown();
+
+        return new Result(name, elapsedMs, failCount.get());
+    }
+
+    private record Result(String name, long elapsedMs, int failCount) {
+
+        @Override
+        public String toString() {
+            return String.format("%s: %dms, 실패 %d, 처리량 %.1f req/s",
+                    name, elapsedMs, failCount, REQUEST_COUNT * 1000.0 / Math.max(elapsedMs, 1));
+        }
+    }
+}
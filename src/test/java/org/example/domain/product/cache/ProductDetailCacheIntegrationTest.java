@@ -0,0 +1,94 @@
+package org.example.domain.product.cache;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.product.dto.request.ProductUpdateRequest;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.example.domain.product.service.ProductService;
+import org.example.domain.product.service.SellerProductService;
+import org.example.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 상세 캐시 통합 테스트
+ * <p>
+ * 재고/상품 정보 변경 트랜잭션이 커밋되면 캐시된 상품 상세가 바로 갱신되는지 검증합니다.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("상품 상세 캐시 통합 테스트")
+class ProductDetailCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private SellerProductService sellerProductService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        product = productRepository.save(Product.builder()
+                .name("캐시 상품")
+                .price(10000L)
+                .stockQuantity(100)
+                .sellerId(1L)
+                .build());
+    }
+
+    @Test
+    @DisplayName("주문 생성과 취소 후 캐시된 재고가 갱신된다")
+    void 주문_후_재고_갱신() {
+        // given: 캐시에 재고 100으로 저장
+        assertThat(productService.getProduct(product.getId()).getStockQuantity()).isEqualTo(100);
+
+        // when & then
+        Long orderId = orderService.createOrder(new OrderCreateRequest(product.getId(), 3), 10L).getId();
+        assertThat(productService.getProduct(product.getId()).getStockQuantity()).isEqualTo(97);
+
+        orderService.cancelOrder(orderId, 10L);
+        assertThat(productService.getProduct(product.getId()).getStockQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("판매자가 수정하거나 삭제하면 캐시가 갱신된다")
+    void 판매자_수정_삭제_후_갱신() {
+        // given
+        productService.getProduct(product.getId());
+
+        // when & then
+        sellerProductService.updateProduct(product.getId(), ProductUpdateRequest.builder()
+                .name("수정된 상품")
+                .price(20000L)
+                .stockQuantity(50)
+                .build(), 1L);
+        assertThat(productService.getProduct(product.getId()).getName()).isEqualTo("수정된 상품");
+
+        sellerProductService.deleteProduct(product.getId(), 1L);
+        assertThatThrownBy(() -> productService.getProduct(product.getId()))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductDetailCache 단위 테스트")
+class ProductDetailCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, ProductResponse> loader = id -> {
+        loads.incrementAndGet();
+        return ProductResponse.builder().id(id).name("상품 " + id).build();
+    };
+
+    private ProductCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProductCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProductDetailCache(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("변경된 상품만 제거하고 적중/실패 수를 메트릭으로 기록")
+    void get_InvalidatesChangedProductsOnly() {
+        // when
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+        cache.get(1L, loader);
+        cache.onProductChanged(ProductChangedEvent.of(List.of(1L)));
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "productDetail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "productDetail").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("불러오는 중 예외가 발생하면 저장하지 않음")
+    void get_LoaderFails_NotCached() {
+        // given
+        Function<Long, ProductResponse> notFound = id -> {
+            loads.incrementAndGet();
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> cache.get(1L, notFound)).isInstanceOf(BusinessException.class);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 매번 불러옴")
+    void get_Disabled_AlwaysLoads() {
+        // given
+        properties.getDetail().setEnabled(false);
+        cache = new ProductDetailCache(properties, meterRegistry);
+
+        // when
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDetailCache 2단계 캐시 단위 테스트")
+class ProductDetailCacheTwoTierTest {
+
+    @Mock
+    private ProductRedisCache redisCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<Long, ProductResponse> loader = id -> {
+        loads.incrementAndGet();
+        return product(id);
+    };
+
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductDetailCache(new ProductCacheProperties(), new SimpleMeterRegistry(), redisCache);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("Redis에 있으면 DB에서 불러오지 않고 로컬 캐시에 저장")
+        void get_RedisHit_SkipsLoader() {
+            // given
+            given(redisCache.get(1L)).willReturn(ProductRedisCache.Lookup.hit(product(1L)));
+
+            // when
+            cache.get(1L, loader);
+            cache.get(1L, loader);
+
+            // then
+            assertThat(loads.get()).isZero();
+            verify(redisCache, times(1)).get(1L);
+            verify(redisCache, never()).put(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis에 없으면 DB에서 불러와 Redis에 저장")
+        void get_RedisMiss_LoadsAndPuts() {
+            // given
+            given(redisCache.get(1L)).willReturn(ProductRedisCache.Lookup.miss(3L));
+
+            // when
+            ProductResponse result = cache.get(1L, loader);
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            assertThat(loads.get()).isEqualTo(1);
+            verify(redisCache).put(result, 3L);
+        }
+
+        @Test
+        @DisplayName("Redis 장애로 무효화 세대를 모르면 DB에서 불러오기만 하고 저장하지 않음")
+        void get_RedisUnavailable_LoadsWithoutPut() {
+            // given
+            given(redisCache.get(1L)).willReturn(ProductRedisCache.Lookup.unavailable());
+
+            // when
+            ProductResponse result = cache.get(1L, loader);
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            verify(redisCache, never()).put(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("불러오는 중 무효화되면 불러오기 전에 읽은 세대로 저장하여 Redis가 거절하게 함")
+        void get_InvalidatedDuringLoad_PutsWithGenerationReadBeforeLoad() {
+            // given (로컬 캐시 없이 다른 노드의 변경 커밋이 DB 조회와 저장 사이에 끼어드는 경우)
+            ProductCacheProperties properties = new ProductCacheProperties();
+            properties.getDetail().setEnabled(false);
+            ProductDetailCache l2Only = new ProductDetailCache(properties, new SimpleMeterRegistry(), redisCache);
+            given(redisCache.get(1L)).willReturn(ProductRedisCache.Lookup.miss(0L));
+            Function<Long, ProductResponse> staleLoader = id -> {
+                ProductResponse stale = product(id);
+                l2Only.onProductChanged(ProductChangedEvent.of(id));
+                return stale;
+            };
+
+            // when
+            ProductResponse stale = l2Only.get(1L, staleLoader);
+
+            // then
+            InOrder inOrder = inOrder(redisCache);
+            inOrder.verify(redisCache).get(1L);
+            inOrder.verify(redisCache).invalidate(Set.of(1L));
+            inOrder.verify(redisCache).put(stale, 0L);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidate {
+
+        @Test
+        @DisplayName("상품 변경 시 Redis 항목을 무효화한 뒤 로컬 캐시에서 제거")
+        void onProductChanged_InvalidatesRedisThenLocal() {
+            // given
+            given(redisCache.get(1L)).willReturn(ProductRedisCache.Lookup.miss(0L));
+            cache.get(1L, loader);
+
+            // when
+            cache.onProductChanged(ProductChangedEvent.of(1L));
+            cache.get(1L, loader);
+
+            // then
+            InOrder inOrder = inOrder(redisCache);
+            inOrder.verify(redisCache).invalidate(Set.of(1L));
+            inOrder.verify(redisCache).get(1L);
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("로컬 제거는 Redis에 무효화 메시지를 발행하지 않음")
+        void evictLocal_DoesNotPublish() {
+            // when
+            cache.evictLocal(List.of(1L));
+            cache.evictAllLocal();
+
+            // then
+            verify(redisCache, never()).invalidate(any());
+        }
+    }
+
+    private ProductResponse product(Long id) {
+        return ProductResponse.builder().id(id).name("상품 " + id).build();
+    }
+}
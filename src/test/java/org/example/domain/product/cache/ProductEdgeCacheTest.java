@@ -0,0 +1,81 @@
+package org.example.domain.product.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductEdgeCache 단위 테스트")
+class ProductEdgeCacheTest {
+
+    @Mock
+    private EdgeCachePurger purger;
+
+    @Mock
+    private EdgeCachePurger secondPurger;
+
+    private ProductEdgeCache edgeCache;
+
+    @BeforeEach
+    void setUp() {
+        edgeCache = new ProductEdgeCache(new ProductCacheProperties(), List.of(purger, secondPurger));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("브라우저는 재검증, 엣지는 s-maxage 동안 보관")
+    void cacheControl() {
+        assertThat(edgeCache.cacheControl().getHeaderValue()).isEqualTo("max-age=0, public, s-maxage=10");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에 무효화")
+    void purgeAfterCommit_InTransaction_PurgesOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        List<String> keys = List.of(ProductEdgeCache.productKey(1L), ProductEdgeCache.LIST_KEY);
+
+        // when
+        edgeCache.purgeAfterCommit(keys);
+
+        // then
+        verify(purger, never()).purge(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(purger).purge(keys);
+        verify(secondPurger).purge(keys);
+    }
+
+    @Test
+    @DisplayName("무효화 실패는 다른 purger 호출을 막지 않음")
+    void purgeAfterCommit_PurgerFails_ContinuesWithOthers() {
+        // given
+        List<String> keys = List.of(ProductEdgeCache.LIST_KEY);
+        willThrow(new IllegalStateException("purge failed")).given(purger).purge(keys);
+
+        // when
+        edgeCache.purgeAfterCommit(keys);
+
+        // then
+        verify(secondPurger).purge(keys);
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.domain.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.example.domain.product.service.ProductService;
+import org.example.global.common.PagingInfo;
+import org.example.global.common.PagingResponse;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductListPageCacheFilter 단위 테스트")
+class ProductListPageCacheFilterTest {
+
+    @Mock
+    private ProductService productService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ProductListPageCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ProductCacheProperties properties = new ProductCacheProperties();
+        ProductListPageCache cache = new ProductListPageCache(
+                properties, new SimpleMeterRegistry(), Runnable::run, System::currentTimeMillis);
+        filter = new ProductListPageCacheFilter(cache, productService, objectMapper,
+                new ProductEdgeCache(properties, List.of()));
+    }
+
+    @Test
+    @DisplayName("캐시 대상 페이지는 컨트롤러를 거치지 않고 두 번째 요청부터 서비스도 호출하지 않음")
+    void doFilter_CacheablePage_ServedFromCache() throws Exception {
+        // given
+        given(productService.getProducts(0, 20)).willReturn(page());
+
+        // when
+        MockHttpServletResponse first = perform(request());
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request(), second, chain);
+
+        // then
+        verify(productService, times(1)).getProducts(0, 20);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(objectMapper.readTree(second.getContentAsByteArray()).at("/data/content/0/name").asText())
+                .isEqualTo("상품");
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(second.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(second.getHeader("Surrogate-Key")).isEqualTo("products");
+    }
+
+    @Test
+    @DisplayName("gzip을 받을 수 있으면 압축본을 씀")
+    void doFilter_AcceptsGzip_WritesCompressedBody() throws Exception {
+        // given
+        given(productService.getProducts(0, 20)).willReturn(page());
+        MockHttpServletRequest request = request();
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+
+        // when
+        MockHttpServletResponse response = perform(request);
+
+        // then
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentAsByteArray()[0]).isEqualTo((byte) 0x1f);
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아니면 컨트롤러로 넘김")
+    void doFilter_NotCacheable_PassesThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = request();
+        request.setParameter("page", "50");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("불러오다 실패하면 컨트롤러로 넘김")
+    void doFilter_LoadFails_PassesThrough() throws Exception {
+        // given
+        given(productService.getProducts(0, 20)).willThrow(new BusinessException(ErrorCode.DB_BULKHEAD_FULL));
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.setParameter("page", "0");
+        request.setParameter("size", "20");
+        return request;
+    }
+
+    private PagingResponse<ProductResponse> page() {
+        return new PagingResponse<>(new PagingInfo(0, 20, 1),
+                List.of(ProductResponse.builder().id(1L).name("상품").build()));
+    }
+}
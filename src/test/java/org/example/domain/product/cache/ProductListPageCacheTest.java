@@ -0,0 +1,180 @@
+package org.example.domain.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.event.ProductChangedEvent;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductListPageCache 단위 테스트")
+class ProductListPageCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final Queue<Runnable> refreshTasks = new ArrayDeque<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<byte[]> loader = () -> ("page-" + loads.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+
+    private ProductCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductListPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProductCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProductListPageCache(properties, meterRegistry, refreshTasks::add, now::get);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("새 응답은 불러오지 않고 그대로 반환")
+        void get_Fresh_ReturnsCachedBytes() {
+            // when
+            cache.get(0, 20, loader);
+            now.addAndGet(500);
+            ProductListPageCache.CachedPage result = cache.get(0, 20, loader);
+
+            // then
+            assertThat(body(result)).isEqualTo("page-1");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(meterRegistry.get("product.cache.list").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("오래된 응답은 이전 응답을 주고 백그라운드에서 한 번만 갱신")
+        void get_Stale_ServesStaleAndRefreshesOnce() {
+            // given
+            cache.get(0, 20, loader);
+            now.addAndGet(properties.getListPage().getFreshMs());
+
+            // when
+            ProductListPageCache.CachedPage first = cache.get(0, 20, loader);
+            ProductListPageCache.CachedPage second = cache.get(0, 20, loader);
+
+            // then
+            assertThat(body(first)).isEqualTo("page-1");
+            assertThat(body(second)).isEqualTo("page-1");
+            assertThat(refreshTasks).hasSize(1);
+
+            refreshTasks.poll().run();
+            assertThat(body(cache.get(0, 20, loader))).isEqualTo("page-2");
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 보관 시간이 지나면 요청 스레드에서 다시 불러옴")
+        void get_TooStale_LoadsSynchronously() {
+            // given
+            cache.get(0, 20, loader);
+            now.addAndGet(properties.getListPage().getMaxStaleMs());
+
+            // when
+            ProductListPageCache.CachedPage result = cache.get(0, 20, loader);
+
+            // then
+            assertThat(body(result)).isEqualTo("page-2");
+            assertThat(refreshTasks).isEmpty();
+        }
+
+        @Test
+        @DisplayName("불러오다 실패하면 저장하지 않고 예외를 그대로 전달")
+        void get_LoaderFails_Propagates() {
+            // given
+            Supplier<byte[]> failing = () -> {
+                throw new BusinessException(ErrorCode.DB_BULKHEAD_FULL);
+            };
+
+            // when & then
+            assertThatThrownBy(() -> cache.get(0, 20, failing)).isInstanceOf(BusinessException.class);
+            assertThat(body(cache.get(0, 20, loader))).isEqualTo("page-1");
+        }
+
+        @Test
+        @DisplayName("압축본은 원본을 gzip으로 압축한 값")
+        void get_StoresGzippedBody() throws IOException {
+            // when
+            ProductListPageCache.CachedPage result = cache.get(0, 20, loader);
+
+            // then
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.gzipped()))) {
+                assertThat(in.readAllBytes()).isEqualTo(result.body());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Invalidate {
+
+        @Test
+        @DisplayName("상품이 변경되면 새 응답이라도 백그라운드에서 갱신")
+        void onProductChanged_MarksAllPagesStale() {
+            // given
+            cache.get(0, 20, loader);
+            cache.get(1, 20, loader);
+
+            // when
+            cache.onProductChanged(ProductChangedEvent.of(1L));
+            cache.get(0, 20, loader);
+            cache.get(1, 20, loader);
+
+            // then
+            assertThat(refreshTasks).hasSize(2);
+            refreshTasks.forEach(Runnable::run);
+            refreshTasks.clear();
+            cache.get(0, 20, loader);
+            assertThat(refreshTasks).isEmpty();
+        }
+
+        @Test
+        @DisplayName("변경 전에 불러오기 시작한 응답은 다시 갱신 대상")
+        void onProductChanged_DuringLoad_StaysStale() {
+            // given
+            cache.get(0, 20, loader);
+            now.addAndGet(properties.getListPage().getFreshMs());
+            cache.get(0, 20, loader);
+
+            // when
+            cache.onProductChanged(ProductChangedEvent.of(1L));
+            refreshTasks.poll().run();
+            cache.get(0, 20, loader);
+
+            // then
+            assertThat(refreshTasks).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("설정한 페이지 범위와 크기만 캐시 대상")
+    void isCacheable() {
+        assertThat(cache.isCacheable(0, 20)).isTrue();
+        assertThat(cache.isCacheable(properties.getListPage().getMaxPage() + 1, 20)).isFalse();
+        assertThat(cache.isCacheable(0, 50)).isFalse();
+
+        properties.getListPage().setEnabled(false);
+        assertThat(cache.isCacheable(0, 20)).isFalse();
+    }
+
+    private String body(ProductListPageCache.CachedPage page) {
+        return new String(page.body(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.domain.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.dto.response.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductRedisCache 단위 테스트")
+class ProductRedisCacheTest {
+
+    private static final String KEY = "product:detail:v2:1";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ProductRedisCache redisCache;
+
+    @BeforeEach
+    void setUp() {
+        redisCache = new ProductRedisCache(redisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new ProductCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("값이 없으면 묘비의 무효화 세대를 함께 반환한다")
+        void get_Tombstone_ReturnsMissWithGeneration() {
+            // given
+            given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(KEY, List.of("value", "gen"))).willReturn(Arrays.asList(null, "2"));
+
+            // when
+            ProductRedisCache.Lookup lookup = redisCache.get(1L);
+
+            // then
+            assertThat(lookup.isHit()).isFalse();
+            assertThat(lookup.isStorable()).isTrue();
+            assertThat(lookup.generation()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 세대를 알 수 없어 저장하지 않도록 표시한다")
+        void get_RedisDown_NotStorable() {
+            // given
+            given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(any(), any())).willThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            ProductRedisCache.Lookup lookup = redisCache.get(1L);
+
+            // then
+            assertThat(lookup.isHit()).isFalse();
+            assertThat(lookup.isStorable()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("저장과 무효화")
+    class PutAndInvalidate {
+
+        @Test
+        @DisplayName("저장 스크립트에 조회 시점의 무효화 세대를 넘긴다")
+        @SuppressWarnings("unchecked")
+        void put_PassesGenerationToScript() {
+            // given
+            ProductResponse product = ProductResponse.builder().id(1L).name("상품 1").build();
+
+            // when
+            redisCache.put(product, 2L);
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+                    eq("0"), anyString(), eq("600000"), eq("2"));
+        }
+
+        @Test
+        @DisplayName("무효화는 키를 삭제하지 않고 묘비 스크립트로 세대를 올린다")
+        @SuppressWarnings("unchecked")
+        void invalidate_WritesTombstoneInsteadOfDelete() {
+            // when
+            redisCache.invalidate(List.of(1L));
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("600000"));
+            verify(redisTemplate, never()).delete(anyCollection());
+            verify(redisTemplate).convertAndSend("product:cache:invalidate", "1");
+        }
+    }
+}
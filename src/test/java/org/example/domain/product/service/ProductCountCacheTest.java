@@ -0,0 +1,87 @@
+package org.example.domain.product.service;
+
+import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCountCache 단위 테스트")
+class ProductCountCacheTest {
+
+    private static final List<ProductStatus> LISTED = List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private ProductListingProperties properties;
+    private ProductCountCache countCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ProductListingProperties();
+        properties.setCountRefreshMs(60_000);
+        countCache = new ProductCountCache(productRepository, properties, now::get);
+    }
+
+    @Test
+    @DisplayName("갱신 주기 안에서는 상태 순서와 관계없이 캐시된 값을 사용")
+    void count_WithinRefreshInterval_UsesCachedValue() {
+        // given
+        given(productRepository.countByStatusIn(any())).willReturn(10L, 20L);
+
+        // when
+        long first = countCache.count(LISTED);
+        now.addAndGet(59_999);
+        long second = countCache.count(List.of(ProductStatus.SOLD_OUT, ProductStatus.SELLING));
+
+        // then
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        verify(productRepository, times(1)).countByStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지나면 다시 COUNT")
+    void count_AfterRefreshInterval_Reloads() {
+        // given
+        given(productRepository.countByStatusIn(any())).willReturn(10L, 20L);
+
+        // when
+        countCache.count(LISTED);
+        now.addAndGet(60_000);
+        long refreshed = countCache.count(LISTED);
+        long cached = countCache.count(LISTED);
+
+        // then
+        assertThat(refreshed).isEqualTo(20L);
+        assertThat(cached).isEqualTo(20L);
+        verify(productRepository, times(2)).countByStatusIn(any());
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 0이면 매번 COUNT")
+    void count_RefreshDisabled_AlwaysCounts() {
+        // given
+        properties.setCountRefreshMs(0);
+        given(productRepository.countByStatusIn(any())).willReturn(10L, 20L);
+
+        // when & then
+        assertThat(countCache.count(LISTED)).isEqualTo(10L);
+        assertThat(countCache.count(LISTED)).isEqualTo(20L);
+    }
+}
@@ -1,31 +1,45 @@
 package org.example.domain.product.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.product.cache.ProductCacheProperties;
+import org.example.domain.product.cache.ProductDetailCache;
 import org.example.domain.product.dto.response.ProductResponse;
 import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.event.ProductChangedEvent;
 import org.example.domain.product.repository.ProductRepository;
+import org.example.global.common.KeysetCursor;
 import org.example.global.common.PagingResponse;
+import org.example.global.bulkhead.DbBulkheadAspect;
+import org.example.global.bulkhead.DbBulkheadProperties;
 import org.example.global.exception.BusinessException;
 import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.data.domain.*;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,9 +49,20 @@ class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private ProductCountCache productCountCache;
+
+    @Spy
+    private ProductDetailCache productDetailCache = new ProductDetailCache(new ProductCacheProperties(), new SimpleMeterRegistry());
+
     private ProductServiceImpl productService;
 
+    @BeforeEach
+    void setUp() {
+        productService = new ProductServiceImpl(productRepository, productCountCache, productDetailCache,
+                new ProductDetailLoader(productRepository));
+    }
+
     @Nested
     @DisplayName("getProduct 메서드")
     class GetProductTest {
@@ -65,6 +90,25 @@ class ProductServiceImplTest {
             verify(productRepository).findById(productId);
         }
 
+        @Test
+        @DisplayName("두 번째 조회부터 캐시 사용, 상품 변경 이벤트 후 다시 조회")
+        void getProduct_CachedUntilChanged() {
+            // given
+            Long productId = 1L;
+            Product product = createProduct(productId, "테스트 상품", 10000L, 100, ProductStatus.SELLING, 1L);
+
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+
+            // when
+            productService.getProduct(productId);
+            productService.getProduct(productId);
+            productDetailCache.onProductChanged(ProductChangedEvent.of(productId));
+            productService.getProduct(productId);
+
+            // then
+            verify(productRepository, times(2)).findById(productId);
+        }
+
         @Test
         @DisplayName("존재하지 않는 상품 조회 시 PRODUCT_NOT_FOUND 예외")
         void getProduct_NotFound_ThrowsException() {
@@ -83,6 +127,46 @@ class ProductServiceImplTest {
 
             verify(productRepository).findById(productId);
         }
+
+        @Test
+        @DisplayName("캐시 미스 조회만 DB bulkhead 허용을 받고, 캐시 적중은 포화 중에도 반환")
+        void getProduct_OnlyCacheMissUsesBulkhead() throws Exception {
+            // given
+            DbBulkheadProperties bulkheadProperties = new DbBulkheadProperties();
+            bulkheadProperties.setEnabled(true);
+            bulkheadProperties.setMaxConcurrent(1);
+            bulkheadProperties.setMaxWaitMs(10);
+            AspectJProxyFactory factory = new AspectJProxyFactory(new ProductDetailLoader(productRepository));
+            factory.addAspect(new DbBulkheadAspect(bulkheadProperties, null, new SimpleMeterRegistry()));
+            productService = new ProductServiceImpl(productRepository, productCountCache, productDetailCache,
+                    factory.getProxy());
+
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(productRepository.findById(1L)).willReturn(Optional.of(
+                    createProduct(1L, "캐시 상품", 10000L, 100, ProductStatus.SELLING, 1L)));
+            given(productRepository.findById(2L)).willAnswer(invocation -> {
+                entered.countDown();
+                release.await();
+                return Optional.of(createProduct(2L, "느린 상품", 10000L, 100, ProductStatus.SELLING, 1L));
+            });
+            productService.getProduct(1L);
+            CompletableFuture<ProductResponse> holder = CompletableFuture.supplyAsync(() -> productService.getProduct(2L));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            try {
+                // when & then
+                assertThat(productService.getProduct(1L).getName()).isEqualTo("캐시 상품");
+                assertThatThrownBy(() -> productService.getProduct(3L))
+                        .isInstanceOf(BusinessException.class)
+                        .extracting(e -> ((BusinessException) e).getErrorCode())
+                        .isEqualTo(ErrorCode.DB_BULKHEAD_FULL);
+                verify(productRepository, never()).findById(3L);
+            } finally {
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+            }
+        }
     }
 
     @Nested
@@ -100,12 +184,12 @@ class ProductServiceImplTest {
             Product soldOutProduct = createProduct(2L, "품절 상품", 20000L, 0, ProductStatus.SOLD_OUT, 1L);
 
             List<Product> products = List.of(sellingProduct, soldOutProduct);
-            Page<Product> productPage = new PageImpl<>(products, PageRequest.of(page, size), 2);
+            Slice<Product> productSlice = new SliceImpl<>(products, PageRequest.of(page, size), false);
 
             given(productRepository.findByStatusIn(
                     eq(List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT)),
                     any(Pageable.class)
-            )).willReturn(productPage);
+            )).willReturn(productSlice);
 
             // when
             PagingResponse<ProductResponse> response = productService.getProducts(page, size);
@@ -134,9 +218,10 @@ class ProductServiceImplTest {
                     createProduct(1L, "상품1", 10000L, 100, ProductStatus.SELLING, 1L),
                     createProduct(2L, "상품2", 20000L, 50, ProductStatus.SELLING, 1L)
             );
-            Page<Product> productPage = new PageImpl<>(products, PageRequest.of(page, size), totalElements);
+            Slice<Product> productSlice = new SliceImpl<>(products, PageRequest.of(page, size), true);
 
-            given(productRepository.findByStatusIn(any(), any(Pageable.class))).willReturn(productPage);
+            given(productRepository.findByStatusIn(any(), any(Pageable.class))).willReturn(productSlice);
+            given(productCountCache.count(List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT))).willReturn(totalElements);
 
             // when
             PagingResponse<ProductResponse> response = productService.getProducts(page, size);
@@ -154,9 +239,9 @@ class ProductServiceImplTest {
             int page = 0;
             int size = 10;
 
-            Page<Product> emptyPage = new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
+            Slice<Product> emptySlice = new SliceImpl<>(List.of(), PageRequest.of(page, size), false);
 
-            given(productRepository.findByStatusIn(any(), any(Pageable.class))).willReturn(emptyPage);
+            given(productRepository.findByStatusIn(any(), any(Pageable.class))).willReturn(emptySlice);
 
             // when
             PagingResponse<ProductResponse> response = productService.getProducts(page, size);
@@ -168,6 +253,55 @@ class ProductServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("getProductsByCursor 메서드")
+    class GetProductsByCursorTest {
+
+        @Test
+        @DisplayName("한 건 더 조회되면 마지막 상품 위치를 다음 커서로 반환")
+        void getProductsByCursor_HasNext() {
+            // given
+            Product newer = createProduct(3L, "상품3", 10000L, 100, ProductStatus.SELLING, 1L);
+            Product older = createProduct(2L, "상품2", 10000L, 0, ProductStatus.SOLD_OUT, 1L);
+            Product oldest = createProduct(1L, "상품1", 10000L, 100, ProductStatus.SELLING, 1L);
+
+            given(productRepository.findByStatusInBefore(
+                    eq(List.of(ProductStatus.SELLING, ProductStatus.SOLD_OUT)),
+                    any(LocalDateTime.class), eq(Long.MAX_VALUE), any(Pageable.class)
+            )).willReturn(List.of(newer, older, oldest));
+
+            // when
+            PagingResponse<ProductResponse> response = productService.getProductsByCursor(null, 2);
+
+            // then
+            assertThat(response.paging()).isNull();
+            assertThat(response.content()).extracting(ProductResponse::getId).containsExactly(3L, 2L);
+            assertThat(response.cursor().hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(response.cursor().nextCursor()))
+                    .isEqualTo(new KeysetCursor(older.getCreatedAt(), 2L));
+        }
+
+        @Test
+        @DisplayName("커서 위치 이후부터 조회하고 마지막 페이지면 다음 커서 없음")
+        void getProductsByCursor_LastPage() {
+            // given
+            KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 2L);
+            Product product = createProduct(1L, "상품1", 10000L, 100, ProductStatus.SELLING, 1L);
+
+            given(productRepository.findByStatusInBefore(any(), eq(cursor.createdAt()), eq(2L), any(Pageable.class)))
+                    .willReturn(List.of(product));
+
+            // when
+            PagingResponse<ProductResponse> response = productService.getProductsByCursor(cursor.encode(), 2);
+
+            // then
+            assertThat(response.content()).extracting(ProductResponse::getId).containsExactly(1L);
+            assertThat(response.cursor().hasNext()).isFalse();
+            assertThat(response.cursor().nextCursor()).isNull();
+            verify(productCountCache, never()).count(any());
+        }
+    }
+
     // ========== Helper Methods ==========
 
     private Product createProduct(Long id, String name, Long price, Integer stockQuantity, ProductStatus status, Long sellerId) {
@@ -1,10 +1,12 @@
 package org.example.domain.product.service;
 
+import org.example.domain.product.cache.ProductEdgeCache;
 import org.example.domain.product.dto.request.ProductCreateRequest;
 import org.example.domain.product.dto.request.ProductUpdateRequest;
 import org.example.domain.product.dto.response.ProductResponse;
 import org.example.domain.product.entity.Product;
 import org.example.domain.product.entity.ProductStatus;
+import org.example.domain.product.event.ProductChangedEvent;
 import org.example.domain.product.repository.ProductRepository;
 import org.example.global.common.PagingResponse;
 import org.example.global.exception.BusinessException;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +43,12 @@ class SellerProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductEdgeCache productEdgeCache;
+
     @InjectMocks
     private SellerProductServiceImpl sellerProductService;
 
@@ -169,6 +178,9 @@ class SellerProductServiceImplTest {
             assertThat(response.getStockQuantity()).isEqualTo(200);
 
             verify(productRepository).findById(productId);
+            verify(eventPublisher).publishEvent(ProductChangedEvent.ofSellerChange(productId));
+            verify(productEdgeCache).purgeAfterCommit(
+                    List.of(ProductEdgeCache.productKey(productId), ProductEdgeCache.LIST_KEY));
         }
 
         @Test
@@ -253,6 +265,9 @@ class SellerProductServiceImplTest {
             // then
             verify(productRepository).findById(productId);
             verify(productRepository).delete(product);
+            verify(eventPublisher).publishEvent(ProductChangedEvent.ofSellerChange(productId));
+            verify(productEdgeCache).purgeAfterCommit(
+                    List.of(ProductEdgeCache.productKey(productId), ProductEdgeCache.LIST_KEY));
         }
 
         @Test
@@ -297,6 +312,8 @@ class SellerProductServiceImplTest {
 
             verify(productRepository).findById(productId);
             verify(productRepository, never()).delete(any(Product.class));
+            verify(eventPublisher, never()).publishEvent(any());
+            verify(productEdgeCache, never()).purgeAfterCommit(any());
         }
     }
 
@@ -0,0 +1,133 @@
+package org.example.global.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DbBulkheadAspect 단위 테스트")
+class DbBulkheadAspectTest {
+
+    private DbBulkheadProperties properties;
+    private HikariDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DbBulkheadProperties();
+        properties.setEnabled(true);
+        properties.setMaxWaitMs(10);
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("허용 수를 지정하지 않으면 커넥션 풀 최대 크기를 사용")
+    void permits_DefaultToPoolSize() {
+        // when
+        DbBulkheadAspect aspect = new DbBulkheadAspect(properties, dataSource, meterRegistry);
+
+        // then
+        assertThat(aspect.getPermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 수가 모두 사용 중이면 대기 시간 후 DB_BULKHEAD_FULL로 실패")
+    void limit_Saturated_FailsFast() throws Exception {
+        // given
+        SampleService service = proxy(new DbBulkheadAspect(properties, dataSource, meterRegistry));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> service.hold(entered, release));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // when & then
+            assertThatThrownBy(service::call)
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.DB_BULKHEAD_FULL);
+            assertThat(meterRegistry.get("db.bulkhead.rejected").tag("service", "SampleService").counter().count())
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        // 허용이 반환되면 다시 실행 가능
+        assertThat(service.call()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("같은 스레드의 중첩 호출은 허용을 다시 받지 않음")
+    void limit_NestedCall_Reentrant() {
+        // given
+        SampleService service = proxy(new DbBulkheadAspect(properties, dataSource, meterRegistry));
+
+        // when & then
+        assertThat(service.nested(service)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 제한 없이 실행")
+    void limit_Disabled_PassesThrough() throws Exception {
+        // given
+        properties.setEnabled(false);
+        SampleService service = proxy(new DbBulkheadAspect(properties, dataSource, meterRegistry));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> service.hold(entered, release));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThat(service.call()).isEqualTo("ok");
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    private SampleService proxy(DbBulkheadAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @DbBulkhead
+    static class SampleService {
+
+        public String call() {
+            return "ok";
+        }
+
+        public String nested(SampleService self) {
+            return self.call();
+        }
+
+        public void hold(CountDownLatch entered, CountDownLatch release) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
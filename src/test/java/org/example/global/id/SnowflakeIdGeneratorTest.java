@@ -0,0 +1,111 @@
+package org.example.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_SECONDS + 1_000_000;
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Nested
+    @DisplayName("nextId 메서드")
+    class NextIdTest {
+
+        @Test
+        @DisplayName("같은 초에 순번 한도를 넘기면 다음 초가 될 때까지 기다렸다가 발급한다")
+        void waitsForNextSecondBeyondSequenceLimit() {
+            // given
+            int perSecond = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+            AtomicLong calls = new AtomicLong();
+            // 순번을 모두 쓴 뒤 한 번 더 조회할 때까지는 같은 초, 그 뒤로는 다음 초
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3,
+                    () -> calls.incrementAndGet() <= perSecond + 2 ? NOW : NOW + 1);
+            Set<Long> ids = new HashSet<>();
+            long previous = -1;
+
+            // when & then
+            for (int i = 0; i < perSecond + 1; i++) {
+                long id = generator.nextId();
+                assertThat(id).isGreaterThan(previous);
+                previous = id;
+                ids.add(id);
+            }
+            assertThat(ids).hasSize(perSecond + 1);
+            assertThat(secondOf(previous)).isEqualTo(NOW + 1 - SnowflakeIdGenerator.EPOCH_SECONDS);
+            assertThat(calls.get()).isGreaterThan(perSecond + 2);
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가면 마지막 시각을 따라잡을 때까지 기다렸다가 발급한다")
+        void waitsWhenClockMovesBackwards() {
+            // given
+            AtomicLong calls = new AtomicLong();
+            // 첫 발급 후 세 번은 10초 전, 그 뒤로는 원래 시각
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> {
+                long call = calls.incrementAndGet();
+                return call >= 2 && call <= 4 ? NOW - 10 : NOW;
+            });
+            long first = generator.nextId();
+
+            // when
+            long second = generator.nextId();
+
+            // then
+            assertThat(second).isGreaterThan(first);
+            assertThat(secondOf(second)).isEqualTo(secondOf(first));
+            assertThat(calls.get()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("노드 ID가 다르면 같은 시각이어도 겹치지 않는다")
+        void differsByNode() {
+            // given
+            SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+            SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+
+            // when
+            long id1 = node1.nextId();
+            long id2 = node2.nextId();
+
+            // then
+            assertThat(id1).isNotEqualTo(id2);
+            assertThat((id1 >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(1);
+            assertThat((id2 >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("JavaScript에서 안전한 정수 범위 안의 양수를 발급한다")
+        void fitsInJavaScriptSafeInteger() {
+            // given
+            long year2150 = SnowflakeIdGenerator.EPOCH_SECONDS + 126L * 365 * 24 * 3600;
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> year2150);
+
+            // when
+            long id = generator.nextId();
+
+            // then
+            assertThat(id).isPositive().isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+        }
+    }
+
+    private long secondOf(long id) {
+        return id >> (SnowflakeIdGenerator.NODE_ID_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 ID는 거부한다")
+    void rejectsInvalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,274 @@
+package org.example.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.order.dto.response.OrderResponse;
+import org.example.domain.order.entity.OrderStatus;
+import org.example.global.exception.BusinessException;
+import org.example.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyExecutor 단위 테스트")
+class IdempotencyExecutorTest {
+
+    private static final String KEY = "idempotency:order-create:1:abc";
+    private static final String TOKEN = "owner-token";
+
+    @Mock
+    private IdempotencyStore store;
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyProperties properties;
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new IdempotencyProperties();
+        properties.setWaitTimeoutMs(200);
+        idempotencyExecutor = new IdempotencyExecutor(store, properties, objectMapper, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("멱등성 키가 없으면 저장소를 거치지 않고 실행")
+        void execute_NoKey_RunsDirectly() {
+            // when
+            OrderResponse result = idempotencyExecutor.execute("order-create", 1L, null,
+                    Map.of("productId", 1), OrderResponse.class, () -> createResponse(1L));
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            verifyNoInteractions(store);
+        }
+
+        @Test
+        @DisplayName("처음 보는 키면 실행 후 결과 저장 (miss)")
+        void execute_Miss_RunsAndSaves() {
+            // given
+            given(store.find(KEY)).willReturn(null);
+            given(store.tryLock(KEY)).willReturn(TOKEN);
+
+            // when
+            OrderResponse result = idempotencyExecutor.execute("order-create", 1L, "abc",
+                    Map.of("productId", 1), OrderResponse.class, () -> createResponse(1L));
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            verify(store).save(eq(KEY), any(IdempotencyRecord.class));
+            verify(store).unlock(KEY, TOKEN);
+            assertThat(count("miss")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("저장된 결과가 있으면 실행하지 않고 저장된 응답 반환 (hit)")
+        void execute_Hit_ReplaysWithoutAction() {
+            // given
+            Map<String, Integer> request = Map.of("productId", 1);
+            IdempotencyRecord stored = recordOf(request, createResponse(7L));
+            given(store.find(KEY)).willReturn(stored);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            OrderResponse result = idempotencyExecutor.execute("order-create", 1L, "abc",
+                    request, OrderResponse.class, () -> {
+                        calls.incrementAndGet();
+                        return createResponse(8L);
+                    });
+
+            // then
+            assertThat(result.getId()).isEqualTo(7L);
+            assertThat(result.getOrderItems()).isEmpty();
+            assertThat(calls.get()).isZero();
+            verify(store, never()).tryLock(anyString());
+            assertThat(count("hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("같은 키로 다른 요청을 보내면 IDEMPOTENCY_KEY_REUSED 예외")
+        void execute_DifferentRequest_ThrowsReused() {
+            // given
+            IdempotencyRecord stored = recordOf(Map.of("productId", 1), createResponse(7L));
+            given(store.find(KEY)).willReturn(stored);
+
+            // when & then
+            assertThatThrownBy(() -> idempotencyExecutor.execute("order-create", 1L, "abc",
+                    Map.of("productId", 2), OrderResponse.class, () -> createResponse(8L)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                    });
+        }
+
+        @Test
+        @DisplayName("락을 잡는 사이 다른 요청이 처리를 마쳤으면 실행하지 않고 저장된 결과 반환 (hit)")
+        void execute_CompletedBeforeLock_ReplaysStoredResult() {
+            // given
+            Map<String, Integer> request = Map.of("productId", 1);
+            IdempotencyRecord stored = recordOf(request, createResponse(1L));
+            given(store.find(KEY)).willReturn(null, stored);
+            given(store.tryLock(KEY)).willReturn(TOKEN);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            OrderResponse result = idempotencyExecutor.execute("order-create", 1L, "abc", request,
+                    OrderResponse.class, () -> {
+                        calls.incrementAndGet();
+                        return createResponse(2L);
+                    });
+
+            // then
+            assertThat(result.getId()).isEqualTo(1L);
+            assertThat(calls.get()).isZero();
+            assertThat(count("hit")).isEqualTo(1.0);
+            verify(store, never()).save(anyString(), any());
+            verify(store).unlock(KEY, TOKEN);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 처리 중이고 결과가 나오지 않으면 IDEMPOTENCY_REQUEST_IN_PROGRESS 예외")
+        void execute_LockedElsewhere_ThrowsInProgress() {
+            // given
+            given(store.find(KEY)).willReturn(null);
+            given(store.tryLock(KEY)).willReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> idempotencyExecutor.execute("order-create", 1L, "abc",
+                    Map.of("productId", 1), OrderResponse.class, () -> createResponse(1L)))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(exception -> {
+                        BusinessException be = (BusinessException) exception;
+                        assertThat(be.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                    });
+            assertThat(count("collision")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("같은 인스턴스에서 동시에 들어온 중복 요청은 처리 중인 결과를 함께 받음")
+        void execute_ConcurrentDuplicate_SharesInFlightResult() throws Exception {
+            // given
+            properties.setWaitTimeoutMs(5000);
+            given(store.find(KEY)).willReturn(null);
+            given(store.tryLock(KEY)).willReturn(TOKEN);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            Map<String, Integer> request = Map.of("productId", 1);
+
+            CompletableFuture<OrderResponse> first = CompletableFuture.supplyAsync(() ->
+                    idempotencyExecutor.execute("order-create", 1L, "abc", request, OrderResponse.class, () -> {
+                        calls.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return createResponse(1L);
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            AtomicReference<OrderResponse> duplicate = new AtomicReference<>();
+            CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+                    duplicate.set(idempotencyExecutor.execute("order-create", 1L, "abc", request,
+                            OrderResponse.class, () -> {
+                                calls.incrementAndGet();
+                                return createResponse(2L);
+                            })));
+            Thread.sleep(100);
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(duplicate.get().getId()).isEqualTo(1L);
+            assertThat(count("collision")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("처리에 실패하면 결과를 저장하지 않아 같은 키로 다시 시도 가능")
+        void execute_ActionFails_DoesNotSave() {
+            // given
+            given(store.find(KEY)).willReturn(null);
+            given(store.tryLock(KEY)).willReturn(TOKEN);
+
+            // when & then
+            assertThatThrownBy(() -> idempotencyExecutor.execute("order-create", 1L, "abc",
+                    Map.of("productId", 1), OrderResponse.class, () -> {
+                        throw new BusinessException(ErrorCode.INSUFFICIENT_STOCK);
+                    }))
+                    .isInstanceOf(BusinessException.class);
+
+            verify(store, never()).save(anyString(), any());
+            verify(store).unlock(KEY, TOKEN);
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private double count(String result) {
+        return meterRegistry.counter("idempotency.requests", "operation", "order-create", "result", result).count();
+    }
+
+    private IdempotencyRecord recordOf(Object request, OrderResponse response) {
+        // 실행기와 같은 방식으로 첫 요청을 저장해 둔다
+        IdempotencyStore recordingStore = mock(IdempotencyStore.class);
+        given(recordingStore.tryLock(anyString())).willReturn(TOKEN);
+        AtomicReference<IdempotencyRecord> saved = new AtomicReference<>();
+        doAnswer(invocation -> {
+            saved.set(invocation.getArgument(1));
+            return null;
+        }).when(recordingStore).save(anyString(), any());
+        new IdempotencyExecutor(recordingStore, properties, objectMapper, new SimpleMeterRegistry())
+                .execute("order-create", 1L, "abc", request, OrderResponse.class, () -> response);
+        return saved.get();
+    }
+
+    private OrderResponse createResponse(Long id) {
+        return OrderResponse.builder()
+                .id(id)
+                .buyerId(1L)
+                .status(OrderStatus.PENDING)
+                .totalPrice(10000L)
+                .orderItems(List.of())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore 단위 테스트")
+class IdempotencyStoreTest {
+
+    private static final String KEY = "idempotency:order-create:1:abc";
+    private static final String LOCK_KEY = KEY + ":lock";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(redisTemplate, new ObjectMapper(), new IdempotencyProperties());
+    }
+
+    @Nested
+    @DisplayName("처리 중 표시")
+    class LockTest {
+
+        @Test
+        @DisplayName("획득하면 저장한 소유자 토큰을 반환한다")
+        void tryLock_Acquired_ReturnsStoredToken() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+            // when
+            String token = store.tryLock(KEY);
+
+            // then
+            assertThat(token).isNotBlank();
+            verify(valueOperations).setIfAbsent(eq(LOCK_KEY), eq(token), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("다른 요청이 처리 중이면 null을 반환한다")
+        void tryLock_Held_ReturnsNull() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+
+            // when & then
+            assertThat(store.tryLock(KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시에도 토큰을 반환해 요청을 막지 않는다")
+        void tryLock_RedisDown_ReturnsToken() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+                    .willThrow(new RedisConnectionFailureException("down"));
+
+            // when & then
+            assertThat(store.tryLock(KEY)).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("해제는 소유자 토큰과 함께 비교 후 삭제 스크립트로 처리한다")
+        @SuppressWarnings("unchecked")
+        void unlock_RunsCompareAndDeleteWithToken() {
+            // when
+            store.unlock(KEY, "owner-token");
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq("owner-token"));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.global.trace;
+
+import org.example.domain.order.dto.request.OrderCreateRequest;
+import org.example.domain.order.repository.OrderRepository;
+import org.example.domain.order.service.OrderService;
+import org.example.domain.product.entity.Product;
+import org.example.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("요청 단계 추적 통합 테스트")
+class PhaseTraceIntegrationTest {
+
+    @Autowired
+    private PhaseTracer phaseTracer;
+
+    @Autowired
+    private InMemorySpanExporter inMemorySpanExporter;
+
+    @Autowired
+    private PhasesEndpoint phasesEndpoint;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 생성 요청을 재고 락, Repository 호출, 커밋 단계로 나누어 기록한다")
+    void 주문_생성_단계_기록() {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .name("추적 상품")
+                .price(10000L)
+                .stockQuantity(10)
+                .sellerId(1L)
+                .build());
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productId(product.getId())
+                .quantity(1)
+                .build();
+
+        // when
+        phaseTracer.begin("POST /api/v1/orders");
+        try {
+            orderService.createOrder(request, 1L);
+        } finally {
+            phaseTracer.end();
+        }
+
+        // then
+        RequestTrace trace = inMemorySpanExporter.getRecentTraces().get(0);
+        assertThat(trace.getName()).isEqualTo("POST /api/v1/orders");
+        assertThat(trace.getSpans())
+                .extracting(Span::phase)
+                .containsSubsequence(
+                        "repository.ProductRepository.findByIdWithLock",
+                        "order.stock",
+                        "repository.OrderRepository.save",
+                        "order.commit");
+        Span stock = findSpan(trace, "order.stock");
+        Span lock = findSpan(trace, "repository.ProductRepository.findByIdWithLock");
+        assertThat(lock.depth()).isGreaterThan(stock.depth());
+        assertThat(trace.getDurationMs()).isGreaterThanOrEqualTo(stock.durationMs());
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> phases = (List<Map<String, Object>>) phasesEndpoint.phases().get("phases");
+        assertThat(phases)
+                .filteredOn(phase -> "order.commit".equals(phase.get("phase")))
+                .singleElement()
+                .satisfies(phase -> assertThat(phase).containsKeys("count", "p50Ms", "p95Ms", "p99Ms"));
+    }
+
+    private Span findSpan(RequestTrace trace, String phase) {
+        return trace.getSpans().stream()
+                .filter(span -> span.phase().equals(phase))
+                .findFirst()
+                .orElseThrow();
+    }
+}